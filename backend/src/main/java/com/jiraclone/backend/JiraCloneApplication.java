@@ -10,6 +10,5 @@ public class JiraCloneApplication {
 
     public static void main(String[] args) {
         SpringApplication.run(JiraCloneApplication.class, args);
-        System.out.println("Application is running...");
     }
 }
\ No newline at end of file
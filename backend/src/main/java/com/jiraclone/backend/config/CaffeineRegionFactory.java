@@ -0,0 +1,126 @@
+package com.jiraclone.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Hibernate second-level cache backed by in-process Caffeine caches, one per region. Size and
+ * time-to-live come from {@code settings} by region name. Every region records hit and miss
+ * statistics under the cache name {@code l2.<region>}.
+ * <p>
+ * The update-timestamps region is never bounded or expired: losing an entry there would let
+ * the query cache return results older than the last write to a table.
+ */
+public class CaffeineRegionFactory extends RegionFactoryTemplate {
+
+    static final String METRICS_PREFIX = "l2.";
+
+    private final Function<String, RegionSettings> settings;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Cache<Object, Object>> caches = new ConcurrentHashMap<>();
+
+    public CaffeineRegionFactory(Function<String, RegionSettings> settings, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public record RegionSettings(long maxSize, Duration ttl) {
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions options, Map<String, Object> configValues) {
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        caches.values().forEach(Cache::invalidateAll);
+        caches.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return new CaffeineStorageAccess(bounded(regionConfig.getRegionName()));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                  SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(bounded(regionName));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(monitored(regionName, Caffeine.newBuilder()));
+    }
+
+    private Cache<Object, Object> bounded(String regionName) {
+        RegionSettings region = settings.apply(regionName);
+        return monitored(regionName, Caffeine.newBuilder()
+                .maximumSize(region.maxSize())
+                .expireAfterWrite(region.ttl()));
+    }
+
+    private Cache<Object, Object> monitored(String regionName, Caffeine<Object, Object> builder) {
+        return caches.computeIfAbsent(regionName, name -> {
+            Cache<Object, Object> cache = builder.recordStats().build();
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, METRICS_PREFIX + name);
+            return cache;
+        });
+    }
+
+    private static final class CaffeineStorageAccess implements DomainDataStorageAccess {
+
+        private final Cache<Object, Object> cache;
+
+        private CaffeineStorageAccess(Cache<Object, Object> cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            return cache.getIfPresent(key);
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            cache.put(key, value);
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return cache.asMap().containsKey(key);
+        }
+
+        @Override
+        public void evictData() {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public void evictData(Object key) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void release() {
+            cache.invalidateAll();
+        }
+    }
+}
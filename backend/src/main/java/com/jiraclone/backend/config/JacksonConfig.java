@@ -0,0 +1,44 @@
+package com.jiraclone.backend.config;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.jiraclone.backend.dto.EpicDTO;
+import com.jiraclone.backend.dto.TaskDTO;
+import com.jiraclone.backend.dto.UserStoryDTO;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    public static final String EPICS_FILTER = "epics";
+    public static final String STORIES_FILTER = "stories";
+    public static final String TASKS_FILTER = "tasks";
+
+    /**
+     * Attaches the sparse fieldset filter ids to the DTOs through mixins, so the DTOs themselves
+     * serialize with any ObjectMapper. Responses without a {@code fields[...]} parameter get no
+     * request-specific filter and serialize in full.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsetFilters() {
+        return builder -> builder
+                .filters(new SimpleFilterProvider().setFailOnUnknownId(false))
+                .mixIn(EpicDTO.class, EpicFilter.class)
+                .mixIn(UserStoryDTO.class, StoryFilter.class)
+                .mixIn(TaskDTO.class, TaskFilter.class);
+    }
+
+    @JsonFilter(EPICS_FILTER)
+    abstract static class EpicFilter {
+    }
+
+    @JsonFilter(STORIES_FILTER)
+    abstract static class StoryFilter {
+    }
+
+    @JsonFilter(TASKS_FILTER)
+    abstract static class TaskFilter {
+    }
+}
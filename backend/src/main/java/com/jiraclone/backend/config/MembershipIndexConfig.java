@@ -0,0 +1,31 @@
+package com.jiraclone.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Threads for the project membership index's background loads. The loads are blocking JDBC
+ * reads, so they get a small pool of their own instead of the JVM-wide common pool, where they
+ * would queue behind (and hold up) parallel streams and other async work. The queue is bounded;
+ * a load that does not fit is rejected and the check is answered by its EXISTS probe.
+ */
+@Configuration
+public class MembershipIndexConfig {
+
+    public static final String LOAD_EXECUTOR = "membershipLoadExecutor";
+
+    @Bean(name = LOAD_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolExecutor membershipLoadExecutor(
+            @Value("${membership-index.load-threads:2}") int threads,
+            @Value("${membership-index.load-queue-capacity:500}") int queueCapacity) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("membership-load-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,102 @@
+package com.jiraclone.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * HTTP client for the report LLM integration. One pooled, keep-alive client is shared by all
+ * report generations so calls skip TCP/TLS setup, and every phase has a timeout so a stuck
+ * upstream fails the call instead of pinning a worker forever.
+ */
+@Configuration
+public class ReportClientConfig {
+
+    static final String TIMER_NAME = "report.upstream.requests";
+
+    @Bean
+    public CloseableHttpClient reportHttpClient(
+            @Value("${report-client.connect-timeout:5000}") long connectTimeoutMillis,
+            @Value("${report-client.read-timeout:60000}") long readTimeoutMillis,
+            @Value("${report-client.connection-request-timeout:5000}") long connectionRequestTimeoutMillis,
+            @Value("${report-client.max-connections:20}") int maxConnections,
+            @Value("${report-client.max-connections-per-route:10}") int maxConnectionsPerRoute,
+            @Value("${report-client.idle-eviction:30000}") long idleEvictionMillis) {
+        HttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // How long to wait for a free pooled connection
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictionMillis))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate reportRestTemplate(CloseableHttpClient reportHttpClient, MeterRegistry meterRegistry) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(reportHttpClient));
+        restTemplate.getInterceptors().add(timingInterceptor(meterRegistry));
+        return restTemplate;
+    }
+
+    /**
+     * Client for streamed completions. The JDK client hands the response body to a subscriber
+     * as bytes arrive, so a long stream of tokens holds no thread while it waits between them.
+     */
+    @Bean
+    public HttpClient reportStreamingClient(@Value("${report-client.connect-timeout:5000}") long connectTimeoutMillis) {
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .build();
+    }
+
+    /**
+     * Records {@code report.upstream.requests} per call, tagged with the status class
+     * ({@code 2xx}, {@code 5xx}, ...) or {@code IO_ERROR} for timeouts and connection failures.
+     */
+    static ClientHttpRequestInterceptor timingInterceptor(MeterRegistry meterRegistry) {
+        return (request, body, execution) -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "IO_ERROR";
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                outcome = (response.getStatusCode().value() / 100) + "xx";
+                return response;
+            } finally {
+                sample.stop(Timer.builder(TIMER_NAME)
+                        .description("Latency of calls to the report LLM API")
+                        .tag("host", String.valueOf(request.getURI().getHost()))
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+            }
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.jiraclone.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SchemaMigrationConfig {
+
+    @Bean(initMethod = "migrate")
+    public SchemaMigrator schemaMigrator(DataSource dataSource,
+                                         @Value("${schema-migration.location:classpath:db/migration}") String location,
+                                         @Value("${schema-migration.baseline-version:1}") int baselineVersion) {
+        return new SchemaMigrator(dataSource, location, baselineVersion);
+    }
+
+    /**
+     * Makes JPA start only after the migrations ran, so ddl-auto=validate checks the migrated schema.
+     */
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor entityManagerFactoryDependsOnSchemaMigrator() {
+        return new EntityManagerFactoryDependsOnPostProcessor(SchemaMigrator.class) {
+        };
+    }
+}
@@ -0,0 +1,202 @@
+package com.jiraclone.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Owns the database schema. Applies the SQL scripts in {@code location}, named
+ * {@code V<version>__<description>.sql} as Flyway does, in version order, and records each in
+ * {@value #HISTORY_TABLE} with a checksum. A script that changed after it was applied, or an
+ * applied version whose script is gone, stops startup. A database that already has tables but
+ * no history (created by ddl-auto before migrations existed) is baselined: scripts up to
+ * {@code baselineVersion} are recorded as applied without running them.
+ * Migrations run once at startup from a single instance; there is no cross-instance lock.
+ */
+@Slf4j
+public class SchemaMigrator {
+
+    static final String HISTORY_TABLE = "schema_history";
+
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final String location;
+    private final int baselineVersion;
+
+    public SchemaMigrator(DataSource dataSource, String location, int baselineVersion) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.location = location;
+        this.baselineVersion = baselineVersion;
+    }
+
+    public void migrate() {
+        List<Migration> migrations = load();
+        if (!tableExists(HISTORY_TABLE)) {
+            boolean existingSchema = hasTables();
+            createHistoryTable();
+            if (existingSchema) {
+                baseline(migrations);
+            }
+        }
+
+        Map<Integer, Long> applied = new TreeMap<>();
+        jdbcTemplate.query("select version, checksum from " + HISTORY_TABLE,
+                (ResultSet rs) -> { applied.put(rs.getInt("version"), rs.getLong("checksum")); });
+        verify(migrations, applied);
+
+        int pending = 0;
+        for (Migration migration : migrations) {
+            if (!applied.containsKey(migration.version())) {
+                apply(migration);
+                pending++;
+            }
+        }
+        log.info("Schema is at version {} ({} migration(s) applied now)",
+                migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).version(), pending);
+    }
+
+    private void verify(List<Migration> migrations, Map<Integer, Long> applied) {
+        Map<Integer, Migration> byVersion = new TreeMap<>();
+        migrations.forEach(migration -> byVersion.put(migration.version(), migration));
+        applied.forEach((version, checksum) -> {
+            Migration migration = byVersion.get(version);
+            if (migration == null) {
+                throw new IllegalStateException("Migration V" + version + " was applied but its script is missing");
+            }
+            if (migration.checksum() != checksum) {
+                throw new IllegalStateException("Migration " + migration.resource().getFilename()
+                        + " was changed after it was applied");
+            }
+        });
+    }
+
+    private void baseline(List<Migration> migrations) {
+        for (Migration migration : migrations) {
+            if (migration.version() <= baselineVersion) {
+                record(migration, "BASELINE", 0);
+            }
+        }
+        log.info("Existing schema baselined at version {}", baselineVersion);
+    }
+
+    private void apply(Migration migration) {
+        log.info("Applying migration {}", migration.resource().getFilename());
+        long start = System.nanoTime();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            ScriptUtils.executeSqlScript(connection, new EncodedResource(migration.resource(), StandardCharsets.UTF_8));
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+        record(migration, "SQL", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void record(Migration migration, String type, long executionMillis) {
+        jdbcTemplate.update("insert into " + HISTORY_TABLE
+                        + " (version, description, type, checksum, installed_on, execution_ms) values (?, ?, ?, ?, ?, ?)",
+                migration.version(), migration.description(), type, migration.checksum(),
+                Timestamp.from(Instant.now()), executionMillis);
+    }
+
+    private void createHistoryTable() {
+        jdbcTemplate.execute("create table " + HISTORY_TABLE + " ("
+                + "version integer not null primary key, "
+                + "description varchar(200) not null, "
+                + "type varchar(20) not null, "
+                + "checksum bigint not null, "
+                + "installed_on timestamp not null, "
+                + "execution_ms bigint not null)");
+    }
+
+    private boolean tableExists(String table) {
+        return withMetaData(metaData -> {
+            String name = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+            try (ResultSet tables = metaData.getTables(metaData.getConnection().getCatalog(),
+                    metaData.getConnection().getSchema(), name, new String[]{"TABLE"})) {
+                return tables.next();
+            }
+        });
+    }
+
+    private boolean hasTables() {
+        return withMetaData(metaData -> {
+            try (ResultSet tables = metaData.getTables(metaData.getConnection().getCatalog(),
+                    metaData.getConnection().getSchema(), "%", new String[]{"TABLE"})) {
+                return tables.next();
+            }
+        });
+    }
+
+    private boolean withMetaData(MetaDataCallback callback) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return callback.apply(connection.getMetaData());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not read database metadata", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private List<Migration> load() {
+        try {
+            List<Migration> migrations = new ArrayList<>();
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(location + "/*.sql")) {
+                Matcher matcher = FILE_NAME.matcher(resource.getFilename());
+                if (!matcher.matches()) {
+                    throw new IllegalStateException("Migration file name not in V<version>__<description>.sql form: "
+                            + resource.getFilename());
+                }
+                migrations.add(new Migration(Integer.parseInt(matcher.group(1)),
+                        matcher.group(2).replace('_', ' '), checksum(resource), resource));
+            }
+            migrations.sort(Comparator.comparingInt(Migration::version));
+            return migrations;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read migrations from " + location, e);
+        }
+    }
+
+    private static long checksum(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            CRC32 crc = new CRC32();
+            crc.update(in.readAllBytes());
+            return crc.getValue();
+        }
+    }
+
+    private interface MetaDataCallback {
+        boolean apply(DatabaseMetaData metaData) throws SQLException;
+    }
+
+    private record Migration(int version, String description, long checksum, Resource resource) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.jiraclone.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Turns on Hibernate's second-level and query caches for the entities and collections annotated
+ * with {@code @Cache}. Each region is sized by {@code l2-cache.regions.<region>.max-size} and
+ * {@code .ttl} (milliseconds), falling back to {@code l2-cache.default.*}.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final String PREFIX = "l2-cache.";
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(Environment environment,
+                                                                    MeterRegistry meterRegistry) {
+        CaffeineRegionFactory regionFactory = new CaffeineRegionFactory(
+                region -> settings(environment, region), meterRegistry);
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, regionFactory);
+        };
+    }
+
+    private static CaffeineRegionFactory.RegionSettings settings(Environment environment, String region) {
+        long maxSize = environment.getProperty(PREFIX + "regions." + region + ".max-size", Long.class,
+                environment.getProperty(PREFIX + "default.max-size", Long.class, 10_000L));
+        long ttl = environment.getProperty(PREFIX + "regions." + region + ".ttl", Long.class,
+                environment.getProperty(PREFIX + "default.ttl", Long.class, 600_000L));
+        return new CaffeineRegionFactory.RegionSettings(maxSize, Duration.ofMillis(ttl));
+    }
+}
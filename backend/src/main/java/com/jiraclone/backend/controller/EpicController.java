@@ -1,6 +1,7 @@
 package com.jiraclone.backend.controller;
 
 import com.jiraclone.backend.dto.EpicDTO;
+import com.jiraclone.backend.dto.Expansion;
 import com.jiraclone.backend.model.Epic;
 import com.jiraclone.backend.service.EpicService;
 import jakarta.validation.Valid;
@@ -29,14 +30,18 @@ public class EpicController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EpicDTO> getEpicById(@PathVariable Long id) {
-        EpicDTO epic = epicService.getEpicById(id);
+    public ResponseEntity<EpicDTO> getEpicById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String expand) {
+        EpicDTO epic = epicService.getEpicById(id, Expansion.parse(expand));
         return ResponseEntity.ok(epic);
     }
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<EpicDTO>> getEpicsByProject(@PathVariable Long projectId) {
-        List<EpicDTO> epics = epicService.getEpicsByProject(projectId);
+    public ResponseEntity<List<EpicDTO>> getEpicsByProject(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String expand) {
+        List<EpicDTO> epics = epicService.getEpicsByProject(projectId, Expansion.parse(expand));
         return ResponseEntity.ok(epics);
     }
 
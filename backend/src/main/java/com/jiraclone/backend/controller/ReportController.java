@@ -1,29 +1,55 @@
 package com.jiraclone.backend.controller;
 
+import com.jiraclone.backend.dto.ReportBatchRunDTO;
 import com.jiraclone.backend.dto.ReportDTO;
+import com.jiraclone.backend.dto.ReportJobDTO;
+import com.jiraclone.backend.dto.ReportSummaryDTO;
 import com.jiraclone.backend.model.Report;
+import com.jiraclone.backend.service.ReportBatchService;
+import com.jiraclone.backend.service.ReportJobService;
 import com.jiraclone.backend.service.ReportService;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/reports") 
 @RequiredArgsConstructor
+@Slf4j
 public class ReportController {
 
+    // Stays below the servlet container's default async timeout
+    static final int MAX_WAIT_SECONDS = 25;
+
+    // Upper bound on one streamed generation; the upstream call is aborted when it elapses
+    static final long STREAM_TIMEOUT_MILLIS = 180_000;
+
     private final ReportService reportService;
+    private final ReportJobService reportJobService;
+    private final ReportBatchService reportBatchService;
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<ReportDTO>> getReportsByProject(@PathVariable Long projectId) {
-        List<ReportDTO> reports = reportService.getReportsByProject(projectId);
+    public ResponseEntity<List<ReportSummaryDTO>> getReportsByProject(@PathVariable Long projectId) {
+        List<ReportSummaryDTO> reports = reportService.getReportsByProject(projectId);
         return ResponseEntity.ok(reports);
     }
 
@@ -33,54 +59,155 @@ public class ReportController {
         return ResponseEntity.ok(report);
     }
 
-    // In your generateReport method:
+    @PostMapping("/generate")
+    public ResponseEntity<ReportJobDTO> generateReport(
+            @RequestBody Map<String, Object> request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        log.debug("Report generation request received: {}", request);
 
-@PostMapping("/generate")
-public ResponseEntity<ReportDTO> generateReport(
-        @RequestBody Map<String, Object> request,
-        @AuthenticationPrincipal UserDetails userDetails) {
-    
-    try {
-        System.out.println("Report generation request received: " + request);
-        
+        if (request.get("projectId") == null) {
+            return ResponseEntity.badRequest().build();
+        }
         Long projectId = Long.valueOf(request.get("projectId").toString());
         String prompt = (String) request.get("prompt");
-        String reportType = (String) request.get("type");
-        
-        System.out.println("Project ID: " + projectId);
-        System.out.println("Prompt: " + prompt);
-        System.out.println("Report Type: " + reportType);
-        System.out.println("User: " + userDetails.getUsername());
-        
-        Report.ReportType type;
+        Report.ReportType type = parseType((String) request.get("type"));
+
         try {
-            type = Report.ReportType.valueOf(reportType);
-        } catch (IllegalArgumentException e) {
-            type = Report.ReportType.CUSTOM;
+            ReportJobDTO job = reportJobService.submit(projectId, userDetails.getUsername(), prompt, type);
+            return ResponseEntity
+                    .accepted()
+                    .location(URI.create("/reports/jobs/" + job.getJobId()))
+                    .body(job);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (RejectedExecutionException e) {
+            return serviceUnavailable();
         }
-        
-        ReportDTO generatedReport = reportService.generateReport(
-            projectId, 
-            userDetails.getUsername(), 
-            prompt, 
-            type
-        );
-        
-        System.out.println("Report generated successfully with ID: " + generatedReport.getId());
-        
-        return ResponseEntity.ok(generatedReport);
-    } catch (Exception e) {
-        e.printStackTrace();
-        System.err.println("Error generating report: " + e.getMessage());
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(null);
     }
-}
 
+    /**
+     * Streams a report as server-sent events while it is generated: {@code started} once a
+     * worker picks the report up, {@code chunk} events ({@code {"content": ...}}) as the model
+     * produces text, then {@code report} with the stored report. Unknown projects are answered
+     * with 404 before any stream is opened. No servlet thread is held while the upstream is
+     * producing tokens; a client disconnect or timeout aborts the upstream call.
+     */
+    @GetMapping(value = "/generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamReport(
+            @RequestParam Long projectId,
+            @RequestParam(required = false) String prompt,
+            @RequestParam(required = false) String type,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        Report.ReportType reportType = parseType(type);
+        ReportService.ReportStream stream;
+        try {
+            stream = reportService.prepareStream(projectId, userDetails.getUsername(), prompt, reportType);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        CompletableFuture<ReportDTO> report;
+        try {
+            report = stream.start(
+                    () -> send(emitter, SseEmitter.event().name("started")
+                            .data(Map.of("projectId", projectId, "type", reportType), MediaType.APPLICATION_JSON)),
+                    chunk -> send(emitter, SseEmitter.event().name("chunk")
+                            .data(Map.of("content", chunk), MediaType.APPLICATION_JSON)));
+        } catch (RejectedExecutionException e) {
+            return serviceUnavailable();
+        }
+
+        emitter.onTimeout(() -> report.cancel(true));
+        emitter.onError(error -> report.cancel(true));
+        report.whenComplete((saved, error) -> {
+            if (error == null) {
+                try {
+                    emitter.send(SseEmitter.event().name("report").data(saved, MediaType.APPLICATION_JSON));
+                    emitter.complete();
+                } catch (IOException e) {
+                    emitter.completeWithError(e);
+                }
+            } else if (!report.isCancelled()) {
+                emitter.completeWithError(error);
+            }
+        });
+        return ResponseEntity.ok()
+                // Keep reverse proxies from buffering the stream
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
+    /**
+     * Job status. With {@code waitSeconds} the response is held (without a servlet thread)
+     * until the job finishes or the wait elapses, so clients can long-poll.
+     */
+    @GetMapping("/jobs/{jobId}")
+    public CompletableFuture<ResponseEntity<ReportJobDTO>> getReportJob(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "0") int waitSeconds) {
+        Duration wait = Duration.ofSeconds(Math.max(0, Math.min(waitSeconds, MAX_WAIT_SECONDS)));
+        return reportJobService.awaitJob(jobId, wait)
+                .thenApply(job -> job.map(ResponseEntity::ok)
+                        .orElseGet(() -> ResponseEntity.notFound().build()))
+                .exceptionally(error -> {
+                    if (error.getCause() instanceof RejectedExecutionException) {
+                        return serviceUnavailable();
+                    }
+                    throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+                });
+    }
+
+    private static <T> ResponseEntity<T> serviceUnavailable() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build();
+    }
 
-@DeleteMapping("/{reportId}")
+    /**
+     * Starts a status report run over all active projects, as the nightly schedule does.
+     * Responds 409 while a run is already in progress.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ReportBatchRunDTO> startBatch() {
+        try {
+            ReportBatchRunDTO run = reportBatchService.start();
+            return ResponseEntity
+                    .accepted()
+                    .location(URI.create("/reports/batch"))
+                    .body(run);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    // Progress of the current or most recent batch run
+    @GetMapping("/batch")
+    public ResponseEntity<ReportBatchRunDTO> getBatch() {
+        return reportBatchService.getLatestRun()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{reportId}")
     public ResponseEntity<?> deleteReport(@PathVariable Long reportId) {
         reportService.deleteReport(reportId);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    private static Report.ReportType parseType(String reportType) {
+        try {
+            return Report.ReportType.valueOf(reportType);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Report.ReportType.CUSTOM;
+        }
+    }
+
+    private static void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
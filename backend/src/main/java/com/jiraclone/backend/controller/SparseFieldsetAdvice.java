@@ -0,0 +1,64 @@
+package com.jiraclone.backend.controller;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.jiraclone.backend.config.JacksonConfig;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Applies sparse fieldsets such as {@code ?fields[epics]=name,status&fields[tasks]=taskKey,title}
+ * to JSON responses. {@code id} is always kept; an embedded collection requested through
+ * {@code expand} must also be listed to survive the filter of its parent.
+ */
+@RestControllerAdvice
+public class SparseFieldsetAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    private static final List<String> FILTER_IDS = List.of(
+            JacksonConfig.EPICS_FILTER, JacksonConfig.STORIES_FILTER, JacksonConfig.TASKS_FILTER);
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+
+        SimpleFilterProvider filters = null;
+        for (String filterId : FILTER_IDS) {
+            String fields = servletRequest.getServletRequest().getParameter("fields[" + filterId + "]");
+            if (fields == null || fields.isBlank()) {
+                continue;
+            }
+            if (filters == null) {
+                filters = new SimpleFilterProvider().setFailOnUnknownId(false);
+            }
+            filters.addFilter(filterId, SimpleBeanPropertyFilter.filterOutAllExcept(parseFields(fields)));
+        }
+        if (filters != null) {
+            bodyContainer.setFilters(filters);
+        }
+    }
+
+    private static Set<String> parseFields(String fields) {
+        Set<String> names = new HashSet<>();
+        names.add("id");
+        for (String field : fields.split(",")) {
+            if (!field.isBlank()) {
+                names.add(field.trim());
+            }
+        }
+        return names;
+    }
+}
@@ -1,5 +1,6 @@
 package com.jiraclone.backend.controller;
 
+import com.jiraclone.backend.dto.Expansion;
 import com.jiraclone.backend.dto.SprintDTO;
 import com.jiraclone.backend.model.Sprint;
 import com.jiraclone.backend.service.SprintService;
@@ -29,14 +30,18 @@ public class SprintController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<SprintDTO> getSprintById(@PathVariable Long id) {
-        SprintDTO sprint = sprintService.getSprintById(id);
+    public ResponseEntity<SprintDTO> getSprintById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String expand) {
+        SprintDTO sprint = sprintService.getSprintById(id, Expansion.parse(expand));
         return ResponseEntity.ok(sprint);
     }
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<SprintDTO>> getSprintsByProject(@PathVariable Long projectId) {
-        List<SprintDTO> sprints = sprintService.getSprintsByProject(projectId);
+    public ResponseEntity<List<SprintDTO>> getSprintsByProject(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String expand) {
+        List<SprintDTO> sprints = sprintService.getSprintsByProject(projectId, Expansion.parse(expand));
         return ResponseEntity.ok(sprints);
     }
 
@@ -65,4 +70,4 @@ public class SprintController {
         SprintDTO updatedSprint = sprintService.completeSprint(id);
         return ResponseEntity.ok(updatedSprint);
     }
-}
\ No newline at end of file
+}
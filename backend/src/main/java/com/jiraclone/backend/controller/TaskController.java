@@ -1,9 +1,15 @@
 package com.jiraclone.backend.controller;
 
 
+import com.jiraclone.backend.dto.BulkTaskResultDTO;
+import com.jiraclone.backend.dto.BulkTaskUpdateDTO;
 import com.jiraclone.backend.dto.TaskDTO;
+import com.jiraclone.backend.dto.TaskPageDTO;
 import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.repository.TaskCursor;
+import com.jiraclone.backend.repository.TaskFilter;
 import com.jiraclone.backend.service.TaskService;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -46,12 +52,46 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/project/{projectId}/page")
+    public ResponseEntity<TaskPageDTO> getTaskPageByProject(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) Task.Status status,
+            @RequestParam(required = false) Task.Priority priority,
+            @RequestParam(required = false) Long assigneeId) {
+        if (!isValidPage(cursor, size)) {
+            return ResponseEntity.badRequest().build();
+        }
+        TaskFilter filter = filter(status, priority);
+        filter.setAssigneeId(assigneeId);
+        try {
+            return ResponseEntity.ok(taskService.getTaskPageByProject(projectId, filter, cursor, size));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @GetMapping("/assigned")
     public ResponseEntity<List<TaskDTO>> getAssignedTasks(@AuthenticationPrincipal UserDetails userDetails) {
         List<TaskDTO> tasks = taskService.getTasksByAssignee(userDetails.getUsername());
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/assigned/page")
+    public ResponseEntity<TaskPageDTO> getAssignedTaskPage(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) Task.Status status,
+            @RequestParam(required = false) Task.Priority priority) {
+        if (!isValidPage(cursor, size)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(taskService.getTaskPageByAssignee(
+                userDetails.getUsername(), filter(status, priority), cursor, size));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TaskDTO> updateTask(
             @PathVariable Long id,
@@ -110,12 +150,47 @@ public class TaskController {
         return ResponseEntity.ok(updatedTask);
     }
 
+    /**
+     * Applies one operation to up to 500 tasks in a single transaction and reports the outcome
+     * for each task. Tasks that are missing or rejected do not fail the others.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkTaskResultDTO> bulkUpdate(@RequestBody BulkTaskUpdateDTO request) {
+        try {
+            return ResponseEntity.ok(taskService.bulkUpdate(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @GetMapping("/sprint/{sprintId}")
     public ResponseEntity<List<TaskDTO>> getTasksBySprint(@PathVariable Long sprintId) {
         List<TaskDTO> tasks = taskService.getTasksBySprint(sprintId);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/sprint/{sprintId}/page")
+    public ResponseEntity<TaskPageDTO> getTaskPageBySprint(
+            @PathVariable Long sprintId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) Task.Status status,
+            @RequestParam(required = false) Task.Priority priority,
+            @RequestParam(required = false) Long assigneeId) {
+        if (!isValidPage(cursor, size)) {
+            return ResponseEntity.badRequest().build();
+        }
+        TaskFilter filter = filter(status, priority);
+        filter.setAssigneeId(assigneeId);
+        try {
+            return ResponseEntity.ok(taskService.getTaskPageBySprint(sprintId, filter, cursor, size));
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
 
 
     @DeleteMapping("/{id}")
@@ -123,4 +198,16 @@ public class TaskController {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    // Only the paging parameters are checked here, so other failures are not reported as bad requests
+    private static boolean isValidPage(String cursor, int size) {
+        return size >= 1 && TaskCursor.isValid(cursor);
+    }
+
+    private static TaskFilter filter(Task.Status status, Task.Priority priority) {
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(status);
+        filter.setPriority(priority);
+        return filter;
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.jiraclone.backend.controller;
 
+import com.jiraclone.backend.dto.Expansion;
 import com.jiraclone.backend.dto.UserStoryDTO;
 import com.jiraclone.backend.model.UserStory;
 import com.jiraclone.backend.service.UserStoryService;
@@ -30,20 +31,26 @@ public class UserStoryController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<UserStoryDTO> getUserStoryById(@PathVariable Long id) {
-        UserStoryDTO story = userStoryService.getUserStoryById(id);
+    public ResponseEntity<UserStoryDTO> getUserStoryById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String expand) {
+        UserStoryDTO story = userStoryService.getUserStoryById(id, Expansion.parse(expand));
         return ResponseEntity.ok(story);
     }
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<UserStoryDTO>> getUserStoriesByProject(@PathVariable Long projectId) {
-        List<UserStoryDTO> stories = userStoryService.getUserStoriesByProject(projectId);
+    public ResponseEntity<List<UserStoryDTO>> getUserStoriesByProject(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String expand) {
+        List<UserStoryDTO> stories = userStoryService.getUserStoriesByProject(projectId, Expansion.parse(expand));
         return ResponseEntity.ok(stories);
     }
 
     @GetMapping("/epic/{epicId}")
-    public ResponseEntity<List<UserStoryDTO>> getUserStoriesByEpic(@PathVariable Long epicId) {
-        List<UserStoryDTO> stories = userStoryService.getUserStoriesByEpic(epicId);
+    public ResponseEntity<List<UserStoryDTO>> getUserStoriesByEpic(
+            @PathVariable Long epicId,
+            @RequestParam(required = false) String expand) {
+        List<UserStoryDTO> stories = userStoryService.getUserStoriesByEpic(epicId, Expansion.parse(expand));
         return ResponseEntity.ok(stories);
     }
 
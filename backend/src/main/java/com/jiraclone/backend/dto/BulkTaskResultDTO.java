@@ -0,0 +1,31 @@
+package com.jiraclone.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResultDTO {
+    // One entry per distinct requested id, in request order
+    private List<Item> items = new ArrayList<>();
+    private int updated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long taskId;
+        private Outcome outcome;
+        // Why the task was rejected, null otherwise
+        private String error;
+    }
+
+    public enum Outcome {
+        UPDATED, UNCHANGED, NOT_FOUND, REJECTED
+    }
+}
@@ -0,0 +1,29 @@
+package com.jiraclone.backend.dto;
+
+import com.jiraclone.backend.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One operation applied to many tasks. Only the field the operation sets is read; for
+ * {@link Operation#SPRINT} a null {@code sprintId} takes the tasks out of their sprint.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskUpdateDTO {
+    private List<Long> taskIds = new ArrayList<>();
+    private Operation operation;
+    private Task.Status status;
+    private Task.Priority priority;
+    private Long assigneeId;
+    private Long sprintId;
+
+    public enum Operation {
+        STATUS, PRIORITY, ASSIGNEE, SPRINT
+    }
+}
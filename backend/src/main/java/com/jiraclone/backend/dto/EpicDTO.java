@@ -1,14 +1,13 @@
 package com.jiraclone.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.jiraclone.backend.model.Epic;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Data
 @NoArgsConstructor
@@ -21,7 +20,9 @@ public class EpicDTO {
     private Long projectId;
     private String projectName;
     private LocalDateTime createdAt;
-    private Set<UserStoryDTO> stories = new HashSet<>();
+    // Only populated with ?expand=stories
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Set<UserStoryDTO> stories;
 
     public static EpicDTO fromEntity(Epic epic) {
         EpicDTO dto = new EpicDTO();
@@ -36,12 +37,6 @@ public class EpicDTO {
             dto.setProjectName(epic.getProject().getName());
         }
         
-        if (epic.getStories() != null) {
-            dto.setStories(epic.getStories().stream()
-                .map(UserStoryDTO::fromEntity)
-                .collect(Collectors.toSet()));
-        }
-        
         return dto;
     }
 }
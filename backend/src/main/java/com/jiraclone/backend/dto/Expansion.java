@@ -0,0 +1,58 @@
+package com.jiraclone.backend.dto;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Associations a client asked to embed, parsed from a parameter such as
+ * {@code ?expand=stories,stories.tasks}. Requesting a nested path implies its parents, and
+ * {@link #nested(String)} re-roots the selection so each level only checks its own names.
+ */
+public final class Expansion {
+
+    private static final Expansion NONE = new Expansion(Collections.emptySet());
+
+    private final Set<String> paths;
+
+    private Expansion(Set<String> paths) {
+        this.paths = paths;
+    }
+
+    public static Expansion none() {
+        return NONE;
+    }
+
+    public static Expansion parse(String expand) {
+        if (expand == null || expand.isBlank()) {
+            return NONE;
+        }
+        Set<String> paths = new HashSet<>();
+        for (String raw : expand.split(",")) {
+            String path = raw.trim();
+            if (path.isEmpty()) {
+                continue;
+            }
+            for (int dot = path.indexOf('.'); dot >= 0; dot = path.indexOf('.', dot + 1)) {
+                paths.add(path.substring(0, dot));
+            }
+            paths.add(path);
+        }
+        return new Expansion(paths);
+    }
+
+    public boolean includes(String association) {
+        return paths.contains(association);
+    }
+
+    public Expansion nested(String association) {
+        String prefix = association + ".";
+        Set<String> nested = new HashSet<>();
+        for (String path : paths) {
+            if (path.startsWith(prefix)) {
+                nested.add(path.substring(prefix.length()));
+            }
+        }
+        return nested.isEmpty() ? NONE : new Expansion(nested);
+    }
+}
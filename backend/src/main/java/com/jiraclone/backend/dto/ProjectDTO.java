@@ -1,7 +1,7 @@
 package com.jiraclone.backend.dto;
 
 import com.jiraclone.backend.model.Project;
-import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.model.ProjectStatistics;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -26,6 +26,10 @@ public class ProjectDTO {
     private int completedPercentage;
 
     public static ProjectDTO fromEntity(Project project) {
+        return fromEntity(project, null);
+    }
+
+    public static ProjectDTO fromEntity(Project project, ProjectStatistics statistics) {
         ProjectDTO dto = new ProjectDTO();
         dto.setId(project.getId());
         dto.setName(project.getName());
@@ -53,18 +57,10 @@ public class ProjectDTO {
             dto.setMembers(memberDTOs);
         }
         
-        // Calculate statistics
-        if (project.getTasks() != null) {
-            dto.setTasksCount(project.getTasks().size());
-            
-            long completedTasks = project.getTasks().stream()
-                .filter(task -> task.getStatus() == Task.Status.DONE)
-                .count();
-            
-            int completedPercentage = project.getTasks().isEmpty() ? 0 : 
-                (int) ((completedTasks * 100) / project.getTasks().size());
-            
-            dto.setCompletedPercentage(completedPercentage);
+        // Statistics are materialized, so the project's tasks are never loaded here
+        if (statistics != null) {
+            dto.setTasksCount((int) statistics.getTotalTasks());
+            dto.setCompletedPercentage(statistics.getCompletedPercentage());
         }
         
         return dto;
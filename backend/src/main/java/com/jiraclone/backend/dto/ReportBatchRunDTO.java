@@ -0,0 +1,35 @@
+package com.jiraclone.backend.dto;
+
+import com.jiraclone.backend.service.ReportBatchRun;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportBatchRunDTO {
+    private String runId;
+    private ReportBatchRun.Status status;
+    private int totalProjects;
+    private int succeeded;
+    private int failed;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String error;
+
+    public static ReportBatchRunDTO fromRun(ReportBatchRun run) {
+        ReportBatchRunDTO dto = new ReportBatchRunDTO();
+        dto.setRunId(run.getId());
+        dto.setStatus(run.getStatus());
+        dto.setTotalProjects(run.getTotalProjects());
+        dto.setSucceeded(run.getSucceeded());
+        dto.setFailed(run.getFailed());
+        dto.setStartedAt(run.getStartedAt());
+        dto.setFinishedAt(run.getFinishedAt());
+        dto.setError(run.getError());
+        return dto;
+    }
+}
@@ -0,0 +1,43 @@
+package com.jiraclone.backend.dto;
+
+import com.jiraclone.backend.model.Report;
+import com.jiraclone.backend.service.ReportJob;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobDTO {
+    private String jobId;
+    private ReportJob.Status status;
+    private Long projectId;
+    private Report.ReportType type;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private Long reportId;
+    private ReportDTO report;
+    private String error;
+
+    /**
+     * @param report the job's stored report, or {@code null} if it has none (yet)
+     */
+    public static ReportJobDTO fromJob(ReportJob job, ReportDTO report) {
+        ReportJobDTO dto = new ReportJobDTO();
+        dto.setJobId(job.getId());
+        dto.setStatus(job.getStatus());
+        dto.setProjectId(job.getProjectId());
+        dto.setType(job.getType());
+        dto.setSubmittedAt(job.getSubmittedAt());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        dto.setReportId(job.getReportId());
+        dto.setReport(report);
+        dto.setError(job.getError());
+        return dto;
+    }
+}
@@ -0,0 +1,39 @@
+package com.jiraclone.backend.dto;
+
+import com.jiraclone.backend.model.Report;
+import com.jiraclone.backend.repository.ReportRepository;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * List entry for a report: everything but the body, which {@link ReportDTO} carries.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportSummaryDTO {
+    private Long id;
+    private String title;
+    private Report.ReportType type;
+    private Long authorId;
+    private String authorName;
+    private LocalDateTime createdAt;
+    // Length of the content in characters
+    private int size;
+    private String preview;
+
+    public static ReportSummaryDTO fromSummary(ReportRepository.ReportSummary summary) {
+        return new ReportSummaryDTO(
+                summary.getId(),
+                summary.getTitle(),
+                summary.getType(),
+                summary.getAuthorId(),
+                summary.getAuthorName(),
+                summary.getCreatedAt(),
+                summary.getSize() != null ? summary.getSize() : 0,
+                summary.getPreview());
+    }
+}
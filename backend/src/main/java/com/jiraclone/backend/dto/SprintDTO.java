@@ -1,5 +1,6 @@
 package com.jiraclone.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.jiraclone.backend.model.Sprint;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -7,9 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Data
 @NoArgsConstructor
@@ -24,7 +23,10 @@ public class SprintDTO {
     private Long projectId;
     private String projectName;
     private LocalDateTime createdAt;
-    private Set<TaskDTO> tasks = new HashSet<>();
+    private SprintSummaryDTO summary;
+    // Only populated when the caller asks for expand=tasks
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Set<TaskDTO> tasks;
 
     public static SprintDTO fromEntity(Sprint sprint) {
         SprintDTO dto = new SprintDTO();
@@ -41,12 +43,6 @@ public class SprintDTO {
             dto.setProjectName(sprint.getProject().getName());
         }
         
-        if (sprint.getTasks() != null) {
-            dto.setTasks(sprint.getTasks().stream()
-                .map(TaskDTO::fromEntity)
-                .collect(Collectors.toSet()));
-        }
-        
         return dto;
     }
 }
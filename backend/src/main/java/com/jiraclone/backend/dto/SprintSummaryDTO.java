@@ -0,0 +1,32 @@
+package com.jiraclone.backend.dto;
+
+import com.jiraclone.backend.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Aggregate view of a sprint's tasks, computed with grouped queries instead of loading them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintSummaryDTO {
+    private long totalTasks;
+    private Map<Task.Status, Long> tasksByStatus = new EnumMap<>(Task.Status.class);
+    private long estimatedHours;
+    private long loggedHours;
+    // Points of the distinct user stories that have tasks in the sprint
+    private long storyPoints;
+
+    public static SprintSummaryDTO empty() {
+        SprintSummaryDTO summary = new SprintSummaryDTO();
+        for (Task.Status status : Task.Status.values()) {
+            summary.getTasksByStatus().put(status, 0L);
+        }
+        return summary;
+    }
+}
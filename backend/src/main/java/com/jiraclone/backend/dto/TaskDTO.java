@@ -2,6 +2,7 @@ package com.jiraclone.backend.dto;
 
 
 import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.repository.TaskListItem;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -70,4 +71,30 @@ public class TaskDTO {
         
         return dto;
     }
-}
\ No newline at end of file
+
+    public static TaskDTO fromListItem(TaskListItem item) {
+        UserDTO assignee = item.getAssigneeId() == null ? null : new UserDTO(
+                item.getAssigneeId(), item.getAssigneeName(), item.getAssigneeEmail(), item.getAssigneeRole());
+        UserDTO reporter = item.getReporterId() == null ? null : new UserDTO(
+                item.getReporterId(), item.getReporterName(), item.getReporterEmail(), item.getReporterRole());
+        return new TaskDTO(
+                item.getId(),
+                item.getTaskKey(),
+                item.getTitle(),
+                item.getDescription(),
+                item.getType(),
+                item.getPriority(),
+                item.getStatus(),
+                item.getDueDate(),
+                item.getEstimatedHours(),
+                item.getLoggedHours(),
+                item.getProjectId(),
+                item.getProjectName(),
+                item.getSprintId(),
+                item.getUserStoryId(),
+                assignee,
+                reporter,
+                item.getCreatedAt(),
+                item.getUpdatedAt());
+    }
+}
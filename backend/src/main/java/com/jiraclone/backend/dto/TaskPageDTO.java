@@ -0,0 +1,18 @@
+package com.jiraclone.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageDTO {
+    private List<TaskDTO> items = new ArrayList<>();
+    // Opaque token for the next page, null on the last page
+    private String nextCursor;
+    private boolean hasMore;
+}
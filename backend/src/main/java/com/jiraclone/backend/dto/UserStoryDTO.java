@@ -1,14 +1,13 @@
 package com.jiraclone.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.jiraclone.backend.model.UserStory;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Data
 @NoArgsConstructor
@@ -24,7 +23,9 @@ public class UserStoryDTO {
     private Long epicId;
     private String epicName;
     private LocalDateTime createdAt;
-    private Set<TaskDTO> tasks = new HashSet<>();
+    // Only populated with ?expand=tasks (or stories.tasks from an epic)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Set<TaskDTO> tasks;
 
     public static UserStoryDTO fromEntity(UserStory story) {
         UserStoryDTO dto = new UserStoryDTO();
@@ -45,12 +46,6 @@ public class UserStoryDTO {
             dto.setEpicName(story.getEpic().getName());
         }
         
-        if (story.getTasks() != null) {
-            dto.setTasks(story.getTasks().stream()
-                .map(TaskDTO::fromEntity)
-                .collect(Collectors.toSet()));
-        }
-        
         return dto;
     }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.jiraclone.backend.metrics;
+
+import com.jiraclone.backend.service.ProjectMembershipService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records latency, errors and SQL statement counts for every public method of the
+ * {@code @Service} beans in the service package, tagged by service and operation.
+ * Latency and query counts are published as histograms so Prometheus can compute percentiles
+ * across instances. Query counts come from the same {@link TracingDataSource} executions that
+ * {@link SqlBudgetFilter} counts per request, and are inclusive: a service calling another
+ * service reports the statements of both. Methods returning a {@link CompletionStage} are timed
+ * until the stage completes, but only the statements executed on the calling thread are counted.
+ * {@link ProjectMembershipService} is left out: its checks are in-memory lookups made on every
+ * authorization, where the timers would cost more than the call.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String TIMER_NAME = "service.operation";
+    static final String ERRORS_NAME = "service.operation.errors";
+    static final String QUERIES_NAME = "service.operation.queries";
+
+    private final MeterRegistry meterRegistry;
+    // Meters are registered once per method rather than looked up through builders on every call
+    private final Map<Method, OperationMeters> meters = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.jiraclone.backend.service..*(..)) "
+            + "&& @within(org.springframework.stereotype.Service) "
+            + "&& !within(com.jiraclone.backend.service.ProjectMembershipService)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        OperationMeters operation = meters.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), this::register);
+        long queriesBefore = SqlBudget.executedOnThread();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            operation.queries.record(SqlBudget.executedOnThread() - queriesBefore);
+            operation.stop(start, e);
+            throw e;
+        }
+        operation.queries.record(SqlBudget.executedOnThread() - queriesBefore);
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) -> operation.stop(start, unwrap(error)));
+        } else {
+            operation.stop(start, null);
+        }
+        return result;
+    }
+
+    private OperationMeters register(Method method) {
+        String service = method.getDeclaringClass().getSimpleName();
+        String operation = method.getName();
+        return new OperationMeters(service, operation,
+                timer(service, operation, "success"),
+                timer(service, operation, "error"),
+                DistributionSummary.builder(QUERIES_NAME)
+                        .baseUnit("queries")
+                        .tag("service", service)
+                        .tag("operation", operation)
+                        .publishPercentileHistogram()
+                        .maximumExpectedValue(500.0)
+                        .register(meterRegistry));
+    }
+
+    private Timer timer(String service, String operation, String outcome) {
+        return Timer.builder(TIMER_NAME)
+                .tag("service", service)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    @RequiredArgsConstructor
+    private final class OperationMeters {
+        private final String service;
+        private final String operation;
+        private final Timer success;
+        private final Timer error;
+        private final DistributionSummary queries;
+        private final Map<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+
+        void stop(long start, Throwable failure) {
+            long elapsed = System.nanoTime() - start;
+            if (failure == null) {
+                success.record(elapsed, TimeUnit.NANOSECONDS);
+                return;
+            }
+            error.record(elapsed, TimeUnit.NANOSECONDS);
+            errors.computeIfAbsent(failure.getClass(), type -> Counter.builder(ERRORS_NAME)
+                    .tag("service", service)
+                    .tag("operation", operation)
+                    .tag("exception", type.getSimpleName())
+                    .register(meterRegistry)).increment();
+        }
+    }
+}
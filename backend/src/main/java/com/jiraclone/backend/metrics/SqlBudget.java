@@ -0,0 +1,101 @@
+package com.jiraclone.backend.metrics;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Statements executed through the {@link TracingDataSource} on one thread while the budget is
+ * open: how many, how long they took in total, and how often each statement shape ran. Shapes
+ * have literals and {@code IN} lists collapsed, so an N+1 shows up as one shape with a high
+ * count. Budgets nest; closing one restores the budget that was open before it.
+ */
+public final class SqlBudget implements AutoCloseable {
+
+    private static final ThreadLocal<SqlBudget> CURRENT = new ThreadLocal<>();
+    // Executions on the thread whether or not a budget is open, see executedOnThread()
+    private static final ThreadLocal<long[]> EXECUTED = ThreadLocal.withInitial(() -> new long[1]);
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SqlBudget previous;
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private int statements;
+    private long nanos;
+
+    private SqlBudget(SqlBudget previous) {
+        this.previous = previous;
+    }
+
+    public static SqlBudget open() {
+        SqlBudget budget = new SqlBudget(CURRENT.get());
+        CURRENT.set(budget);
+        return budget;
+    }
+
+    static SqlBudget current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Statements executed through the {@link TracingDataSource} on this thread so far. The count
+     * only ever grows, so a caller measures a unit of work by reading it before and after.
+     */
+    public static long executedOnThread() {
+        return EXECUTED.get()[0];
+    }
+
+    static void countExecution() {
+        EXECUTED.get()[0]++;
+    }
+
+    void record(String sql, long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+        shapes.merge(shape(sql), 1, Integer::sum);
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public Duration getDuration() {
+        return Duration.ofNanos(nanos);
+    }
+
+    /**
+     * The most frequently executed statement shapes, most frequent first.
+     */
+    public List<Map.Entry<String, Integer>> topShapes(int limit) {
+        return shapes.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static String shape(String sql) {
+        if (sql == null) {
+            return "<unknown>";
+        }
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
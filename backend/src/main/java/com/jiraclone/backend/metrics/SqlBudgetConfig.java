@@ -0,0 +1,28 @@
+package com.jiraclone.backend.metrics;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlBudgetConfig {
+
+    /**
+     * Routes every connection through {@link TracingDataSource} so {@link SqlBudgetFilter} can
+     * see the statements a request runs, whichever API issued them (JPA, native queries, JDBC).
+     */
+    @Bean
+    public static BeanPostProcessor tracingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)) {
+                    return new TracingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
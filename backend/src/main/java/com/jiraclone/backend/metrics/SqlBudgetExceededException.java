@@ -0,0 +1,12 @@
+package com.jiraclone.backend.metrics;
+
+/**
+ * Thrown by {@link SqlBudgetFilter} in fail-fast mode when a request runs more statements, or
+ * spends longer in the database, than the configured budget allows.
+ */
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,113 @@
+package com.jiraclone.backend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+/**
+ * Opens a {@link SqlBudget} for each request and checks it once the handler returns. Every
+ * request records its statement count and database time per route; requests over the
+ * statement or time budget are logged with their most frequent statement shapes, which is
+ * usually enough to spot an N+1. In fail-fast mode (used by the test profile) an exceeded
+ * budget also fails the request with {@link SqlBudgetExceededException}.
+ * Only statements run on the request thread are counted, not work handed to background jobs.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_NAME = "http.server.sql.statements";
+    static final String TIME_NAME = "http.server.sql.time";
+    static final String EXCEEDED_NAME = "http.server.sql.budget.exceeded";
+
+    private static final int REPORTED_SHAPES = 5;
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final Duration maxDuration;
+    private final boolean failFast;
+
+    public SqlBudgetFilter(MeterRegistry meterRegistry,
+                           @Value("${sql-budget.max-statements:30}") int maxStatements,
+                           @Value("${sql-budget.max-duration:500}") long maxDurationMillis,
+                           @Value("${sql-budget.fail-fast:false}") boolean failFast) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.maxDuration = Duration.ofMillis(maxDurationMillis);
+        this.failFast = failFast;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (SqlBudget budget = SqlBudget.open()) {
+            filterChain.doFilter(request, response);
+            check(request, budget);
+        }
+    }
+
+    private void check(HttpServletRequest request, SqlBudget budget) {
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder(STATEMENTS_NAME)
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(500.0)
+                .register(meterRegistry)
+                .record(budget.getStatements());
+        Timer.builder(TIME_NAME)
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(budget.getDuration());
+
+        String exceeded = budget.getStatements() > maxStatements ? "statements"
+                : budget.getDuration().compareTo(maxDuration) > 0 ? "duration"
+                : null;
+        if (exceeded == null) {
+            return;
+        }
+        Counter.builder(EXCEEDED_NAME)
+                .tag("method", method)
+                .tag("uri", uri)
+                .tag("limit", exceeded)
+                .register(meterRegistry)
+                .increment();
+        String message = String.format(
+                "%s %s exceeded SQL budget: %d statements in %d ms (limits %d / %d ms); top statements: %s",
+                method, uri, budget.getStatements(), budget.getDuration().toMillis(),
+                maxStatements, maxDuration.toMillis(), describe(budget));
+        log.warn(message);
+        if (failFast) {
+            throw new SqlBudgetExceededException(message);
+        }
+    }
+
+    private static String describe(SqlBudget budget) {
+        return budget.topShapes(REPORTED_SHAPES).stream()
+                .map(shape -> shape.getValue() + "x " + shape.getKey())
+                .collect(Collectors.joining(" | "));
+    }
+}
@@ -3,6 +3,8 @@ package com.jiraclone.backend.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -16,6 +18,8 @@ import java.util.Set;
 @AllArgsConstructor
 @Entity
 @Table(name = "epics")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "epics")
 public class Epic {
 
     @Id
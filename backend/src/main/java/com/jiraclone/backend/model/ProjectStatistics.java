@@ -0,0 +1,67 @@
+package com.jiraclone.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Materialized task counters for a project, kept up to date incrementally by
+ * {@link com.jiraclone.backend.service.ProjectStatisticsService} so project listings never
+ * have to load the project's tasks. Counters are only ever changed through relative bulk
+ * updates or a full recount, never by flushing a loaded instance.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "project_statistics")
+public class ProjectStatistics {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "total_tasks", nullable = false)
+    private long totalTasks;
+
+    @Column(name = "todo_tasks", nullable = false)
+    private long todoTasks;
+
+    @Column(name = "in_progress_tasks", nullable = false)
+    private long inProgressTasks;
+
+    @Column(name = "in_review_tasks", nullable = false)
+    private long inReviewTasks;
+
+    @Column(name = "done_tasks", nullable = false)
+    private long doneTasks;
+
+    @Column(name = "reconciled_at")
+    private LocalDateTime reconciledAt;
+
+    public ProjectStatistics(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public int getCompletedPercentage() {
+        return totalTasks == 0 ? 0 : (int) ((doneTasks * 100) / totalTasks);
+    }
+
+    public boolean hasSameCountsAs(ProjectStatistics other) {
+        return totalTasks == other.totalTasks
+                && todoTasks == other.todoTasks
+                && inProgressTasks == other.inProgressTasks
+                && inReviewTasks == other.inReviewTasks
+                && doneTasks == other.doneTasks;
+    }
+
+    public void copyCountsFrom(ProjectStatistics other) {
+        this.totalTasks = other.totalTasks;
+        this.todoTasks = other.todoTasks;
+        this.inProgressTasks = other.inProgressTasks;
+        this.inReviewTasks = other.inReviewTasks;
+        this.doneTasks = other.doneTasks;
+    }
+}
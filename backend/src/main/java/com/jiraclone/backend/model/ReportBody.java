@@ -0,0 +1,96 @@
+package com.jiraclone.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Full Markdown body of a {@link Report}, kept in its own table so listing reports never
+ * reads it. The text is stored deflate-compressed and only inflated when it is asked for.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "report_bodies")
+public class ReportBody {
+
+    // Sized for a MEDIUMBLOB on MySQL; without a length Hibernate maps the column to a 255-byte TINYBLOB
+    static final int MAX_COMPRESSED_SIZE = 16_777_215;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Lob
+    @Column(nullable = false, length = MAX_COMPRESSED_SIZE)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private byte[] data;
+
+    // Inflated text, kept once computed so repeated reads decompress only once
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String content;
+
+    public static ReportBody of(String content) {
+        ReportBody body = new ReportBody();
+        body.data = deflate(content);
+        body.content = content;
+        return body;
+    }
+
+    public String getContent() {
+        if (content == null) {
+            content = inflate(data);
+        }
+        return content;
+    }
+
+    public int getCompressedSize() {
+        return data.length;
+    }
+
+    private static byte[] deflate(String content) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(content.getBytes(StandardCharsets.UTF_8));
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated report body " + data.length + " bytes");
+                }
+                out.write(buffer, 0, inflated);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt report body", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -16,9 +16,28 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "tasks")
+// Detail fetch plan: everything TaskDTO reads, in one statement. Lists use TaskListItem rows instead
+@NamedEntityGraph(name = Task.DETAIL_GRAPH, attributeNodes = {
+    @NamedAttributeNode("project"),
+    @NamedAttributeNode("sprint"),
+    @NamedAttributeNode("userStory"),
+    @NamedAttributeNode("assignee"),
+    @NamedAttributeNode("reporter")
+})
+@Table(name = "tasks", indexes = {
+    // Keyset pagination: each listing scope followed by the (created_at, id) sort key
+    @Index(name = "idx_tasks_project_created", columnList = "project_id, created_at, id"),
+    @Index(name = "idx_tasks_project_status_created", columnList = "project_id, status, created_at, id"),
+    @Index(name = "idx_tasks_sprint_created", columnList = "sprint_id, created_at, id"),
+    @Index(name = "idx_tasks_assignee_created", columnList = "assignee_id, created_at, id"),
+    @Index(name = "idx_tasks_assignee_status", columnList = "assignee_id, status"),
+    // Task keys are unique within their project, so a key handed out twice fails the insert
+    @Index(name = "uk_tasks_project_task_key", columnList = "project_id, task_key", unique = true)
+})
 public class Task {
 
+    public static final String DETAIL_GRAPH = "Task.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -45,23 +64,23 @@ public class Task {
 
     private Integer loggedHours;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id")
     private Project project;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sprint_id")
     private Sprint sprint;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_story_id")
     private UserStory userStory;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assignee_id")
     private User assignee;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "reporter_id")
     private User reporter;
 
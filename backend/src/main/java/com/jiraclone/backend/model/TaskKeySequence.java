@@ -0,0 +1,24 @@
+package com.jiraclone.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Per-project counter used to hand out task keys ({@code KEY-n}) without counting the
+ * project's tasks. The row is locked for the duration of the allocating transaction.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "task_key_sequences")
+public class TaskKeySequence {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+}
@@ -3,6 +3,8 @@ package com.jiraclone.backend.repository;
 import com.jiraclone.backend.model.Epic;
 import com.jiraclone.backend.model.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +12,9 @@ import java.util.List;
 @Repository
 public interface EpicRepository extends JpaRepository<Epic, Long> {
     List<Epic> findByProjectOrderByCreatedAtDesc(Project project);
+
+    // Single-statement epic list: the project (and its eagerly mapped lead) come back in the same row
+    @Query("SELECT e FROM Epic e JOIN FETCH e.project p LEFT JOIN FETCH p.lead " +
+           "WHERE p.id = :projectId ORDER BY e.createdAt DESC")
+    List<Epic> findByProjectIdWithProject(@Param("projectId") Long projectId);
 }
\ No newline at end of file
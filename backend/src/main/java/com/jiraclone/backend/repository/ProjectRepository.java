@@ -2,25 +2,64 @@ package com.jiraclone.backend.repository;
 
 import com.jiraclone.backend.model.Project;
 import com.jiraclone.backend.model.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
-    List<Project> findByMembersContaining(User user);
     Optional<Project> findByKey(String key);
     boolean existsByKey(String key);
-    
-    @Query("SELECT p FROM Project p WHERE p.lead = :user OR :user MEMBER OF p.members")
-    List<Project> findByLeadOrMembers(User user);
+
+    // Listing read path: leads come back with the projects, members in one follow-up query
+    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.lead " +
+           "WHERE p.lead = :user OR :user MEMBER OF p.members ORDER BY p.id")
+    List<Project> findWithLeadByLeadOrMembers(@Param("user") User user);
+
+    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.members WHERE p.id IN :projectIds")
+    List<Project> fetchMembers(@Param("projectIds") Collection<Long> projectIds);
 
     @Query("SELECT p FROM Project p LEFT JOIN FETCH p.members WHERE p.id = :projectId")
     Optional<Project> findByIdWithMembers(@Param("projectId") Long projectId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :projectId")
+    Optional<Project> findByIdForUpdate(@Param("projectId") Long projectId);
+
+    // Membership index (ProjectMembershipService): both are served by the project_members primary key
+    @Query("SELECT m.id FROM Project p JOIN p.members m WHERE p.id = :projectId")
+    List<Long> findMemberIds(@Param("projectId") Long projectId);
+
+    boolean existsByIdAndMembersId(Long projectId, Long userId);
+
+    @Query("SELECT COUNT(m) FROM Project p JOIN p.members m WHERE p.id = :projectId")
+    long countMembers(@Param("projectId") Long projectId);
+
+    @Query("SELECT p.id AS projectId, COUNT(m) AS count FROM Project p JOIN p.members m " +
+           "WHERE p.id IN :projectIds GROUP BY p.id")
+    List<MemberCount> countMembersByProject(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query("SELECT p.id FROM Project p")
+    List<Long> findAllIds();
+
+    // Projects with a running sprint or recent task activity, with their leads
+    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.lead WHERE " +
+           "EXISTS (SELECT s.id FROM Sprint s WHERE s.project = p AND s.status = com.jiraclone.backend.model.Sprint$Status.ACTIVE) " +
+           "OR EXISTS (SELECT t.id FROM Task t WHERE t.project = p AND t.updatedAt >= :since) " +
+           "ORDER BY p.id")
+    List<Project> findActiveWithLead(@Param("since") LocalDateTime since);
+
+    interface MemberCount {
+        Long getProjectId();
+        long getCount();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.jiraclone.backend.repository;
+
+import com.jiraclone.backend.model.ProjectStatistics;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProjectStatisticsRepository extends JpaRepository<ProjectStatistics, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProjectStatistics s WHERE s.projectId = :projectId")
+    Optional<ProjectStatistics> findForUpdate(@Param("projectId") Long projectId);
+
+    /**
+     * Applies relative changes in a single statement so concurrent task writes in the same
+     * project never overwrite each other's counts.
+     */
+    @Modifying
+    @Query("UPDATE ProjectStatistics s SET "
+            + "s.totalTasks = s.totalTasks + :total, "
+            + "s.todoTasks = s.todoTasks + :todo, "
+            + "s.inProgressTasks = s.inProgressTasks + :inProgress, "
+            + "s.inReviewTasks = s.inReviewTasks + :inReview, "
+            + "s.doneTasks = s.doneTasks + :done "
+            + "WHERE s.projectId = :projectId")
+    int applyDelta(@Param("projectId") Long projectId,
+                   @Param("total") long total,
+                   @Param("todo") long todo,
+                   @Param("inProgress") long inProgress,
+                   @Param("inReview") long inReview,
+                   @Param("done") long done);
+}
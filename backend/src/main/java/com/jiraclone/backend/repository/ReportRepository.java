@@ -2,13 +2,30 @@ package com.jiraclone.backend.repository;
 
 import com.jiraclone.backend.model.Report;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
-    List<Report> findByProjectIdOrderByCreatedAtDesc(Long projectId);
-    List<Report> findByAuthorIdOrderByCreatedAtDesc(Long userId);
-    List<Report> findByTypeOrderByCreatedAtDesc(Report.ReportType type);
-}
\ No newline at end of file
+    // Never touches report bodies; reports stored before compression fall back to the legacy column
+    @Query("SELECT r.id AS id, r.title AS title, r.type AS type, a.id AS authorId, a.name AS authorName, " +
+           "r.createdAt AS createdAt, COALESCE(r.contentLength, LENGTH(r.legacyContent), 0) AS size, " +
+           "COALESCE(r.preview, SUBSTRING(r.legacyContent, 1, " + Report.PREVIEW_LENGTH + ")) AS preview " +
+           "FROM Report r LEFT JOIN r.author a WHERE r.project.id = :projectId ORDER BY r.createdAt DESC")
+    List<ReportSummary> findSummariesByProjectId(@Param("projectId") Long projectId);
+
+    interface ReportSummary {
+        Long getId();
+        String getTitle();
+        Report.ReportType getType();
+        Long getAuthorId();
+        String getAuthorName();
+        LocalDateTime getCreatedAt();
+        Integer getSize();
+        String getPreview();
+    }
+}
@@ -3,11 +3,34 @@ package com.jiraclone.backend.repository;
 import com.jiraclone.backend.model.Project;
 import com.jiraclone.backend.model.Sprint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SprintRepository extends JpaRepository<Sprint, Long> {
     List<Sprint> findByProjectOrderByStartDateDesc(Project project);
-}
\ No newline at end of file
+
+    @Query("SELECT s.id AS id, s.name AS name, s.status AS status, s.endDate AS endDate " +
+           "FROM Sprint s WHERE s.project.id = :projectId")
+    List<SprintHeader> findHeadersByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT s.project.id AS projectId, s.id AS id, s.name AS name, s.status AS status, " +
+           "s.endDate AS endDate FROM Sprint s WHERE s.project.id IN :projectIds")
+    List<ProjectSprintHeader> findHeadersByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    interface SprintHeader {
+        Long getId();
+        String getName();
+        Sprint.Status getStatus();
+        LocalDate getEndDate();
+    }
+
+    interface ProjectSprintHeader extends SprintHeader {
+        Long getProjectId();
+    }
+}
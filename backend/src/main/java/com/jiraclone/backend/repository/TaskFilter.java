@@ -0,0 +1,20 @@
+package com.jiraclone.backend.repository;
+
+import com.jiraclone.backend.model.Task;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Optional criteria for {@link TaskPageRepository#findPage}. Unset fields are not filtered on.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskFilter {
+    private Long projectId;
+    private Long sprintId;
+    private Long assigneeId;
+    private Task.Status status;
+    private Task.Priority priority;
+}
@@ -0,0 +1,19 @@
+package com.jiraclone.backend.repository;
+
+import com.jiraclone.backend.model.TaskKeySequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TaskKeySequenceRepository extends JpaRepository<TaskKeySequence, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TaskKeySequence s WHERE s.projectId = :projectId")
+    Optional<TaskKeySequence> findForUpdate(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,53 @@
+package com.jiraclone.backend.repository;
+
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.model.User;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One row of a task list: the task's columns plus the few parent columns a list shows, read
+ * with a constructor expression so no entities, proxies or persistence-context entries are
+ * created. The detail view loads the entity through {@link Task#DETAIL_GRAPH} instead.
+ */
+@Value
+public class TaskListItem {
+
+    // Parents are entity joins on the foreign key rather than association joins: an association
+    // join would make a filter on t.<association>.id apply to the parent's key instead of the tasks
+    // column, and the (scope, created_at, id) indexes could no longer drive the query. Callers
+    // append the WHERE and ORDER BY clauses
+    static final String SELECT = "SELECT new com.jiraclone.backend.repository.TaskListItem("
+            + "t.id, t.taskKey, t.title, t.description, t.type, t.priority, t.status, t.dueDate, "
+            + "t.estimatedHours, t.loggedHours, p.id, p.name, t.sprint.id, t.userStory.id, "
+            + "a.id, a.name, a.email, a.role, r.id, r.name, r.email, r.role, t.createdAt, t.updatedAt) "
+            + "FROM Task t LEFT JOIN Project p ON p.id = t.project.id "
+            + "LEFT JOIN User a ON a.id = t.assignee.id LEFT JOIN User r ON r.id = t.reporter.id ";
+
+    Long id;
+    String taskKey;
+    String title;
+    String description;
+    Task.Type type;
+    Task.Priority priority;
+    Task.Status status;
+    LocalDate dueDate;
+    Integer estimatedHours;
+    Integer loggedHours;
+    Long projectId;
+    String projectName;
+    Long sprintId;
+    Long userStoryId;
+    Long assigneeId;
+    String assigneeName;
+    String assigneeEmail;
+    User.Role assigneeRole;
+    Long reporterId;
+    String reporterName;
+    String reporterEmail;
+    User.Role reporterRole;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.jiraclone.backend.repository;
+
+import java.util.List;
+
+/**
+ * Keyset pagination over tasks, newest first. Mixed into {@link TaskRepository}.
+ */
+public interface TaskPageRepository {
+
+    /**
+     * Returns up to {@code limit} tasks matching the filter, ordered by (createdAt, id)
+     * descending and starting strictly after {@code after} (or from the newest when null).
+     * Rows are flat {@link TaskListItem}s read in a single query.
+     */
+    List<TaskListItem> findPage(TaskFilter filter, TaskCursor after, int limit);
+}
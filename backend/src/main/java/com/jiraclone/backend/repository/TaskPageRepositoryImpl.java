@@ -0,0 +1,53 @@
+package com.jiraclone.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class TaskPageRepositoryImpl implements TaskPageRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskListItem> findPage(TaskFilter filter, TaskCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder(TaskListItem.SELECT).append("WHERE 1 = 1");
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (filter.getProjectId() != null) {
+            jpql.append(" AND t.project.id = :projectId");
+            parameters.put("projectId", filter.getProjectId());
+        }
+        if (filter.getSprintId() != null) {
+            jpql.append(" AND t.sprint.id = :sprintId");
+            parameters.put("sprintId", filter.getSprintId());
+        }
+        if (filter.getAssigneeId() != null) {
+            jpql.append(" AND t.assignee.id = :assigneeId");
+            parameters.put("assigneeId", filter.getAssigneeId());
+        }
+        if (filter.getStatus() != null) {
+            jpql.append(" AND t.status = :status");
+            parameters.put("status", filter.getStatus());
+        }
+        if (filter.getPriority() != null) {
+            jpql.append(" AND t.priority = :priority");
+            parameters.put("priority", filter.getPriority());
+        }
+        if (after != null) {
+            jpql.append(" AND (t.createdAt < :afterCreatedAt"
+                    + " OR (t.createdAt = :afterCreatedAt AND t.id < :afterId))");
+            parameters.put("afterCreatedAt", after.getCreatedAt());
+            parameters.put("afterId", after.getId());
+        }
+        jpql.append(" ORDER BY t.createdAt DESC, t.id DESC");
+
+        TypedQuery<TaskListItem> query = entityManager.createQuery(jpql.toString(), TaskListItem.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -2,20 +2,171 @@ package com.jiraclone.backend.repository;
 
 
 import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Sprint;
 import com.jiraclone.backend.model.Task;
 import com.jiraclone.backend.model.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findByProjectOrderByCreatedAtDesc(Project project);
-    List<Task> findByAssigneeOrderByCreatedAtDesc(User assignee);
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskPageRepository {
     Optional<Task> findByProjectAndTaskKey(Project project, String taskKey);
     List<Task> findByAssigneeAndStatus(User assignee, Task.Status status);
-    List<Task> findBySprintIdOrderByCreatedAtDesc(Long sprintId);
-    List<Task> findByProjectId(Long projectId);
+
+    // Detail fetch plan: the task with every association TaskDTO reads, in one statement
+    @EntityGraph(Task.DETAIL_GRAPH)
+    Optional<Task> findDetailedById(Long id);
+
+    // Locks the task row until commit. No fetch plan here: a locking read over the detail joins
+    // would lock the joined project, user, sprint and story rows as well
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id = :id")
+    Optional<Task> findByIdForUpdate(@Param("id") Long id);
+
+    // List fetch plan: flat rows, newest first. t.<association>.id is the tasks column, so
+    // idx_tasks_{project,assignee,sprint}_created serves both the lookup and the sort
+    @Query(TaskListItem.SELECT + "WHERE t.project.id = :projectId ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskListItem> findListItemsByProjectId(@Param("projectId") Long projectId);
+
+    @Query(TaskListItem.SELECT + "WHERE t.assignee.id = :assigneeId ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskListItem> findListItemsByAssigneeId(@Param("assigneeId") Long assigneeId);
+
+    @Query(TaskListItem.SELECT + "WHERE t.sprint.id = :sprintId ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskListItem> findListItemsBySprintId(@Param("sprintId") Long sprintId);
+
+    // Current values of the fields a bulk operation may change. The rows stay locked until commit,
+    // and single-task writes lock their row the same way, so the counter deltas computed from
+    // them cannot be overtaken by a concurrent write to the same task
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id AS id, t.project.id AS projectId, t.status AS status, t.priority AS priority, " +
+           "t.assignee.id AS assigneeId, t.sprint.id AS sprintId FROM Task t WHERE t.id IN :ids")
+    List<TaskState> findStatesForUpdate(@Param("ids") Collection<Long> ids);
+
+    // Set-based bulk writes. @UpdateTimestamp does not apply to JPQL updates, so updatedAt is passed in
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :now WHERE t.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") Task.Status status,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.priority = :priority, t.updatedAt = :now WHERE t.id IN :ids")
+    int updatePriority(@Param("ids") Collection<Long> ids, @Param("priority") Task.Priority priority,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.assignee = :assignee, t.updatedAt = :now WHERE t.id IN :ids")
+    int updateAssignee(@Param("ids") Collection<Long> ids, @Param("assignee") User assignee,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.sprint = :sprint, t.updatedAt = :now WHERE t.id IN :ids")
+    int updateSprint(@Param("ids") Collection<Long> ids, @Param("sprint") Sprint sprint,
+                     @Param("now") LocalDateTime now);
+
+    // Highest n among the project's "KEY-n" task keys, used to seed its key sequence. The number is
+    // read after the project's own key rather than after the first '-', which project keys may contain
+    @Query("SELECT MAX(CAST(SUBSTRING(t.taskKey, LENGTH(p.key) + 2) AS long)) " +
+           "FROM Task t JOIN t.project p " +
+           "WHERE p.id = :projectId AND t.taskKey LIKE CONCAT(p.key, '-%')")
+    Long findHighestTaskNumber(@Param("projectId") Long projectId);
+
+    // Locking read for ProjectStatisticsService.reconcile: on InnoDB it sees the latest committed
+    // tasks even inside an older snapshot, and keeps the project's tasks from changing or being
+    // added until the recount is written. Rows rather than a GROUP BY, which cannot be combined
+    // with a lock on every database
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.status FROM Task t WHERE t.project.id = :projectId")
+    List<Task.Status> findStatusesForUpdate(@Param("projectId") Long projectId);
+
+    // One row per (status, priority, type, assignee) bucket: bounded by team size, not task count
+    @Query("SELECT t.status AS status, t.priority AS priority, t.type AS type, " +
+           "a.id AS assigneeId, a.name AS assigneeName, COUNT(t) AS count, " +
+           "COALESCE(SUM(t.estimatedHours), 0) AS estimatedHours, " +
+           "COALESCE(SUM(t.loggedHours), 0) AS loggedHours, MAX(t.updatedAt) AS lastUpdated " +
+           "FROM Task t LEFT JOIN t.assignee a WHERE t.project.id = :projectId " +
+           "GROUP BY t.status, t.priority, t.type, a.id, a.name")
+    List<TaskAggregate> aggregateByProject(@Param("projectId") Long projectId);
+
+    // aggregateByProject for many projects at once, as used by batch report generation
+    @Query("SELECT t.project.id AS projectId, t.status AS status, t.priority AS priority, t.type AS type, " +
+           "a.id AS assigneeId, a.name AS assigneeName, COUNT(t) AS count, " +
+           "COALESCE(SUM(t.estimatedHours), 0) AS estimatedHours, " +
+           "COALESCE(SUM(t.loggedHours), 0) AS loggedHours, MAX(t.updatedAt) AS lastUpdated " +
+           "FROM Task t LEFT JOIN t.assignee a WHERE t.project.id IN :projectIds " +
+           "GROUP BY t.project.id, t.status, t.priority, t.type, a.id, a.name")
+    List<ProjectTaskAggregate> aggregateByProjects(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query("SELECT t.sprint.id AS sprintId, t.status AS status, COUNT(t) AS count, " +
+           "COALESCE(SUM(t.estimatedHours), 0) AS estimatedHours, " +
+           "COALESCE(SUM(t.loggedHours), 0) AS loggedHours " +
+           "FROM Task t WHERE t.sprint.id IN :sprintIds GROUP BY t.sprint.id, t.status")
+    List<SprintStatusTotals> summarizeBySprint(@Param("sprintIds") Collection<Long> sprintIds);
+
+    @Query("SELECT DISTINCT t.sprint.id AS sprintId, s.id AS storyId, s.storyPoints AS storyPoints " +
+           "FROM Task t JOIN t.userStory s WHERE t.sprint.id IN :sprintIds")
+    List<SprintStory> findSprintStories(@Param("sprintIds") Collection<Long> sprintIds);
+
+    // The filtered association is not fetch-joined: a join would make the IN list apply to the
+    // parent's key instead of the tasks column, which the index cannot serve
+    @Query("SELECT t FROM Task t " +
+           "LEFT JOIN FETCH t.project LEFT JOIN FETCH t.userStory " +
+           "LEFT JOIN FETCH t.assignee LEFT JOIN FETCH t.reporter " +
+           "WHERE t.sprint.id IN :sprintIds ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findBySprintIdsWithDetails(@Param("sprintIds") Collection<Long> sprintIds);
+
+    @Query("SELECT t FROM Task t " +
+           "LEFT JOIN FETCH t.project LEFT JOIN FETCH t.sprint " +
+           "LEFT JOIN FETCH t.assignee LEFT JOIN FETCH t.reporter " +
+           "WHERE t.userStory.id IN :storyIds ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findByUserStoryIdsWithDetails(@Param("storyIds") Collection<Long> storyIds);
+
+    interface TaskState {
+        Long getId();
+        Long getProjectId();
+        Task.Status getStatus();
+        Task.Priority getPriority();
+        Long getAssigneeId();
+        Long getSprintId();
+    }
+
+    interface TaskAggregate {
+        Task.Status getStatus();
+        Task.Priority getPriority();
+        Task.Type getType();
+        Long getAssigneeId();
+        String getAssigneeName();
+        long getCount();
+        long getEstimatedHours();
+        long getLoggedHours();
+        LocalDateTime getLastUpdated();
+    }
+
+    interface ProjectTaskAggregate extends TaskAggregate {
+        Long getProjectId();
+    }
+
+    interface SprintStatusTotals {
+        Long getSprintId();
+        Task.Status getStatus();
+        long getCount();
+        long getEstimatedHours();
+        long getLoggedHours();
+    }
+
+    interface SprintStory {
+        Long getSprintId();
+        Long getStoryId();
+        Integer getStoryPoints();
+    }
 }
\ No newline at end of file
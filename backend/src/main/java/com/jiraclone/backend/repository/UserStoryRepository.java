@@ -4,12 +4,19 @@ import com.jiraclone.backend.model.Epic;
 import com.jiraclone.backend.model.Project;
 import com.jiraclone.backend.model.UserStory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface UserStoryRepository extends JpaRepository<UserStory, Long> {
     List<UserStory> findByProjectOrderByCreatedAtDesc(Project project);
     List<UserStory> findByEpicOrderByCreatedAtDesc(Epic epic);
+
+    @Query("SELECT s FROM UserStory s LEFT JOIN FETCH s.project " +
+           "WHERE s.epic.id IN :epicIds ORDER BY s.createdAt DESC")
+    List<UserStory> findByEpicIds(@Param("epicIds") Collection<Long> epicIds);
 }
\ No newline at end of file
@@ -20,10 +20,15 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenUtil jwtTokenUtil;
+    private final PrincipalCache principalCache;
+    private final VerifiedTokenCache verifiedTokenCache;
     private UserDetailsService userDetailsService;
 
-    public JwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil) {
+    public JwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil, PrincipalCache principalCache,
+                                   VerifiedTokenCache verifiedTokenCache) {
         this.jwtTokenUtil = jwtTokenUtil;
+        this.principalCache = principalCache;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Autowired
@@ -44,21 +49,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String authHeader = request.getHeader("Authorization");
 
         String username = null;
-        String jwt = null;
+        TokenClaims claims = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwt = authHeader.substring(7);
+            String jwt = authHeader.substring(7);
             try {
-                username = jwtTokenUtil.extractUsername(jwt);
+                // Repeat tokens skip signature verification; new ones are verified once and cached
+                claims = verifiedTokenCache.get(jwt, jwtTokenUtil::parseToken);
+                username = claims.getSubject();
             } catch (Exception e) {
                 logger.error("JWT token is invalid", e);
             }
         }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = principalCache.get(username, this.userDetailsService::loadUserByUsername);
 
-            if (jwtTokenUtil.validateToken(jwt, userDetails)) {
+            if (jwtTokenUtil.validateToken(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -0,0 +1,21 @@
+package com.jiraclone.backend.security;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Immutable view of a JWT whose signature has already been verified.
+ * Produced once per request by {@link JwtTokenUtil#parseToken(String)} and reused
+ * by the filter instead of re-parsing the token for each claim.
+ */
+@Value
+public class TokenClaims {
+    String subject;
+    Instant issuedAt;
+    Instant expiration;
+
+    public boolean isExpired() {
+        return expiration != null && expiration.isBefore(Instant.now());
+    }
+}
@@ -0,0 +1,94 @@
+package com.jiraclone.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * Caches the claims of bearer tokens whose signature has already been verified, so a token
+ * the SPA sends repeatedly only pays for HMAC verification once. Entries are keyed by the
+ * SHA-256 digest of the token (raw tokens are never retained) and expire no later than the
+ * token itself.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    static final String CACHE_NAME = "verified-tokens";
+
+    private final Cache<String, TokenClaims> cache;
+
+    public VerifiedTokenCache(@Value("${security.token-cache.max-size:50000}") long maxSize,
+                              @Value("${security.token-cache.max-ttl:900000}") long maxTtlMillis,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(Duration.ofMillis(maxTtlMillis)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached claims for the token, or verifies it with {@code verifier} and caches
+     * the result. Tokens that fail verification are not cached and the exception propagates.
+     */
+    public TokenClaims get(String token, Function<String, TokenClaims> verifier) {
+        return cache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class TokenExpiry implements Expiry<String, TokenClaims> {
+
+        private final Duration maxTtl;
+
+        private TokenExpiry(Duration maxTtl) {
+            this.maxTtl = maxTtl;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, TokenClaims claims, long currentTime) {
+            if (claims.getExpiration() == null) {
+                return maxTtl.toNanos();
+            }
+            Duration remaining = Duration.between(Instant.now(), claims.getExpiration());
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return Math.min(remaining.toNanos(), maxTtl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.jiraclone.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * Reads the lines of a chat completions response requested with {@code "stream": true}:
+ * server-sent events whose {@code data:} lines carry a JSON delta, ending with
+ * {@code data: [DONE]}. Each non-empty delta is passed on as it arrives and appended to the
+ * full content. If the consumer throws (the client went away) the body is cancelled and
+ * {@code onAbort} runs.
+ */
+class CompletionStreamParser implements Flow.Subscriber<String> {
+
+    private static final String DATA_PREFIX = "data:";
+    private static final String DONE = "[DONE]";
+
+    private final ObjectMapper objectMapper;
+    private final Consumer<String> onChunk;
+    private final Runnable onAbort;
+    private final StringBuilder content = new StringBuilder();
+
+    private Flow.Subscription subscription;
+    private boolean aborted;
+
+    CompletionStreamParser(ObjectMapper objectMapper, Consumer<String> onChunk, Runnable onAbort) {
+        this.objectMapper = objectMapper;
+        this.onChunk = onChunk;
+        this.onAbort = onAbort;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(String line) {
+        if (aborted || !line.startsWith(DATA_PREFIX)) {
+            return;
+        }
+        String data = line.substring(DATA_PREFIX.length()).trim();
+        if (data.isEmpty() || DONE.equals(data)) {
+            return;
+        }
+        String delta = parseDelta(data);
+        if (delta == null || delta.isEmpty()) {
+            return;
+        }
+        content.append(delta);
+        try {
+            onChunk.accept(delta);
+        } catch (RuntimeException e) {
+            aborted = true;
+            subscription.cancel();
+            onAbort.run();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        // Surfaced through the response future
+    }
+
+    @Override
+    public void onComplete() {
+    }
+
+    String getContent() {
+        return content.toString();
+    }
+
+    private String parseDelta(String data) {
+        try {
+            JsonNode text = objectMapper.readTree(data).path("choices").path(0).path("delta").path("content");
+            return text.isTextual() ? text.asText() : null;
+        } catch (JsonProcessingException e) {
+            // Keep-alive or vendor-specific lines are not deltas
+            return null;
+        }
+    }
+}
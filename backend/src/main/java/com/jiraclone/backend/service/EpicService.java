@@ -1,6 +1,8 @@
 package com.jiraclone.backend.service;
 
 import com.jiraclone.backend.dto.EpicDTO;
+import com.jiraclone.backend.dto.Expansion;
+import com.jiraclone.backend.dto.UserStoryDTO;
 import com.jiraclone.backend.model.Epic;
 import com.jiraclone.backend.model.Project;
 import com.jiraclone.backend.repository.EpicRepository;
@@ -10,7 +12,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,6 +24,7 @@ public class EpicService {
 
     private final EpicRepository epicRepository;
     private final ProjectRepository projectRepository;
+    private final UserStoryService userStoryService;
 
     @Transactional
     public EpicDTO createEpic(Epic epic, Long projectId) {
@@ -32,18 +38,32 @@ public class EpicService {
     }
 
     public EpicDTO getEpicById(Long id) {
+        return getEpicById(id, Expansion.none());
+    }
+
+    @Transactional(readOnly = true)
+    public EpicDTO getEpicById(Long id, Expansion expansion) {
         Epic epic = epicRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Epic not found with ID: " + id));
-        return EpicDTO.fromEntity(epic);
+        return toDTOs(List.of(epic), expansion).get(0);
     }
 
     public List<EpicDTO> getEpicsByProject(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + projectId));
-        
-        return epicRepository.findByProjectOrderByCreatedAtDesc(project).stream()
-                .map(EpicDTO::fromEntity)
-                .collect(Collectors.toList());
+        return getEpicsByProject(projectId, Expansion.none());
+    }
+
+    /**
+     * Lists a project's epics in one statement. Stories ({@code stories}) and their tasks
+     * ({@code stories.tasks}) are only loaded when expanded, one batched query per level.
+     */
+    @Transactional(readOnly = true)
+    public List<EpicDTO> getEpicsByProject(Long projectId, Expansion expansion) {
+        List<Epic> epics = epicRepository.findByProjectIdWithProject(projectId);
+        // An empty list is either a project without epics or a missing project
+        if (epics.isEmpty() && !projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found with ID: " + projectId);
+        }
+        return toDTOs(epics, expansion);
     }
 
     @Transactional
@@ -59,6 +79,23 @@ public class EpicService {
         return EpicDTO.fromEntity(updatedEpic);
     }
 
+    private List<EpicDTO> toDTOs(List<Epic> epics, Expansion expansion) {
+        List<EpicDTO> dtos = epics.stream()
+                .map(EpicDTO::fromEntity)
+                .collect(Collectors.toList());
+        if (!expansion.includes("stories") || dtos.isEmpty()) {
+            return dtos;
+        }
+
+        List<Long> epicIds = dtos.stream().map(EpicDTO::getId).collect(Collectors.toList());
+        Map<Long, Set<UserStoryDTO>> storiesByEpic = userStoryService
+                .getUserStoriesByEpics(epicIds, expansion.nested("stories")).stream()
+                .collect(Collectors.groupingBy(UserStoryDTO::getEpicId,
+                        Collectors.toCollection(LinkedHashSet::new)));
+        dtos.forEach(dto -> dto.setStories(storiesByEpic.getOrDefault(dto.getId(), new LinkedHashSet<>())));
+        return dtos;
+    }
+
     @Transactional
     public void deleteEpic(Long id) {
         if (!epicRepository.existsById(id)) {
@@ -0,0 +1,92 @@
+package com.jiraclone.backend.service;
+
+import java.util.Collection;
+import java.util.function.LongPredicate;
+
+/**
+ * Immutable set of user ids stored in an open-addressing {@code long[]} kept at most half full,
+ * so {@link #contains(long)} is a couple of array probes with no boxing or allocation. Ids are
+ * database keys and therefore positive; {@code 0} marks an empty slot. Changes return a copy.
+ */
+final class MemberIdSet {
+
+    static final MemberIdSet EMPTY = new MemberIdSet(new long[0]);
+
+    private final long[] slots;
+    private final int size;
+
+    private MemberIdSet(long[] ids) {
+        int capacity = 4;
+        while (capacity < ids.length * 2) {
+            capacity <<= 1;
+        }
+        slots = new long[capacity];
+        int count = 0;
+        for (long id : ids) {
+            if (id <= 0) {
+                throw new IllegalArgumentException("Member ids must be positive: " + id);
+            }
+            int slot = slot(id);
+            while (slots[slot] != 0 && slots[slot] != id) {
+                slot = (slot + 1) & (slots.length - 1);
+            }
+            if (slots[slot] == 0) {
+                slots[slot] = id;
+                count++;
+            }
+        }
+        size = count;
+    }
+
+    static MemberIdSet of(Collection<Long> ids) {
+        return new MemberIdSet(ids.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    boolean contains(long id) {
+        int slot = slot(id);
+        long value;
+        while ((value = slots[slot]) != 0) {
+            if (value == id) {
+                return true;
+            }
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        return false;
+    }
+
+    MemberIdSet with(long id) {
+        if (contains(id)) {
+            return this;
+        }
+        long[] ids = ids(member -> true, 1);
+        ids[size] = id;
+        return new MemberIdSet(ids);
+    }
+
+    MemberIdSet without(long id) {
+        if (!contains(id)) {
+            return this;
+        }
+        return new MemberIdSet(ids(member -> member != id, -1));
+    }
+
+    int size() {
+        return size;
+    }
+
+    private long[] ids(LongPredicate keep, int sizeChange) {
+        long[] ids = new long[size + sizeChange];
+        int i = 0;
+        for (long value : slots) {
+            if (value != 0 && keep.test(value)) {
+                ids[i++] = value;
+            }
+        }
+        return ids;
+    }
+
+    private int slot(long id) {
+        long mixed = id * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & (slots.length - 1);
+    }
+}
@@ -0,0 +1,89 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.model.Report;
+import com.jiraclone.backend.model.Task;
+
+/**
+ * Renders a report straight from a {@link ReportContext}, without calling the LLM. Used when
+ * no API key is configured; cheap enough (one pre-sized builder, no parsing) to run for
+ * every project in a nightly batch.
+ */
+public final class OfflineReportRenderer {
+
+    private OfflineReportRenderer() {
+    }
+
+    public static String render(ReportContext context, String userPrompt, Report.ReportType type) {
+        TaskTotals tasks = context.getTasks();
+        String projectName = context.getProjectName();
+        long totalTasks = tasks.getTotal();
+        long todoTasks = tasks.getCount(Task.Status.TODO);
+        long inProgressTasks = tasks.getCount(Task.Status.IN_PROGRESS);
+        long doneTasks = tasks.getCount(Task.Status.DONE);
+        long teamSize = context.getTeamSize();
+        int completionPercentage = context.getCompletionPercentage();
+
+        StringBuilder report = new StringBuilder(1024);
+
+        switch (type) {
+            case STATUS_REPORT:
+                report.append("# Status Report for ").append(projectName).append("\n\n");
+                report.append("## Project Overview\n\n");
+                report.append("This project is currently ").append(completionPercentage).append("% complete based on task completion. ");
+                report.append("There are a total of ").append(totalTasks).append(" tasks in the project.\n\n");
+                report.append("## Task Status\n\n");
+                report.append("- **To Do**: ").append(todoTasks).append(" tasks\n");
+                report.append("- **In Progress**: ").append(inProgressTasks).append(" tasks\n");
+                report.append("- **Done**: ").append(doneTasks).append(" tasks\n\n");
+                report.append("## Team Performance\n\n");
+                report.append("The team consists of ").append(teamSize).append(" members who are working collaboratively on the project tasks.\n\n");
+                report.append("## Next Steps\n\n");
+                report.append("1. Focus on completing the ").append(inProgressTasks).append(" in-progress tasks\n");
+                report.append("2. Begin planning for the next ").append(Math.min(5, todoTasks)).append(" tasks in the To Do column\n");
+                report.append("3. Schedule a team review for completed work\n\n");
+                break;
+
+            case SPRINT_ANALYSIS:
+                report.append("# Sprint Analysis for ").append(projectName).append("\n\n");
+                report.append("## Sprint Overview\n\n");
+                report.append("The current sprint has ").append(totalTasks).append(" total tasks, with ").append(doneTasks).append(" completed (").append(completionPercentage).append("% completion rate).\n\n");
+                report.append("## Velocity Analysis\n\n");
+                report.append("The team's velocity is trending ").append(completionPercentage > 70 ? "positively" : "below target").append(". ");
+                report.append("Current velocity is approximately ").append(doneTasks).append(" tasks per sprint.\n\n");
+                report.append("## Completed vs Planned Work\n\n");
+                report.append("- **Planned**: ").append(totalTasks).append(" tasks\n");
+                report.append("- **Completed**: ").append(doneTasks).append(" tasks\n");
+                report.append("- **Completion Rate**: ").append(completionPercentage).append("%\n\n");
+                report.append("## Recommendations\n\n");
+                if (completionPercentage < 70) {
+                    report.append("1. Consider reducing the sprint scope in the next planning session\n");
+                    report.append("2. Review any blockers that might be slowing down task completion\n");
+                    report.append("3. Schedule a team retrospective to identify improvement areas\n");
+                } else {
+                    report.append("1. Maintain current sprint velocity and team dynamics\n");
+                    report.append("2. Consider increasing sprint scope if the team feels comfortable\n");
+                    report.append("3. Recognize team members for their excellent performance\n");
+                }
+                break;
+
+            default:
+                report.append("# Custom Report for ").append(projectName).append("\n\n");
+                report.append("## Project Analysis\n\n");
+                report.append("Based on your prompt: \"").append(userPrompt).append("\"\n\n");
+                report.append("The project currently has ").append(totalTasks).append(" tasks with the following breakdown:\n\n");
+                report.append("- **To Do**: ").append(todoTasks).append(" tasks\n");
+                report.append("- **In Progress**: ").append(inProgressTasks).append(" tasks\n");
+                report.append("- **Done**: ").append(doneTasks).append(" tasks\n\n");
+                report.append("The overall completion percentage is ").append(completionPercentage).append("%\n\n");
+                report.append("## Team Overview\n\n");
+                report.append("There are ").append(teamSize).append(" team members working on this project.\n\n");
+                report.append("## Recommendations\n\n");
+                report.append("1. Review the in-progress tasks to ensure they're on track\n");
+                report.append("2. Schedule regular check-ins with the team\n");
+                report.append("3. Prioritize the remaining to-do tasks\n");
+                report.append("4. Document lessons learned from completed tasks\n");
+        }
+
+        return report.toString();
+    }
+}
@@ -0,0 +1,98 @@
+package com.jiraclone.backend.service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jiraclone.backend.config.MembershipIndexConfig;
+import com.jiraclone.backend.repository.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.UnaryOperator;
+
+/**
+ * Answers "is this user a member of this project" without loading the project's member
+ * collection. Each project's member ids are held in a {@link MemberIdSet}, so a check against a
+ * warm project is a hash probe. A cold project is answered by an EXISTS probe on the
+ * project_members primary key while its ids load in the background.
+ * <p>
+ * Writers report membership changes through {@link #memberAdded}, {@link #memberRemoved} and
+ * {@link #projectDeleted}. The change is applied to the index once the transaction commits.
+ * A load still in flight then gets the change chained onto its result, so it cannot install
+ * a member set read before the commit.
+ */
+@Service
+public class ProjectMembershipService {
+
+    static final String CACHE_NAME = "project-membership";
+
+    private final ProjectRepository projectRepository;
+    private final AsyncLoadingCache<Long, MemberIdSet> index;
+
+    public ProjectMembershipService(ProjectRepository projectRepository,
+                                    @Value("${membership-index.max-size:10000}") long maxSize,
+                                    @Value("${membership-index.ttl:3600000}") long ttlMillis,
+                                    MeterRegistry meterRegistry,
+                                    @Qualifier(MembershipIndexConfig.LOAD_EXECUTOR) Executor loadExecutor) {
+        this.projectRepository = projectRepository;
+        this.index = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .executor(loadExecutor)
+                .recordStats()
+                .buildAsync(projectId -> MemberIdSet.of(projectRepository.findMemberIds(projectId)));
+        CaffeineCacheMetrics.monitor(meterRegistry, index, CACHE_NAME);
+    }
+
+    public boolean isMember(Long projectId, Long userId) {
+        CompletableFuture<MemberIdSet> members = index.getIfPresent(projectId);
+        if (members != null && members.isDone() && !members.isCompletedExceptionally()) {
+            return members.join().contains(userId);
+        }
+        if (members == null) {
+            try {
+                index.get(projectId);
+            } catch (RejectedExecutionException e) {
+                // Load pool saturated: skip warming this project, a later check retries
+            }
+        }
+        return projectRepository.existsByIdAndMembersId(projectId, userId);
+    }
+
+    public void memberAdded(Long projectId, Long userId) {
+        afterCommit(() -> update(projectId, members -> members.with(userId)));
+    }
+
+    public void memberRemoved(Long projectId, Long userId) {
+        afterCommit(() -> update(projectId, members -> members.without(userId)));
+    }
+
+    public void projectDeleted(Long projectId) {
+        afterCommit(() -> index.synchronous().invalidate(projectId));
+    }
+
+    private void update(Long projectId, UnaryOperator<MemberIdSet> change) {
+        index.asMap().computeIfPresent(projectId, (id, members) -> members.thenApply(change));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
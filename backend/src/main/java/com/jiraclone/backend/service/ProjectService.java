@@ -3,23 +3,31 @@ package com.jiraclone.backend.service;
 import com.jiraclone.backend.dto.ProjectDTO;
 import com.jiraclone.backend.dto.UserDTO;
 import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.ProjectStatistics;
 import com.jiraclone.backend.model.User;
 import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.TaskKeySequenceRepository;
 import com.jiraclone.backend.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final TaskKeySequenceRepository taskKeySequenceRepository;
+    private final ProjectStatisticsService projectStatisticsService;
+    private final ProjectMembershipService projectMembershipService;
 
     @Transactional
     public ProjectDTO createProject(Project project, String userEmail) {
@@ -33,21 +41,37 @@ public class ProjectService {
         project.setLead(user);
         project.getMembers().add(user);
         Project savedProject = projectRepository.save(project);
-        return ProjectDTO.fromEntity(savedProject);
+        projectStatisticsService.initialize(savedProject.getId());
+        projectMembershipService.memberAdded(savedProject.getId(), user.getId());
+        return toDTO(savedProject);
     }
 
     public ProjectDTO getProjectById(Long id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + id));
-        return ProjectDTO.fromEntity(project);
+        return toDTO(project);
     }
 
+    /**
+     * Lists the user's projects with a fixed number of queries regardless of how many there are:
+     * projects with their leads, then all their members, then their materialized statistics.
+     */
+    @Transactional(readOnly = true)
     public List<ProjectDTO> getProjectsByUser(String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with email: " + userEmail));
 
-        return projectRepository.findByLeadOrMembers(user).stream()
-                .map(ProjectDTO::fromEntity)
+        List<Project> projects = projectRepository.findWithLeadByLeadOrMembers(user);
+        if (projects.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> projectIds = projects.stream().map(Project::getId).collect(Collectors.toList());
+        // Initializes the members of the already loaded projects in the persistence context
+        projectRepository.fetchMembers(projectIds);
+        Map<Long, ProjectStatistics> statistics = projectStatisticsService.getStatistics(projectIds);
+        return projects.stream()
+                .map(project -> ProjectDTO.fromEntity(project, statistics.get(project.getId())))
                 .collect(Collectors.toList());
     }
 
@@ -67,7 +91,7 @@ public class ProjectService {
         project.setKey(projectDetails.getKey());
 
         Project updatedProject = projectRepository.save(project);
-        return ProjectDTO.fromEntity(updatedProject);
+        return toDTO(updatedProject);
     }
 
     @Transactional
@@ -75,7 +99,16 @@ public class ProjectService {
         if (!projectRepository.existsById(id)) {
             throw new EntityNotFoundException("Project not found with ID: " + id);
         }
+        // The task key counter and statistics rows are keyed by the project id, not mapped from it,
+        // so they are removed here, before the project row their foreign keys point at
+        taskKeySequenceRepository.deleteById(id);
+        projectStatisticsService.delete(id);
         projectRepository.deleteById(id);
+        projectMembershipService.projectDeleted(id);
+    }
+
+    private ProjectDTO toDTO(Project project) {
+        return ProjectDTO.fromEntity(project, projectStatisticsService.getStatistics(project.getId()));
     }
 
     @Transactional
@@ -86,13 +119,14 @@ public class ProjectService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + userId));
 
-        if (project.getMembers().contains(user)) {
+        if (projectMembershipService.isMember(projectId, userId)) {
             throw new IllegalArgumentException("User is already a member of this project");
         }
 
         project.getMembers().add(user);
         Project updatedProject = projectRepository.save(project);
-        return ProjectDTO.fromEntity(updatedProject);
+        projectMembershipService.memberAdded(projectId, userId);
+        return toDTO(updatedProject);
     }
 
     @Transactional
@@ -103,7 +137,7 @@ public class ProjectService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + userId));
 
-        if (!project.getMembers().contains(user)) {
+        if (!projectMembershipService.isMember(projectId, userId)) {
             throw new IllegalArgumentException("User is not a member of this project");
         }
 
@@ -114,7 +148,8 @@ public class ProjectService {
 
         project.getMembers().remove(user);
         Project updatedProject = projectRepository.save(project);
-        return ProjectDTO.fromEntity(updatedProject);
+        projectMembershipService.memberRemoved(projectId, userId);
+        return toDTO(updatedProject);
     }
     
 
@@ -126,13 +161,14 @@ public class ProjectService {
         User newLead = userRepository.findById(newLeadId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + newLeadId));
 
-        if (!project.getMembers().contains(newLead)) {
+        if (!projectMembershipService.isMember(projectId, newLeadId)) {
             project.getMembers().add(newLead);
+            projectMembershipService.memberAdded(projectId, newLeadId);
         }
         
         project.setLead(newLead);
         Project updatedProject = projectRepository.save(project);
-        return ProjectDTO.fromEntity(updatedProject);
+        return toDTO(updatedProject);
     }
     
     // Add this method to your ProjectService class
@@ -154,7 +190,7 @@ public List<UserDTO> getProjectMembers(Long projectId) {
         leadDTO.setEmail(project.getLead().getEmail());
         leadDTO.setRole(User.Role.PRODUCT_OWNER);
         membersList.add(leadDTO);
-        System.out.println("Added lead to response: " + project.getLead().getId() + " - " + project.getLead().getName());
+        log.debug("Added lead {} to members of project {}", project.getLead().getId(), projectId);
     }
     
     // Get all members from database using direct SQL
@@ -193,10 +229,10 @@ public List<UserDTO> getProjectMembers(Long projectId) {
         }
         
         membersList.add(memberDTO);
-        System.out.println("Added member to response: " + memberId + " - " + name);
+        log.debug("Added member {} to members of project {}", memberId, projectId);
     }
     
-    System.out.println("Returning " + membersList.size() + " members total");
+    log.debug("Returning {} members for project {}", membersList.size(), projectId);
     return membersList;
 }
     @Transactional
@@ -208,7 +244,7 @@ public void updateMemberRole(Long projectId, Long userId, String roleName) {
             .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + userId));
     
     // Ensure the user is a member of the project
-    boolean isMember = project.getMembers().contains(user);
+    boolean isMember = projectMembershipService.isMember(projectId, userId);
     boolean isLead = project.getLead() != null && project.getLead().getId().equals(user.getId());
     
     if (!isMember && !isLead) {
@@ -241,7 +277,7 @@ public int countMembersByNativeQuery(Long projectId) {
     
     // Get the result as a Number
     Number count = (Number) query.getSingleResult();
-    System.out.println("SQL direct count of members for project " + projectId + ": " + count);
+    log.debug("Project {} has {} members", projectId, count);
     return count.intValue();
 }
 
@@ -0,0 +1,53 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.repository.ProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Nightly job that recounts every project's task statistics from scratch. Each project is
+ * reconciled in its own transaction; projects whose stored counters had drifted are logged
+ * and counted in {@code project.statistics.drift}.
+ */
+@Slf4j
+@Component
+public class ProjectStatisticsReconciler {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectStatisticsService projectStatisticsService;
+    private final Counter driftCounter;
+
+    public ProjectStatisticsReconciler(ProjectRepository projectRepository,
+                                       ProjectStatisticsService projectStatisticsService,
+                                       MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.projectStatisticsService = projectStatisticsService;
+        this.driftCounter = Counter.builder("project.statistics.drift")
+                .description("Projects whose materialized task counters did not match a recount")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${project-statistics.reconcile-cron:0 30 3 * * *}")
+    public void scheduledReconcile() {
+        reconcileAll();
+    }
+
+    /**
+     * @return the number of projects whose counters had drifted
+     */
+    public int reconcileAll() {
+        int drifted = 0;
+        for (Long projectId : projectRepository.findAllIds()) {
+            if (projectStatisticsService.reconcile(projectId)) {
+                drifted++;
+                driftCounter.increment();
+                log.warn("Task statistics for project {} had drifted and were recomputed", projectId);
+            }
+        }
+        log.info("Reconciled task statistics, {} project(s) had drifted", drifted);
+        return drifted;
+    }
+}
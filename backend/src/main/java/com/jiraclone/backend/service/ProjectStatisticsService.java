@@ -0,0 +1,165 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.model.ProjectStatistics;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.ProjectStatisticsRepository;
+import com.jiraclone.backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the per-project task counters in {@link ProjectStatistics}. Task writes apply
+ * relative deltas inside the caller's transaction; {@link #reconcile(Long)} recounts a project
+ * from its tasks and is used both to create missing rows and by the nightly drift check.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectStatisticsService {
+
+    private final ProjectStatisticsRepository statisticsRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+
+    @Transactional
+    public void initialize(Long projectId) {
+        statisticsRepository.save(new ProjectStatistics(projectId));
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectStatistics getStatistics(Long projectId) {
+        return statisticsRepository.findById(projectId).orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, ProjectStatistics> getStatistics(Collection<Long> projectIds) {
+        return statisticsRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(ProjectStatistics::getProjectId, Function.identity()));
+    }
+
+    @Transactional
+    public void delete(Long projectId) {
+        statisticsRepository.deleteById(projectId);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTaskCreated(Long projectId, Task.Status status) {
+        applyDelta(projectId, 1, status, null);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(Long projectId, Task.Status from, Task.Status to) {
+        if (from != to) {
+            applyDelta(projectId, 0, to, from);
+        }
+    }
+
+    /**
+     * Records many tasks of one project moving to the same status as a single counter update.
+     *
+     * @param from the previous status of each task, one entry per task
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChanges(Long projectId, Collection<Task.Status> from, Task.Status to) {
+        long[] delta = new long[Task.Status.values().length];
+        boolean changed = false;
+        for (Task.Status previous : from) {
+            if (previous != to) {
+                add(delta, to, 1);
+                add(delta, previous, -1);
+                changed = true;
+            }
+        }
+        if (changed) {
+            applyDelta(projectId, 0, delta);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTaskDeleted(Long projectId, Task.Status status) {
+        applyDelta(projectId, -1, null, status);
+    }
+
+    /**
+     * Recounts the project's tasks and overwrites its counters, creating the row if missing.
+     * Locks are taken in the order the task writes use: the project row (only to create the
+     * counters), the project's task rows, then the counters row.
+     *
+     * @return {@code true} if an existing row held counts that did not match the recount
+     */
+    @Transactional
+    public boolean reconcile(Long projectId) {
+        // Plain existence check first: a locking read on a missing row would take a gap lock
+        if (!statisticsRepository.existsById(projectId)) {
+            // Lock the project row so only one transaction creates the counters
+            projectRepository.findByIdForUpdate(projectId);
+        }
+
+        // A locking read sees the latest committed tasks whatever snapshot this transaction already
+        // holds, and keeps them from changing until the counters below are written
+        ProjectStatistics actual = count(projectId);
+        ProjectStatistics statistics = statisticsRepository.findForUpdate(projectId).orElse(null);
+
+        boolean created = statistics == null;
+        if (created) {
+            statistics = new ProjectStatistics(projectId);
+        }
+
+        boolean drifted = !created && !statistics.hasSameCountsAs(actual);
+        statistics.copyCountsFrom(actual);
+        statistics.setReconciledAt(LocalDateTime.now());
+        statisticsRepository.save(statistics);
+        return drifted;
+    }
+
+    private void applyDelta(Long projectId, long total, Task.Status added, Task.Status removed) {
+        long[] delta = new long[Task.Status.values().length];
+        add(delta, added, 1);
+        add(delta, removed, -1);
+        applyDelta(projectId, total, delta);
+    }
+
+    private void applyDelta(Long projectId, long total, long[] delta) {
+        if (!statisticsRepository.existsById(projectId)) {
+            // The recount already sees this transaction's task changes
+            reconcile(projectId);
+            return;
+        }
+
+        statisticsRepository.applyDelta(projectId, total,
+                delta[Task.Status.TODO.ordinal()],
+                delta[Task.Status.IN_PROGRESS.ordinal()],
+                delta[Task.Status.IN_REVIEW.ordinal()],
+                delta[Task.Status.DONE.ordinal()]);
+    }
+
+    private static void add(long[] delta, Task.Status status, long change) {
+        if (status != null) {
+            delta[status.ordinal()] += change;
+        }
+    }
+
+    private ProjectStatistics count(Long projectId) {
+        ProjectStatistics counts = new ProjectStatistics(projectId);
+        long[] byStatus = new long[Task.Status.values().length];
+        List<Task.Status> statuses = taskRepository.findStatusesForUpdate(projectId);
+        for (Task.Status status : statuses) {
+            add(byStatus, status, 1);
+        }
+        counts.setTotalTasks(statuses.size());
+        counts.setTodoTasks(byStatus[Task.Status.TODO.ordinal()]);
+        counts.setInProgressTasks(byStatus[Task.Status.IN_PROGRESS.ordinal()]);
+        counts.setInReviewTasks(byStatus[Task.Status.IN_REVIEW.ordinal()]);
+        counts.setDoneTasks(byStatus[Task.Status.DONE.ordinal()]);
+        return counts;
+    }
+}
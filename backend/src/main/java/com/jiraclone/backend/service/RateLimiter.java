@@ -0,0 +1,38 @@
+package com.jiraclone.backend.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spaces calls evenly at a fixed rate: each {@link #acquire()} reserves the next free slot
+ * and sleeps until it comes up, so concurrent callers never exceed the rate even in bursts.
+ * A non-positive rate disables limiting.
+ */
+class RateLimiter {
+
+    private final long intervalNanos;
+    private long nextSlotNanos = System.nanoTime();
+
+    RateLimiter(double permitsPerSecond) {
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+    }
+
+    /**
+     * @return how long the caller waited, in nanoseconds
+     */
+    long acquire() throws InterruptedException {
+        if (intervalNanos == 0) {
+            return 0;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextSlotNanos);
+            nextSlotNanos = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return waitNanos;
+    }
+}
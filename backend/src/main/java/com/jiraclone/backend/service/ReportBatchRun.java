@@ -0,0 +1,73 @@
+package com.jiraclone.backend.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of one batch report run. Counters are updated by the batch workers and read by
+ * the status endpoint while the run is in progress.
+ */
+@Getter
+public class ReportBatchRun {
+
+    public enum Status {
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Instant startedAt = Instant.now();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile int totalProjects;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger succeeded = new AtomicInteger();
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger failed = new AtomicInteger();
+
+    public int getSucceeded() {
+        return succeeded.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+
+    void setTotalProjects(int totalProjects) {
+        this.totalProjects = totalProjects;
+    }
+
+    void recordSucceeded(int count) {
+        succeeded.addAndGet(count);
+    }
+
+    void recordFailed(int count) {
+        failed.addAndGet(count);
+    }
+
+    void markSucceeded() {
+        finish(Status.SUCCEEDED);
+    }
+
+    void markFailed(String error) {
+        this.error = error;
+        finish(Status.FAILED);
+    }
+
+    private void finish(Status status) {
+        finishedAt = Instant.now();
+        this.status = status;
+    }
+}
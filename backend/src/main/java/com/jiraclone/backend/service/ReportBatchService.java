@@ -0,0 +1,245 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.dto.ReportBatchRunDTO;
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Report;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.ReportRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Nightly {@link Report.ReportType#STATUS_REPORT} for every active project, i.e. one with a
+ * running sprint or task changes within {@code report-batch.active-days}. Projects are taken
+ * in chunks: a chunk's contexts come from one set of grouped queries, its upstream calls fan
+ * out over {@code report-batch.concurrency} workers paced by {@code report-batch.rate-per-second},
+ * and its reports are written in a single transaction. One run at a time; progress is
+ * available from {@link #getLatestRun()} and the {@code report.batch.*} meters.
+ */
+@Slf4j
+@Service
+public class ReportBatchService {
+
+    private final ReportService reportService;
+    private final ReportContextBuilder reportContextBuilder;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ReportRepository reportRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final int chunkSize;
+    private final int activeDays;
+    private final String authorEmail;
+    private final String prompt;
+
+    private final ExecutorService coordinator;
+    private final ExecutorService workers;
+    private final RateLimiter rateLimiter;
+    private final AtomicReference<ReportBatchRun> latestRun = new AtomicReference<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Counter succeededCounter;
+    private final Counter failedCounter;
+    private final Timer runTimer;
+    private final Timer throttleTimer;
+
+    public ReportBatchService(ReportService reportService,
+                              ReportContextBuilder reportContextBuilder,
+                              ProjectRepository projectRepository,
+                              UserRepository userRepository,
+                              ReportRepository reportRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${report-batch.concurrency:4}") int concurrency,
+                              @Value("${report-batch.rate-per-second:2}") double ratePerSecond,
+                              @Value("${report-batch.chunk-size:50}") int chunkSize,
+                              @Value("${report-batch.active-days:14}") int activeDays,
+                              @Value("${report-batch.author-email:}") String authorEmail,
+                              @Value("${report-batch.prompt:Summarize the current status of the project, recent progress and the main risks.}") String prompt) {
+        this.reportService = reportService;
+        this.reportContextBuilder = reportContextBuilder;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.reportRepository = reportRepository;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.activeDays = activeDays;
+        this.authorEmail = authorEmail;
+        this.prompt = prompt;
+
+        this.coordinator = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("report-batch-run-"));
+        this.workers = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("report-batch-"));
+        this.rateLimiter = new RateLimiter(ratePerSecond);
+
+        Gauge.builder("report.batch.in-flight", inFlight, AtomicInteger::get)
+                .description("Batch report generations currently in progress")
+                .register(meterRegistry);
+        this.succeededCounter = projectCounter(meterRegistry, "success");
+        this.failedCounter = projectCounter(meterRegistry, "failure");
+        this.runTimer = Timer.builder("report.batch.duration")
+                .description("Time taken by a whole batch report run")
+                .register(meterRegistry);
+        this.throttleTimer = Timer.builder("report.batch.throttle")
+                .description("Time batch upstream calls waited for the rate limit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter projectCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("report.batch.projects")
+                .description("Projects processed by batch report runs")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${report-batch.cron:0 0 2 * * *}")
+    public void scheduledRun() {
+        try {
+            start();
+        } catch (IllegalStateException e) {
+            log.warn("Skipping scheduled report batch: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Starts a run in the background.
+     *
+     * @throws IllegalStateException if a run is already in progress
+     */
+    public ReportBatchRunDTO start() {
+        ReportBatchRun run = new ReportBatchRun();
+        ReportBatchRun previous = latestRun.getAndUpdate(
+                current -> current != null && !current.isFinished() ? current : run);
+        if (previous != null && !previous.isFinished()) {
+            throw new IllegalStateException("Report batch " + previous.getId() + " is still running");
+        }
+        coordinator.execute(() -> execute(run));
+        return ReportBatchRunDTO.fromRun(run);
+    }
+
+    public Optional<ReportBatchRunDTO> getLatestRun() {
+        return Optional.ofNullable(latestRun.get()).map(ReportBatchRunDTO::fromRun);
+    }
+
+    private void execute(ReportBatchRun run) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            User author = resolveAuthor();
+            List<Project> projects = projectRepository.findActiveWithLead(LocalDateTime.now().minusDays(activeDays));
+            run.setTotalProjects(projects.size());
+            log.info("Report batch {} started for {} project(s)", run.getId(), projects.size());
+
+            for (int from = 0; from < projects.size(); from += chunkSize) {
+                processChunk(run, projects.subList(from, Math.min(from + chunkSize, projects.size())), author);
+            }
+            run.markSucceeded();
+            log.info("Report batch {} finished: {} succeeded, {} failed",
+                    run.getId(), run.getSucceeded(), run.getFailed());
+        } catch (RuntimeException e) {
+            log.error("Report batch {} failed", run.getId(), e);
+            run.markFailed(e.getMessage());
+        } finally {
+            sample.stop(runTimer);
+        }
+    }
+
+    private void processChunk(ReportBatchRun run, List<Project> chunk, User author) {
+        Map<Long, ReportContext> contexts = reportContextBuilder.buildAll(chunk);
+
+        List<CompletableFuture<Report>> pending = new ArrayList<>(chunk.size());
+        for (Project project : chunk) {
+            ReportContext context = contexts.get(project.getId());
+            pending.add(CompletableFuture.supplyAsync(() -> generate(project, context, author), workers));
+        }
+
+        List<Report> reports = new ArrayList<>(chunk.size());
+        for (CompletableFuture<Report> future : pending) {
+            Report report = future.join();
+            if (report != null) {
+                reports.add(report);
+            }
+        }
+        // saveAll runs in one transaction, so the chunk costs one commit rather than one per report
+        reportRepository.saveAll(reports);
+
+        int failed = chunk.size() - reports.size();
+        run.recordSucceeded(reports.size());
+        run.recordFailed(failed);
+        succeededCounter.increment(reports.size());
+        failedCounter.increment(failed);
+    }
+
+    // Never throws: a failed project is logged and returns null so the rest of the chunk is kept
+    private Report generate(Project project, ReportContext context, User author) {
+        inFlight.incrementAndGet();
+        try {
+            // Offline renders cost nothing upstream, so only real calls are paced
+            if (reportService.isApiKeyConfigured()) {
+                throttleTimer.record(rateLimiter.acquire(), TimeUnit.NANOSECONDS);
+            }
+            String content = reportService.generateContent(context, prompt, Report.ReportType.STATUS_REPORT);
+            if (content == null) {
+                log.warn("Batch report for project {} got no completion", project.getId());
+                return null;
+            }
+            return reportService.newReport(project, author, prompt, Report.ReportType.STATUS_REPORT, content);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (RuntimeException e) {
+            log.warn("Batch report for project {} failed: {}", project.getId(), e.getMessage());
+            return null;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private User resolveAuthor() {
+        if (authorEmail == null || authorEmail.isBlank()) {
+            return null;
+        }
+        Optional<User> author = userRepository.findByEmail(authorEmail);
+        if (author.isEmpty()) {
+            log.warn("Batch report author {} not found, reports will have no author", authorEmail);
+        }
+        return author.orElse(null);
+    }
+
+    /**
+     * Lets a run in progress finish its chunks for up to 30 seconds, then interrupts it. The
+     * coordinator stops first because it keeps handing work to the workers.
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        coordinator.shutdown();
+        if (!coordinator.awaitTermination(30, TimeUnit.SECONDS)) {
+            coordinator.shutdownNow();
+            workers.shutdownNow();
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.jiraclone.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jiraclone.backend.model.Report;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Bounded, TTL-evicting cache of generated report bodies keyed by a fingerprint of
+ * everything that goes into the LLM request: report type, normalized prompt and the
+ * rendered project context, plus the latest task change as the data version. Regenerating
+ * a report on an unchanged project is served from here instead of a new upstream call.
+ */
+@Component
+public class ReportContentCache {
+
+    static final String CACHE_NAME = "report-content";
+
+    private final Cache<String, String> cache;
+    private final Counter savedCalls;
+
+    public ReportContentCache(@Value("${report-cache.max-size:500}") long maxSize,
+                              @Value("${report-cache.ttl:21600000}") long ttlMillis,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.savedCalls = Counter.builder("report.cache.upstream.saved")
+                .description("Report generations served from cache instead of calling the LLM")
+                .register(meterRegistry);
+    }
+
+    public Optional<String> get(String fingerprint) {
+        String content = cache.getIfPresent(fingerprint);
+        if (content != null) {
+            savedCalls.increment();
+        }
+        return Optional.ofNullable(content);
+    }
+
+    public void put(String fingerprint, String content) {
+        if (content != null) {
+            cache.put(fingerprint, content);
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public static String fingerprint(ReportContext context, String prompt, Report.ReportType type) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            update(sha256, String.valueOf(context.getProjectId()));
+            update(sha256, type.name());
+            update(sha256, normalizePrompt(prompt));
+            update(sha256, String.valueOf(context.getTasks().getLastUpdated()));
+            update(sha256, ReportPromptRenderer.render(context));
+            return HexFormat.of().formatHex(sha256.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Case and whitespace differences should not defeat the cache
+    static String normalizePrompt(String prompt) {
+        if (prompt == null) {
+            return "";
+        }
+        return prompt.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static void update(MessageDigest digest, String part) {
+        digest.update(part.getBytes(StandardCharsets.UTF_8));
+        // Separator so ("ab", "c") and ("a", "bc") hash differently
+        digest.update((byte) 0);
+    }
+}
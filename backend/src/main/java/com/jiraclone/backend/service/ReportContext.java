@@ -0,0 +1,48 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.model.Sprint;
+import com.jiraclone.backend.model.Task;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything a report is generated from, gathered once by {@link ReportContextBuilder}.
+ * {@link ReportPromptRenderer} turns it into the LLM prompt context and
+ * {@link OfflineReportRenderer} into a report without any upstream call.
+ */
+@Value
+@Builder
+public class ReportContext {
+
+    Long projectId;
+    String projectName;
+    String projectKey;
+    String description;
+    String leadName;
+
+    TaskTotals tasks;
+
+    long teamSize;
+
+    Map<Sprint.Status, Long> sprintsByStatus;
+    List<ActiveSprint> activeSprints;
+
+    public int getCompletionPercentage() {
+        long total = tasks.getTotal();
+        return total > 0 ? (int) (tasks.getCount(Task.Status.DONE) * 100 / total) : 0;
+    }
+
+    @Value
+    public static class ActiveSprint {
+        String name;
+        LocalDate endDate;
+        long totalTasks;
+        long doneTasks;
+        long estimatedHours;
+        long loggedHours;
+    }
+}
@@ -0,0 +1,136 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Sprint;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.SprintRepository;
+import com.jiraclone.backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the {@link ReportContext} for a report. Kept apart from {@link ReportService} so
+ * the reads run in their own short read-only transaction that is closed before the (slow)
+ * upstream call starts. Every figure comes from grouped queries, so the cost does not grow
+ * with the number of tasks.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportContextBuilder {
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final SprintRepository sprintRepository;
+
+    @Transactional(readOnly = true)
+    public ReportContext build(Project project) {
+        Long projectId = project.getId();
+        TaskTotals tasks = TaskTotals.of(taskRepository.aggregateByProject(projectId));
+        long teamSize = projectRepository.countMembers(projectId);
+        List<SprintRepository.SprintHeader> sprints = sprintRepository.findHeadersByProjectId(projectId);
+        return assemble(project, tasks, teamSize, sprints, sumActiveSprints(sprints));
+    }
+
+    /**
+     * Contexts for many projects with the same handful of grouped queries {@link #build} uses
+     * for one, each filtering by the whole id set. Leads must already be loaded.
+     *
+     * @return contexts keyed by project id, in the order of {@code projects}
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ReportContext> buildAll(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> projectIds = projects.stream().map(Project::getId).toList();
+
+        Map<Long, List<TaskRepository.TaskAggregate>> rows = new HashMap<>();
+        for (TaskRepository.ProjectTaskAggregate row : taskRepository.aggregateByProjects(projectIds)) {
+            rows.computeIfAbsent(row.getProjectId(), id -> new ArrayList<>()).add(row);
+        }
+        Map<Long, Long> teamSizes = new HashMap<>();
+        for (ProjectRepository.MemberCount count : projectRepository.countMembersByProject(projectIds)) {
+            teamSizes.put(count.getProjectId(), count.getCount());
+        }
+        Map<Long, List<SprintRepository.SprintHeader>> sprints = new HashMap<>();
+        List<SprintRepository.SprintHeader> allSprints = new ArrayList<>();
+        for (SprintRepository.ProjectSprintHeader sprint : sprintRepository.findHeadersByProjectIds(projectIds)) {
+            sprints.computeIfAbsent(sprint.getProjectId(), id -> new ArrayList<>()).add(sprint);
+            allSprints.add(sprint);
+        }
+        Map<Long, long[]> sprintTotals = sumActiveSprints(allSprints);
+
+        Map<Long, ReportContext> contexts = new LinkedHashMap<>();
+        for (Project project : projects) {
+            Long projectId = project.getId();
+            contexts.put(projectId, assemble(project,
+                    TaskTotals.of(rows.getOrDefault(projectId, List.of())),
+                    teamSizes.getOrDefault(projectId, 0L),
+                    sprints.getOrDefault(projectId, List.of()),
+                    sprintTotals));
+        }
+        return contexts;
+    }
+
+    private ReportContext assemble(Project project, TaskTotals tasks, long teamSize,
+                                   List<SprintRepository.SprintHeader> sprints, Map<Long, long[]> sprintTotals) {
+        Map<Sprint.Status, Long> sprintsByStatus = new EnumMap<>(Sprint.Status.class);
+        for (Sprint.Status status : Sprint.Status.values()) {
+            sprintsByStatus.put(status, 0L);
+        }
+        List<ReportContext.ActiveSprint> activeSprints = new ArrayList<>();
+        for (SprintRepository.SprintHeader sprint : sprints) {
+            if (sprint.getStatus() != null) {
+                sprintsByStatus.merge(sprint.getStatus(), 1L, Long::sum);
+            }
+            if (sprint.getStatus() == Sprint.Status.ACTIVE) {
+                long[] sums = sprintTotals.getOrDefault(sprint.getId(), new long[4]);
+                activeSprints.add(new ReportContext.ActiveSprint(sprint.getName(), sprint.getEndDate(),
+                        sums[0], sums[1], sums[2], sums[3]));
+            }
+        }
+
+        return ReportContext.builder()
+                .projectId(project.getId())
+                .projectName(project.getName())
+                .projectKey(project.getKey())
+                .description(project.getDescription())
+                .leadName(project.getLead() != null ? project.getLead().getName() : null)
+                .tasks(tasks)
+                .teamSize(teamSize)
+                .sprintsByStatus(sprintsByStatus)
+                .activeSprints(activeSprints)
+                .build();
+    }
+
+    // [total, done, estimated, logged] per active sprint; no query when none is active
+    private Map<Long, long[]> sumActiveSprints(List<SprintRepository.SprintHeader> sprints) {
+        List<Long> sprintIds = sprints.stream()
+                .filter(sprint -> sprint.getStatus() == Sprint.Status.ACTIVE)
+                .map(SprintRepository.SprintHeader::getId)
+                .toList();
+        if (sprintIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, long[]> totals = new HashMap<>();
+        for (TaskRepository.SprintStatusTotals row : taskRepository.summarizeBySprint(sprintIds)) {
+            long[] sums = totals.computeIfAbsent(row.getSprintId(), id -> new long[4]);
+            sums[0] += row.getCount();
+            if (row.getStatus() == Task.Status.DONE) {
+                sums[1] += row.getCount();
+            }
+            sums[2] += row.getEstimatedHours();
+            sums[3] += row.getLoggedHours();
+        }
+        return totals;
+    }
+}
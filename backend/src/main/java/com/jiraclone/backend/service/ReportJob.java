@@ -0,0 +1,71 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.model.Report;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * In-memory state of one queued report generation. Written by a single worker thread and
+ * read by pollers, hence the volatile fields; {@link #completion()} completes once the job
+ * reaches a terminal status. Only the id of the stored report is kept, not its body.
+ */
+@Getter
+public class ReportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long projectId;
+    private final Report.ReportType type;
+    private final Instant submittedAt = Instant.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile Long reportId;
+    private volatile String error;
+
+    private final CompletableFuture<ReportJob> completion = new CompletableFuture<>();
+
+    ReportJob(Long projectId, Report.ReportType type) {
+        this.projectId = projectId;
+        this.type = type;
+    }
+
+    public boolean isFinished() {
+        return status == Status.SUCCEEDED || status == Status.FAILED;
+    }
+
+    CompletableFuture<ReportJob> completion() {
+        return completion;
+    }
+
+    void markRunning() {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    void markSucceeded(Long reportId) {
+        this.reportId = reportId;
+        finish(Status.SUCCEEDED);
+    }
+
+    void markFailed(String error) {
+        this.error = error;
+        finish(Status.FAILED);
+    }
+
+    private void finish(Status terminal) {
+        finishedAt = Instant.now();
+        status = terminal;
+        completion.complete(this);
+    }
+}
@@ -0,0 +1,200 @@
+package com.jiraclone.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jiraclone.backend.dto.ReportDTO;
+import com.jiraclone.backend.dto.ReportJobDTO;
+import com.jiraclone.backend.logging.CorrelationIdFilter;
+import com.jiraclone.backend.model.Report;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs report generation off the request thread. Jobs go to a fixed-size worker pool with a
+ * bounded queue (a full queue rejects new jobs instead of piling up upstream calls) and are
+ * kept in memory for {@code report-jobs.retention}, at most {@code report-jobs.max-retained} of
+ * them, so clients can poll for the result. Finished jobs hold only the report id; the report
+ * is loaded when a client reads the job.
+ */
+@Slf4j
+@Service
+public class ReportJobService {
+
+    private final ReportService reportService;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor statusLoader;
+    private final Cache<String, ReportJob> jobs;
+
+    private final Timer waitTimer;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter rejectedCounter;
+
+    public ReportJobService(ReportService reportService,
+                            ProjectRepository projectRepository,
+                            UserRepository userRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${report-jobs.workers:4}") int workers,
+                            @Value("${report-jobs.queue-capacity:100}") int queueCapacity,
+                            @Value("${report-jobs.retention:3600000}") long retentionMillis,
+                            @Value("${report-jobs.max-retained:10000}") long maxRetained,
+                            @Value("${report-jobs.status-threads:2}") int statusThreads,
+                            @Value("${report-jobs.status-queue-capacity:200}") int statusQueueCapacity) {
+        this.reportService = reportService;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("report-job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        // Long-polls that end when a job completes or times out load the report here, not on the
+        // job worker or the JDK's timeout thread that completed them
+        this.statusLoader = new ThreadPoolExecutor(statusThreads, statusThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(statusQueueCapacity), new CustomizableThreadFactory("report-job-status-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(retentionMillis))
+                .maximumSize(maxRetained)
+                .build();
+
+        Gauge.builder("report.jobs.queue.depth", executor, e -> e.getQueue().size())
+                .description("Report jobs waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("report.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Report jobs currently being generated")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("report.jobs.wait")
+                .description("Time report jobs spend queued before a worker picks them up")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.successTimer = jobTimer(meterRegistry, "success");
+        this.failureTimer = jobTimer(meterRegistry, "failure");
+        this.rejectedCounter = Counter.builder("report.jobs.rejected")
+                .description("Report jobs rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    private static Timer jobTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("report.jobs.duration")
+                .description("Time from a worker picking up a report job until it finishes")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a report for generation. Project and author are checked up front so obvious
+     * mistakes fail the request instead of the job.
+     *
+     * @throws EntityNotFoundException if the project or user does not exist
+     * @throws RejectedExecutionException if the job queue is full
+     */
+    public ReportJobDTO submit(Long projectId, String userEmail, String prompt, Report.ReportType type) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found with ID: " + projectId);
+        }
+        if (userRepository.findByEmail(userEmail).isEmpty()) {
+            throw new EntityNotFoundException("User not found with email: " + userEmail);
+        }
+
+        ReportJob job = new ReportJob(projectId, type);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(CorrelationIdFilter.propagate(() -> run(job, userEmail, prompt)));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getId());
+            rejectedCounter.increment();
+            throw e;
+        }
+        return ReportJobDTO.fromJob(job, null);
+    }
+
+    public Optional<ReportJobDTO> getJob(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId)).map(this::toDto);
+    }
+
+    /**
+     * Returns the job once it has finished or {@code maxWait} has elapsed, whichever comes
+     * first, without blocking the caller's thread (long polling). Completes exceptionally with
+     * {@link RejectedExecutionException} if too many polls are already loading their report.
+     */
+    public CompletableFuture<Optional<ReportJobDTO>> awaitJob(String jobId, Duration maxWait) {
+        ReportJob job = jobs.getIfPresent(jobId);
+        if (job == null || job.isFinished() || maxWait.isZero()) {
+            return CompletableFuture.completedFuture(Optional.ofNullable(job).map(this::toDto));
+        }
+        // copy() so the timeout only completes this caller's view, not the job itself
+        return job.completion().copy()
+                .completeOnTimeout(job, maxWait.toMillis(), TimeUnit.MILLISECONDS)
+                .thenCompose(this::loadDto);
+    }
+
+    private CompletableFuture<Optional<ReportJobDTO>> loadDto(ReportJob job) {
+        try {
+            return CompletableFuture.supplyAsync(() -> Optional.of(toDto(job)), statusLoader);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private ReportJobDTO toDto(ReportJob job) {
+        ReportDTO report = null;
+        if (job.getReportId() != null) {
+            try {
+                report = reportService.getReportById(job.getReportId());
+            } catch (EntityNotFoundException e) {
+                // Deleted since the job finished; the job still reports its id
+            }
+        }
+        return ReportJobDTO.fromJob(job, report);
+    }
+
+    int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private void run(ReportJob job, String userEmail, String prompt) {
+        job.markRunning();
+        waitTimer.record(Duration.between(job.getSubmittedAt(), job.getStartedAt()));
+        long start = System.nanoTime();
+        try {
+            ReportDTO report = reportService.generateReport(job.getProjectId(), userEmail, prompt, job.getType());
+            // Record before completing so anyone woken by the job sees the metric
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            job.markSucceeded(report.getId());
+        } catch (RuntimeException e) {
+            log.warn("Report job {} for project {} failed", job.getId(), job.getProjectId(), e);
+            failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            job.markFailed(e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        statusLoader.shutdown();
+    }
+}
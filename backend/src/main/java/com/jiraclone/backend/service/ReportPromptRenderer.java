@@ -0,0 +1,66 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.model.Task;
+
+import java.util.Map;
+
+/**
+ * Renders a {@link ReportContext} as the plain-text project data sent to the LLM along with
+ * the user's prompt.
+ */
+public final class ReportPromptRenderer {
+
+    private ReportPromptRenderer() {
+    }
+
+    public static String render(ReportContext context) {
+        TaskTotals tasks = context.getTasks();
+        StringBuilder text = new StringBuilder(1024);
+        text.append("Project Name: ").append(context.getProjectName()).append("\n");
+        text.append("Project Key: ").append(context.getProjectKey()).append("\n");
+        if (context.getDescription() != null && !context.getDescription().isEmpty()) {
+            text.append("Description: ").append(context.getDescription()).append("\n");
+        }
+
+        text.append("\nTask Statistics:\n");
+        text.append("- Total Tasks: ").append(tasks.getTotal()).append("\n");
+        text.append("- To Do: ").append(tasks.getCount(Task.Status.TODO)).append("\n");
+        text.append("- In Progress: ").append(tasks.getCount(Task.Status.IN_PROGRESS)).append("\n");
+        text.append("- In Review: ").append(tasks.getCount(Task.Status.IN_REVIEW)).append("\n");
+        text.append("- Done: ").append(tasks.getCount(Task.Status.DONE)).append("\n");
+        text.append("- Completion: ").append(context.getCompletionPercentage()).append("%\n");
+        text.append("- Estimated Hours: ").append(tasks.getEstimatedHours()).append("\n");
+        text.append("- Logged Hours: ").append(tasks.getLoggedHours()).append("\n");
+
+        appendBreakdown(text, "Tasks by Priority", tasks.getByPriority());
+        appendBreakdown(text, "Tasks by Type", tasks.getByType());
+        text.append("\nTasks by Assignee:\n");
+        for (TaskTotals.AssigneeCount assignee : tasks.getByAssignee().values()) {
+            text.append("- ").append(assignee.getName()).append(": ").append(assignee.getCount()).append("\n");
+        }
+
+        text.append("\nSprints:\n");
+        context.getSprintsByStatus().forEach((status, count) ->
+                text.append("- ").append(status).append(": ").append(count).append("\n"));
+        for (ReportContext.ActiveSprint sprint : context.getActiveSprints()) {
+            text.append("- Active Sprint \"").append(sprint.getName()).append("\"");
+            if (sprint.getEndDate() != null) {
+                text.append(" ending ").append(sprint.getEndDate());
+            }
+            text.append(": ").append(sprint.getDoneTasks()).append("/").append(sprint.getTotalTasks())
+                    .append(" tasks done, ").append(sprint.getLoggedHours()).append("/")
+                    .append(sprint.getEstimatedHours()).append(" hours logged\n");
+        }
+
+        text.append("\nTeam Information:\n");
+        text.append("- Team Size: ").append(context.getTeamSize()).append("\n");
+        text.append("- Project Lead: ").append(context.getLeadName() != null ? context.getLeadName() : "Not assigned").append("\n");
+
+        return text.toString();
+    }
+
+    private static void appendBreakdown(StringBuilder text, String heading, Map<?, Long> counts) {
+        text.append("\n").append(heading).append(":\n");
+        counts.forEach((key, count) -> text.append("- ").append(key).append(": ").append(count).append("\n"));
+    }
+}
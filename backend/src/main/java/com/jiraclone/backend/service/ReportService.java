@@ -1,33 +1,66 @@
 package com.jiraclone.backend.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jiraclone.backend.dto.ReportDTO;
+import com.jiraclone.backend.dto.ReportSummaryDTO;
+import com.jiraclone.backend.logging.CorrelationIdFilter;
 import com.jiraclone.backend.model.Project;
 import com.jiraclone.backend.model.Report;
-import com.jiraclone.backend.model.Task;
 import com.jiraclone.backend.model.User;
 import com.jiraclone.backend.repository.ProjectRepository;
 import com.jiraclone.backend.repository.ReportRepository;
-import com.jiraclone.backend.repository.TaskRepository;
 import com.jiraclone.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class ReportService {
 
+    static final String FIRST_CHUNK_TIMER = "report.stream.first-chunk";
+
     private final ReportRepository reportRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
-    private final TaskRepository taskRepository;
+    private final ReportContextBuilder reportContextBuilder;
+    // Shared pooled client, see ReportClientConfig
+    private final RestTemplate reportRestTemplate;
+    private final ReportContentCache reportContentCache;
+    // Non-blocking client for streamed completions, see ReportClientConfig
+    private final HttpClient reportStreamingClient;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Context reads, offline rendering and cache hits of streamed reports, kept off request threads
+    private final ExecutorService streamWorkers =
+            Executors.newFixedThreadPool(4, new CustomizableThreadFactory("report-stream-"));
 
     @Value("${openai.api.key:}")
     private String openaiApiKey;
@@ -35,15 +68,19 @@ public class ReportService {
     @Value("${openai.api.url:https://api.openai.com/v1/chat/completions}")
     private String openaiApiUrl;
 
-    // Get all reports for a project
-    public List<ReportDTO> getReportsByProject(Long projectId) {
-        return reportRepository.findByProjectIdOrderByCreatedAtDesc(projectId)
+    @Value("${report-client.read-timeout:60000}")
+    private long readTimeoutMillis;
+
+    // Get all reports for a project, without their bodies
+    public List<ReportSummaryDTO> getReportsByProject(Long projectId) {
+        return reportRepository.findSummariesByProjectId(projectId)
                 .stream()
-                .map(ReportDTO::fromEntity)
+                .map(ReportSummaryDTO::fromSummary)
                 .collect(Collectors.toList());
     }
 
-    // Get a specific report
+    // Get a specific report; its body is loaded and decompressed here
+    @Transactional(readOnly = true)
     public ReportDTO getReportById(Long reportId) {
         Report report = reportRepository.findById(reportId)
                 .orElseThrow(() -> new EntityNotFoundException("Report not found with ID: " + reportId));
@@ -59,85 +96,196 @@ public class ReportService {
         reportRepository.deleteById(reportId);
     }
 
-    // Generate a report using ChatGPT
-    @Transactional
-public ReportDTO generateReport(Long projectId, String userEmail, String prompt, Report.ReportType type) {
-    // Get project
-    Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + projectId));
-
-    // Get user
-    User user = userRepository.findByEmail(userEmail)
-            .orElseThrow(() -> new EntityNotFoundException("User not found with email: " + userEmail));
-
-    // Gather project data for context
-    Map<String, Object> projectData = new HashMap<>();
-    projectData.put("name", project.getName());
-    projectData.put("key", project.getKey());
-    projectData.put("description", project.getDescription());
-
-    // Get tasks data
-    // REMOVE THIS DUPLICATE PROJECT DECLARATION:
-    // Project project = projectRepository.findById(projectId)
-    // .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + projectId));
-    
-    // Just use the existing project variable:
-    List<Task> tasks = taskRepository.findByProjectId(projectId);
-        Map<String, Integer> taskStatusCounts = new HashMap<>();
-    taskStatusCounts.put("TODO", 0);
-    taskStatusCounts.put("IN_PROGRESS", 0);
-    taskStatusCounts.put("DONE", 0);
-
-
-        for (Task task : tasks) {
-            String status = task.getStatus().name();
-            taskStatusCounts.put(status, taskStatusCounts.getOrDefault(status, 0) + 1);
+    /**
+     * Generates and stores a report. Deliberately not transactional: the upstream completion
+     * can take seconds, so only the context reads and the final insert hold a connection.
+     * Called from {@link ReportJobService} workers rather than request threads.
+     */
+    public ReportDTO generateReport(Long projectId, String userEmail, String prompt, Report.ReportType type) {
+        log.debug("Starting report generation for project {}", projectId);
+
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + projectId));
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with email: " + userEmail));
+
+        ReportContext context = reportContextBuilder.build(project);
+
+        // Generate report content using ChatGPT
+        String reportContent = generateReportContent(context, prompt, type);
+
+        return saveReport(project, user, prompt, type, reportContent);
+    }
+
+    /**
+     * Resolves project and user for a streamed report, so unknown ids fail before the caller
+     * commits to a response. Nothing is generated until {@link ReportStream#start} is called.
+     *
+     * @throws EntityNotFoundException if the project or user does not exist
+     */
+    public ReportStream prepareStream(Long projectId, String userEmail, String prompt, Report.ReportType type) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + projectId));
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with email: " + userEmail));
+        return new ReportStream(project, user, prompt, type);
+    }
+
+    /**
+     * A streamed report whose project and author have been resolved, see {@link #prepareStream}.
+     */
+    public class ReportStream {
+
+        private final Project project;
+        private final User user;
+        private final String prompt;
+        private final Report.ReportType type;
+
+        private ReportStream(Project project, User user, String prompt, Report.ReportType type) {
+            this.project = project;
+            this.user = user;
+            this.prompt = prompt;
+            this.type = type;
         }
 
-        // Create project context for ChatGPT
-        StringBuilder contextBuilder = new StringBuilder();
-        contextBuilder.append("Project Name: ").append(project.getName()).append("\n");
-        contextBuilder.append("Project Key: ").append(project.getKey()).append("\n");
-        if (project.getDescription() != null && !project.getDescription().isEmpty()) {
-            contextBuilder.append("Description: ").append(project.getDescription()).append("\n");
+        /**
+         * Generates the report with the upstream's streaming mode and stores it once the stream
+         * ends. Runs on a stream worker, which calls {@code onStarted} and then passes each piece
+         * of content to {@code onChunk} as it arrives; the exchange itself holds no thread while
+         * waiting for tokens. Cancelling the returned future aborts the upstream call and nothing
+         * is stored.
+         *
+         * @throws RejectedExecutionException if the stream workers have been shut down
+         */
+        public CompletableFuture<ReportDTO> start(Runnable onStarted, Consumer<String> onChunk) {
+            CompletableFuture<ReportDTO> report = new CompletableFuture<>();
+            streamWorkers.execute(CorrelationIdFilter.propagate(() -> {
+                try {
+                    stream(project, user, prompt, type, onStarted, onChunk, report);
+                } catch (RuntimeException e) {
+                    report.completeExceptionally(e);
+                }
+            }));
+            return report;
         }
+    }
 
-        // Add tasks data
-        contextBuilder.append("\nTask Statistics:\n");
-        contextBuilder.append("- Total Tasks: ").append(tasks.size()).append("\n");
-        contextBuilder.append("- To Do: ").append(taskStatusCounts.get("TODO")).append("\n");
-        contextBuilder.append("- In Progress: ").append(taskStatusCounts.get("IN_PROGRESS")).append("\n");
-        contextBuilder.append("- Done: ").append(taskStatusCounts.get("DONE")).append("\n");
+    private void stream(Project project, User user, String prompt, Report.ReportType type, Runnable onStarted,
+                        Consumer<String> onChunk, CompletableFuture<ReportDTO> report) {
+        if (report.isDone()) {
+            // Cancelled before a worker picked it up
+            return;
+        }
+        onStarted.run();
+        ReportContext context = reportContextBuilder.build(project);
+
+        // Offline and cached content is already complete, so it goes out as a single chunk
+        if (!isApiKeyConfigured()) {
+            String content = OfflineReportRenderer.render(context, prompt, type);
+            onChunk.accept(content);
+            report.complete(saveReport(project, user, prompt, type, content));
+            return;
+        }
+        String fingerprint = ReportContentCache.fingerprint(context, prompt, type);
+        Optional<String> cached = reportContentCache.get(fingerprint);
+        if (cached.isPresent()) {
+            onChunk.accept(cached.get());
+            report.complete(saveReport(project, user, prompt, type, cached.get()));
+            return;
+        }
 
-        // Add team info
-        contextBuilder.append("\nTeam Information:\n");
-        contextBuilder.append("- Team Size: ").append(project.getMembers().size()).append("\n");
-        contextBuilder.append("- Project Lead: ").append(project.getLead() != null ? project.getLead().getName() : "Not assigned").append("\n");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        AtomicBoolean started = new AtomicBoolean();
+        CompletionStreamParser parser = new CompletionStreamParser(objectMapper, chunk -> {
+            if (started.compareAndSet(false, true)) {
+                sample.stop(Timer.builder(FIRST_CHUNK_TIMER)
+                        .description("Time from a streamed report request to its first chunk of content")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+            }
+            onChunk.accept(chunk);
+        }, () -> report.cancel(true));
+
+        CompletableFuture<HttpResponse<String>> exchange = reportStreamingClient.sendAsync(
+                streamingRequest(context, prompt, type),
+                info -> info.statusCode() == HttpStatus.OK.value()
+                        ? HttpResponse.BodySubscribers.fromLineSubscriber(
+                                parser, CompletionStreamParser::getContent, StandardCharsets.UTF_8, null)
+                        : HttpResponse.BodySubscribers.replacing(null));
+
+        exchange.whenComplete((response, error) -> {
+            if (report.isDone()) {
+                return;
+            }
+            String content;
+            if (error != null) {
+                content = "Error generating report: " + error.getMessage();
+            } else if (response.statusCode() != HttpStatus.OK.value()) {
+                content = "Error generating report: upstream returned " + response.statusCode();
+            } else if (response.body().isEmpty()) {
+                content = "Failed to generate report content.";
+            } else {
+                content = response.body();
+                reportContentCache.put(fingerprint, content);
+            }
+            try {
+                report.complete(saveReport(project, user, prompt, type, content));
+            } catch (RuntimeException e) {
+                report.completeExceptionally(e);
+            }
+        });
+        report.whenComplete((saved, error) -> {
+            if (report.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+    }
 
-        String context = contextBuilder.toString();
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        streamWorkers.shutdown();
+        if (!streamWorkers.awaitTermination(30, TimeUnit.SECONDS)) {
+            streamWorkers.shutdownNow();
+        }
+    }
 
-        // Generate report content using ChatGPT
-        String reportContent = generateReportContent(context, prompt, type);
+    private ReportDTO saveReport(Project project, User user, String prompt, Report.ReportType type, String content) {
+        Report savedReport = reportRepository.save(newReport(project, user, prompt, type, content));
+        return ReportDTO.fromEntity(savedReport);
+    }
 
-        // Create and save the report
+    Report newReport(Project project, User user, String prompt, Report.ReportType type, String content) {
         Report report = new Report();
         report.setTitle(generateReportTitle(project.getName(), type));
-        report.setContent(reportContent);
+        report.setContent(content);
         report.setPrompt(prompt);
         report.setType(type);
         report.setProject(project);
         report.setAuthor(user);
+        return report;
+    }
 
-        Report savedReport = reportRepository.save(report);
-                // Add these to ReportService.java inside generateReport method
-        System.out.println("Starting report generation for project: " + projectId);
-        System.out.println("User email: " + userEmail);
-        System.out.println("Report type: " + type);
-        System.out.println("Prompt: " + prompt);
+    boolean isApiKeyConfigured() {
+        return openaiApiKey != null && !openaiApiKey.isEmpty() && !openaiApiKey.equals("your_openai_api_key_here");
+    }
 
-// After fetching tasks
-System.out.println("Found " + tasks.size() + " tasks for project");
-        return ReportDTO.fromEntity(savedReport);
+    private HttpRequest streamingRequest(ReportContext context, String userPrompt, Report.ReportType type) {
+        Map<String, Object> requestBody = completionRequest(context, userPrompt, type);
+        requestBody.put("stream", true);
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(requestBody);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize completion request", e);
+        }
+        return HttpRequest.newBuilder(URI.create(openaiApiUrl))
+                // Bounds the wait for response headers; tokens may then arrive for longer
+                .timeout(Duration.ofMillis(readTimeoutMillis))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + openaiApiKey)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
     }
 
     // Helper method to generate report title
@@ -146,84 +294,102 @@ System.out.println("Found " + tasks.size() + " tasks for project");
         return projectName + " - " + typeStr.substring(0, 1).toUpperCase() + typeStr.substring(1).toLowerCase();
     }
 
-    // Method to call ChatGPT API
-    private String generateReportContent(String context, String userPrompt, Report.ReportType type) {
-        // If OpenAI API key is not configured, return dummy content
-        if (openaiApiKey == null || openaiApiKey.isEmpty() || openaiApiKey.equals("your_openai_api_key_here")) {
-            return generateDummyReport(context, userPrompt, type);
+    // Method to call ChatGPT API; failures become the report text
+    private String generateReportContent(ReportContext context, String userPrompt, Report.ReportType type) {
+        try {
+            String content = generateContent(context, userPrompt, type);
+            return content != null ? content : "Failed to generate report content.";
+        } catch (Exception e) {
+            log.warn("Report generation for project {} failed", context.getProjectId(), e);
+            return "Error generating report: " + e.getMessage();
         }
+    }
 
-        try {
-    RestTemplate restTemplate = new RestTemplate();
-
-    // Set headers
-    HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(MediaType.APPLICATION_JSON);
-    headers.setBearerAuth(openaiApiKey);  // Check if this is the correct auth method
-    
-    // Print the API URL for debugging
-    System.out.println("Using OpenAI API URL: " + openaiApiUrl);
-    System.out.println("API Key starting with: " + openaiApiKey.substring(0, 10) + "...");
-
-            // Prepare system message based on report type
-            String systemMessage = getSystemMessageForReportType(type);
-
-            // Format the request
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", "gpt-3.5-turbo");
-
-            List<Map<String, String>> messages = new ArrayList<>();
-
-            // System message to define the assistant's role
-            Map<String, String> systemMsg = new HashMap<>();
-            systemMsg.put("role", "system");
-            systemMsg.put("content", systemMessage);
-            messages.add(systemMsg);
-
-            // Add project context
-            Map<String, String> contextMsg = new HashMap<>();
-            contextMsg.put("role", "user");
-            contextMsg.put("content", "Here is the project data:\n" + context);
-            messages.add(contextMsg);
-
-            // Add user prompt
-            Map<String, String> promptMsg = new HashMap<>();
-            promptMsg.put("role", "user");
-            promptMsg.put("content", userPrompt);
-            messages.add(promptMsg);
-
-            requestBody.put("messages", messages);
-            requestBody.put("temperature", 0.7);
-
-            // Create request entity
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestBody, headers);
-
-            // Call OpenAI API
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    openaiApiUrl,
-                    HttpMethod.POST,
-                    requestEntity,
-                    Map.class
-            );
-
-            // Process response
-            if (response.getStatusCode() == HttpStatus.OK) {
-                Map<String, Object> responseBody = response.getBody();
-                List<Map<String, Object>> choices = (List<Map<String, Object>>) responseBody.get("choices");
-
-                if (choices != null && !choices.isEmpty()) {
-                    Map<String, Object> choice = choices.get(0);
-                    Map<String, String> message = (Map<String, String>) choice.get("message");
-                    return message.get("content");
-                }
-            }
+    /**
+     * Report text from the offline renderer, the content cache or a blocking upstream call.
+     *
+     * @return the content, or {@code null} if the upstream returned no completion
+     * @throws org.springframework.web.client.RestClientException if the upstream call fails
+     */
+    String generateContent(ReportContext context, String userPrompt, Report.ReportType type) {
+        // If OpenAI API key is not configured, render the report offline
+        if (!isApiKeyConfigured()) {
+            return OfflineReportRenderer.render(context, userPrompt, type);
+        }
 
-            return "Failed to generate report content.";
+        // Same project data, type and prompt as an earlier report: reuse its content
+        String fingerprint = ReportContentCache.fingerprint(context, userPrompt, type);
+        Optional<String> cached = reportContentCache.get(fingerprint);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-            return "Error generating report: " + e.getMessage();
+        // Set headers
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(openaiApiKey);
+
+        // Create request entity
+        HttpEntity<Map<String, Object>> requestEntity =
+                new HttpEntity<>(completionRequest(context, userPrompt, type), headers);
+
+        // Call OpenAI API
+        ResponseEntity<Map> response = reportRestTemplate.exchange(
+                openaiApiUrl,
+                HttpMethod.POST,
+                requestEntity,
+                Map.class
+        );
+
+        // Process response
+        if (response.getStatusCode() == HttpStatus.OK) {
+            Map<String, Object> responseBody = response.getBody();
+            List<Map<String, Object>> choices = (List<Map<String, Object>>) responseBody.get("choices");
+
+            if (choices != null && !choices.isEmpty()) {
+                Map<String, Object> choice = choices.get(0);
+                Map<String, String> message = (Map<String, String>) choice.get("message");
+                String content = message.get("content");
+                reportContentCache.put(fingerprint, content);
+                return content;
+            }
         }
+
+        return null;
+    }
+
+    // Chat completion request body shared by the blocking and streaming calls
+    private Map<String, Object> completionRequest(ReportContext context, String userPrompt, Report.ReportType type) {
+        // Prepare system message based on report type
+        String systemMessage = getSystemMessageForReportType(type);
+
+        // Format the request
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", "gpt-3.5-turbo");
+
+        List<Map<String, String>> messages = new ArrayList<>();
+
+        // System message to define the assistant's role
+        Map<String, String> systemMsg = new HashMap<>();
+        systemMsg.put("role", "system");
+        systemMsg.put("content", systemMessage);
+        messages.add(systemMsg);
+
+        // Add project context
+        Map<String, String> contextMsg = new HashMap<>();
+        contextMsg.put("role", "user");
+        contextMsg.put("content", "Here is the project data:\n" + ReportPromptRenderer.render(context));
+        messages.add(contextMsg);
+
+        // Add user prompt
+        Map<String, String> promptMsg = new HashMap<>();
+        promptMsg.put("role", "user");
+        promptMsg.put("content", userPrompt);
+        messages.add(promptMsg);
+
+        requestBody.put("messages", messages);
+        requestBody.put("temperature", 0.7);
+        return requestBody;
     }
 
     // Get system message based on report type
@@ -242,96 +408,4 @@ System.out.println("Found " + tasks.size() + " tasks for project");
                 return "You are a project management assistant that helps create reports based on project data. Your responses should be in Markdown format with clear sections and actionable insights.";
         }
     }
-
-    // Generate dummy report content for testing or when API key is not available
-    private String generateDummyReport(String context, String userPrompt, Report.ReportType type) {
-        String[] lines = context.split("\n");
-        String projectName = "";
-        int totalTasks = 0;
-        int todoTasks = 0;
-        int inProgressTasks = 0;
-        int doneTasks = 0;
-        int teamSize = 0;
-
-        for (String line : lines) {
-            if (line.startsWith("Project Name:")) {
-                projectName = line.substring("Project Name:".length()).trim();
-            } else if (line.startsWith("- Total Tasks:")) {
-                totalTasks = Integer.parseInt(line.substring("- Total Tasks:".length()).trim());
-            } else if (line.startsWith("- To Do:")) {
-                todoTasks = Integer.parseInt(line.substring("- To Do:".length()).trim());
-            } else if (line.startsWith("- In Progress:")) {
-                inProgressTasks = Integer.parseInt(line.substring("- In Progress:".length()).trim());
-            } else if (line.startsWith("- Done:")) {
-                doneTasks = Integer.parseInt(line.substring("- Done:".length()).trim());
-            } else if (line.startsWith("- Team Size:")) {
-                teamSize = Integer.parseInt(line.substring("- Team Size:".length()).trim());
-            }
-        }
-
-        int completionPercentage = totalTasks > 0 ? (doneTasks * 100) / totalTasks : 0;
-
-        StringBuilder report = new StringBuilder();
-
-        switch (type) {
-            case STATUS_REPORT:
-                report.append("# Status Report for ").append(projectName).append("\n\n");
-                report.append("## Project Overview\n\n");
-                report.append("This project is currently ").append(completionPercentage).append("% complete based on task completion. ");
-                report.append("There are a total of ").append(totalTasks).append(" tasks in the project.\n\n");
-                report.append("## Task Status\n\n");
-                report.append("- **To Do**: ").append(todoTasks).append(" tasks\n");
-                report.append("- **In Progress**: ").append(inProgressTasks).append(" tasks\n");
-                report.append("- **Done**: ").append(doneTasks).append(" tasks\n\n");
-                report.append("## Team Performance\n\n");
-                report.append("The team consists of ").append(teamSize).append(" members who are working collaboratively on the project tasks.\n\n");
-                report.append("## Next Steps\n\n");
-                report.append("1. Focus on completing the ").append(inProgressTasks).append(" in-progress tasks\n");
-                report.append("2. Begin planning for the next ").append(Math.min(5, todoTasks)).append(" tasks in the To Do column\n");
-                report.append("3. Schedule a team review for completed work\n\n");
-                break;
-
-            case SPRINT_ANALYSIS:
-                report.append("# Sprint Analysis for ").append(projectName).append("\n\n");
-                report.append("## Sprint Overview\n\n");
-                report.append("The current sprint has ").append(totalTasks).append(" total tasks, with ").append(doneTasks).append(" completed (").append(completionPercentage).append("% completion rate).\n\n");
-                report.append("## Velocity Analysis\n\n");
-                report.append("The team's velocity is trending ").append(completionPercentage > 70 ? "positively" : "below target").append(". ");
-                report.append("Current velocity is approximately ").append(doneTasks).append(" tasks per sprint.\n\n");
-                report.append("## Completed vs Planned Work\n\n");
-                report.append("- **Planned**: ").append(totalTasks).append(" tasks\n");
-                report.append("- **Completed**: ").append(doneTasks).append(" tasks\n");
-                report.append("- **Completion Rate**: ").append(completionPercentage).append("%\n\n");
-                report.append("## Recommendations\n\n");
-                if (completionPercentage < 70) {
-                    report.append("1. Consider reducing the sprint scope in the next planning session\n");
-                    report.append("2. Review any blockers that might be slowing down task completion\n");
-                    report.append("3. Schedule a team retrospective to identify improvement areas\n");
-                } else {
-                    report.append("1. Maintain current sprint velocity and team dynamics\n");
-                    report.append("2. Consider increasing sprint scope if the team feels comfortable\n");
-                    report.append("3. Recognize team members for their excellent performance\n");
-                }
-                break;
-
-            default:
-                report.append("# Custom Report for ").append(projectName).append("\n\n");
-                report.append("## Project Analysis\n\n");
-                report.append("Based on your prompt: \"").append(userPrompt).append("\"\n\n");
-                report.append("The project currently has ").append(totalTasks).append(" tasks with the following breakdown:\n\n");
-                report.append("- **To Do**: ").append(todoTasks).append(" tasks\n");
-                report.append("- **In Progress**: ").append(inProgressTasks).append(" tasks\n");
-                report.append("- **Done**: ").append(doneTasks).append(" tasks\n\n");
-                report.append("The overall completion percentage is ").append(completionPercentage).append("%\n\n");
-                report.append("## Team Overview\n\n");
-                report.append("There are ").append(teamSize).append(" team members working on this project.\n\n");
-                report.append("## Recommendations\n\n");
-                report.append("1. Review the in-progress tasks to ensure they're on track\n");
-                report.append("2. Schedule regular check-ins with the team\n");
-                report.append("3. Prioritize the remaining to-do tasks\n");
-                report.append("4. Document lessons learned from completed tasks\n");
-        }
-
-        return report.toString();
-    }
-}
\ No newline at end of file
+}
@@ -1,16 +1,25 @@
 package com.jiraclone.backend.service;
 
+import com.jiraclone.backend.dto.Expansion;
 import com.jiraclone.backend.dto.SprintDTO;
+import com.jiraclone.backend.dto.SprintSummaryDTO;
+import com.jiraclone.backend.dto.TaskDTO;
 import com.jiraclone.backend.model.Project;
 import com.jiraclone.backend.model.Sprint;
+import com.jiraclone.backend.model.Task;
 import com.jiraclone.backend.repository.ProjectRepository;
 import com.jiraclone.backend.repository.SprintRepository;
+import com.jiraclone.backend.repository.TaskRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,6 +28,7 @@ public class SprintService {
 
     private final SprintRepository sprintRepository;
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
 
     @Transactional
     public SprintDTO createSprint(Sprint sprint, Long projectId) {
@@ -28,22 +38,35 @@ public class SprintService {
         sprint.setProject(project);
         sprint.setStatus(Sprint.Status.PLANNING);
         Sprint savedSprint = sprintRepository.save(sprint);
-        return SprintDTO.fromEntity(savedSprint);
+        return toDTO(savedSprint);
     }
 
     public SprintDTO getSprintById(Long id) {
+        return getSprintById(id, Expansion.none());
+    }
+
+    @Transactional(readOnly = true)
+    public SprintDTO getSprintById(Long id, Expansion expansion) {
         Sprint sprint = sprintRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Sprint not found with ID: " + id));
-        return SprintDTO.fromEntity(sprint);
+        return toDTOs(List.of(sprint), expansion).get(0);
     }
 
     public List<SprintDTO> getSprintsByProject(Long projectId) {
+        return getSprintsByProject(projectId, Expansion.none());
+    }
+
+    /**
+     * Lists the project's sprints with a per-sprint task summary. Tasks themselves are only
+     * loaded and mapped when {@code tasks} is expanded; either way the number of queries
+     * does not depend on the number of sprints.
+     */
+    @Transactional(readOnly = true)
+    public List<SprintDTO> getSprintsByProject(Long projectId, Expansion expansion) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + projectId));
         
-        return sprintRepository.findByProjectOrderByStartDateDesc(project).stream()
-                .map(SprintDTO::fromEntity)
-                .collect(Collectors.toList());
+        return toDTOs(sprintRepository.findByProjectOrderByStartDateDesc(project), expansion);
     }
 
     @Transactional
@@ -58,7 +81,7 @@ public class SprintService {
         sprint.setStatus(sprintDetails.getStatus());
 
         Sprint updatedSprint = sprintRepository.save(sprint);
-        return SprintDTO.fromEntity(updatedSprint);
+        return toDTO(updatedSprint);
     }
 
     @Transactional
@@ -76,7 +99,7 @@ public class SprintService {
 
         sprint.setStatus(Sprint.Status.ACTIVE);
         Sprint updatedSprint = sprintRepository.save(sprint);
-        return SprintDTO.fromEntity(updatedSprint);
+        return toDTO(updatedSprint);
     }
 
     @Transactional
@@ -86,6 +109,58 @@ public class SprintService {
 
         sprint.setStatus(Sprint.Status.COMPLETED);
         Sprint updatedSprint = sprintRepository.save(sprint);
-        return SprintDTO.fromEntity(updatedSprint);
+        return toDTO(updatedSprint);
+    }
+
+    private SprintDTO toDTO(Sprint sprint) {
+        return toDTOs(List.of(sprint), Expansion.none()).get(0);
+    }
+
+    private List<SprintDTO> toDTOs(List<Sprint> sprints, Expansion expansion) {
+        if (sprints.isEmpty()) {
+            return List.of();
+        }
+        boolean expandTasks = expansion.includes("tasks");
+        List<Long> sprintIds = sprints.stream().map(Sprint::getId).collect(Collectors.toList());
+        Map<Long, SprintSummaryDTO> summaries = summarize(sprintIds);
+
+        Map<Long, Set<TaskDTO>> tasksBySprint = new HashMap<>();
+        if (expandTasks) {
+            for (Task task : taskRepository.findBySprintIdsWithDetails(sprintIds)) {
+                tasksBySprint.computeIfAbsent(task.getSprint().getId(), id -> new LinkedHashSet<>())
+                        .add(TaskDTO.fromEntity(task));
+            }
+        }
+
+        return sprints.stream()
+                .map(sprint -> {
+                    SprintDTO dto = SprintDTO.fromEntity(sprint);
+                    dto.setSummary(summaries.getOrDefault(sprint.getId(), SprintSummaryDTO.empty()));
+                    if (expandTasks) {
+                        dto.setTasks(tasksBySprint.getOrDefault(sprint.getId(), new LinkedHashSet<>()));
+                    }
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, SprintSummaryDTO> summarize(List<Long> sprintIds) {
+        Map<Long, SprintSummaryDTO> summaries = new HashMap<>();
+        for (TaskRepository.SprintStatusTotals row : taskRepository.summarizeBySprint(sprintIds)) {
+            SprintSummaryDTO summary = summaries.computeIfAbsent(row.getSprintId(), id -> SprintSummaryDTO.empty());
+            summary.setTotalTasks(summary.getTotalTasks() + row.getCount());
+            summary.setEstimatedHours(summary.getEstimatedHours() + row.getEstimatedHours());
+            summary.setLoggedHours(summary.getLoggedHours() + row.getLoggedHours());
+            if (row.getStatus() != null) {
+                summary.getTasksByStatus().put(row.getStatus(), row.getCount());
+            }
+        }
+        for (TaskRepository.SprintStory row : taskRepository.findSprintStories(sprintIds)) {
+            if (row.getStoryPoints() != null) {
+                SprintSummaryDTO summary = summaries.computeIfAbsent(row.getSprintId(), id -> SprintSummaryDTO.empty());
+                summary.setStoryPoints(summary.getStoryPoints() + row.getStoryPoints());
+            }
+        }
+        return summaries;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.TaskKeySequence;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.TaskKeySequenceRepository;
+import com.jiraclone.backend.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Allocates task keys from a per-project counter row instead of counting the project's tasks.
+ * The counter row stays locked until the caller's transaction commits, so concurrent creates
+ * in the same project are serialized on it and never receive the same key.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskKeyGenerator {
+
+    private final TaskKeySequenceRepository sequenceRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String nextKey(Project project) {
+        Long projectId = project.getId();
+        // Plain existence check first: a locking read on a missing row would take a gap lock
+        if (!sequenceRepository.existsById(projectId)) {
+            seed(projectId);
+        }
+
+        TaskKeySequence sequence = sequenceRepository.findForUpdate(projectId)
+                .orElseThrow(() -> new IllegalStateException("Task key sequence missing for project " + projectId));
+        long next = sequence.getNextValue();
+        sequence.setNextValue(next + 1);
+        return project.getKey() + "-" + next;
+    }
+
+    private void seed(Long projectId) {
+        // First task of a project (or a project created before sequences existed):
+        // lock the project row so only one transaction creates the counter, then re-check
+        projectRepository.findByIdForUpdate(projectId);
+        if (sequenceRepository.findForUpdate(projectId).isEmpty()) {
+            Long highest = taskRepository.findHighestTaskNumber(projectId);
+            long nextValue = (highest != null ? highest : 0) + 1;
+            sequenceRepository.save(new TaskKeySequence(projectId, nextValue));
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.jiraclone.backend.service;
 
 
+import com.jiraclone.backend.dto.BulkTaskResultDTO;
+import com.jiraclone.backend.dto.BulkTaskUpdateDTO;
 import com.jiraclone.backend.dto.TaskDTO;
+import com.jiraclone.backend.dto.TaskPageDTO;
 import com.jiraclone.backend.model.Project;
 import com.jiraclone.backend.model.Sprint;
 import com.jiraclone.backend.model.Task;
 import com.jiraclone.backend.model.User;
 import com.jiraclone.backend.repository.ProjectRepository;
 import com.jiraclone.backend.repository.SprintRepository;
+import com.jiraclone.backend.repository.TaskCursor;
+import com.jiraclone.backend.repository.TaskFilter;
+import com.jiraclone.backend.repository.TaskListItem;
 import com.jiraclone.backend.repository.TaskRepository;
 import com.jiraclone.backend.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -15,17 +21,31 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    static final int MAX_PAGE_SIZE = 200;
+    static final int MAX_BULK_SIZE = 500;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final SprintRepository sprintRepository;
+    private final TaskKeyGenerator taskKeyGenerator;
+    private final ProjectStatisticsService projectStatisticsService;
+    private final ProjectMembershipService projectMembershipService;
 
     @Transactional
     public TaskDTO createTask(Task task, Long projectId, String reporterEmail) {
@@ -36,7 +56,7 @@ public class TaskService {
                 .orElseThrow(() -> new EntityNotFoundException("User not found with email: " + reporterEmail));
 
         // Generate task key
-        String taskKey = project.getKey() + "-" + (project.getTasks().size() + 1);
+        String taskKey = taskKeyGenerator.nextKey(project);
         task.setTaskKey(taskKey);
         task.setProject(project);
         task.setReporter(reporter);
@@ -47,21 +67,23 @@ public class TaskService {
         }
         
         Task savedTask = taskRepository.save(task);
+        projectStatisticsService.recordTaskCreated(projectId, savedTask.getStatus());
         return TaskDTO.fromEntity(savedTask);
     }
 
     public TaskDTO getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+        Task task = taskRepository.findDetailedById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + id));
         return TaskDTO.fromEntity(task);
     }
 
     public List<TaskDTO> getTasksByProject(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + projectId));
-        
-        return taskRepository.findByProjectOrderByCreatedAtDesc(project).stream()
-                .map(TaskDTO::fromEntity)
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found with ID: " + projectId);
+        }
+
+        return taskRepository.findListItemsByProjectId(projectId).stream()
+                .map(TaskDTO::fromListItem)
                 .collect(Collectors.toList());
     }
 
@@ -69,16 +91,69 @@ public class TaskService {
         User assignee = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with email: " + userEmail));
         
-        return taskRepository.findByAssigneeOrderByCreatedAtDesc(assignee).stream()
-                .map(TaskDTO::fromEntity)
+        return taskRepository.findListItemsByAssigneeId(assignee.getId()).stream()
+                .map(TaskDTO::fromListItem)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageDTO getTaskPageByProject(Long projectId, TaskFilter filter, String cursor, int size) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found with ID: " + projectId);
+        }
+        filter.setProjectId(projectId);
+        return getTaskPage(filter, cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageDTO getTaskPageByAssignee(String userEmail, TaskFilter filter, String cursor, int size) {
+        User assignee = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with email: " + userEmail));
+        filter.setAssigneeId(assignee.getId());
+        return getTaskPage(filter, cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageDTO getTaskPageBySprint(Long sprintId, TaskFilter filter, String cursor, int size) {
+        if (!sprintRepository.existsById(sprintId)) {
+            throw new EntityNotFoundException("Sprint not found with ID: " + sprintId);
+        }
+        filter.setSprintId(sprintId);
+        return getTaskPage(filter, cursor, size);
+    }
+
+    /**
+     * Fetches one page in (createdAt, id) descending order. One extra row is read to tell
+     * whether another page follows, so no count query is needed.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    private TaskPageDTO getTaskPage(TaskFilter filter, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        TaskCursor after = cursor != null && !cursor.isBlank() ? TaskCursor.decode(cursor) : null;
+
+        List<TaskListItem> tasks = taskRepository.findPage(filter, after, pageSize + 1);
+        boolean hasMore = tasks.size() > pageSize;
+        if (hasMore) {
+            tasks = tasks.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            TaskListItem last = tasks.get(tasks.size() - 1);
+            nextCursor = new TaskCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        List<TaskDTO> items = tasks.stream()
+                .map(TaskDTO::fromListItem)
                 .collect(Collectors.toList());
+        return new TaskPageDTO(items, nextCursor, hasMore);
     }
 
     @Transactional
     public TaskDTO updateTask(Long id, Task taskDetails) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + id));
+        Task task = lockForUpdate(id);
 
+        Task.Status previousStatus = task.getStatus();
         task.setTitle(taskDetails.getTitle());
         task.setDescription(taskDetails.getDescription());
         task.setType(taskDetails.getType());
@@ -101,29 +176,32 @@ public class TaskService {
         }
 
         Task updatedTask = taskRepository.save(task);
+        projectStatisticsService.recordStatusChange(
+                updatedTask.getProject().getId(), previousStatus, updatedTask.getStatus());
         return TaskDTO.fromEntity(updatedTask);
     }
 
     @Transactional
     public TaskDTO updateTaskStatus(Long id, Task.Status status) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + id));
+        Task task = lockForUpdate(id);
 
+        Task.Status previousStatus = task.getStatus();
         task.setStatus(status);
         Task updatedTask = taskRepository.save(task);
+        projectStatisticsService.recordStatusChange(
+                updatedTask.getProject().getId(), previousStatus, updatedTask.getStatus());
         return TaskDTO.fromEntity(updatedTask);
     }
 
     @Transactional
     public TaskDTO assignTask(Long taskId, Long assigneeId) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + taskId));
+        Task task = lockForUpdate(taskId);
 
         User assignee = userRepository.findById(assigneeId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + assigneeId));
         
         // Check if user is a member of the project
-        if (!task.getProject().getMembers().contains(assignee)) {
+        if (!projectMembershipService.isMember(task.getProject().getId(), assignee.getId())) {
             throw new IllegalArgumentException("User is not a member of the project");
         }
 
@@ -134,29 +212,150 @@ public class TaskService {
 
     @Transactional
     public void deleteTask(Long id) {
-        if (!taskRepository.existsById(id)) {
-            throw new EntityNotFoundException("Task not found with ID: " + id);
-        }
+        Task task = taskRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + id));
         taskRepository.deleteById(id);
+        projectStatisticsService.recordTaskDeleted(task.getProject().getId(), task.getStatus());
     }
 
     @Transactional
     public TaskDTO updateTaskPriority(Long id, Task.Priority priority) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + id));
+        Task task = lockForUpdate(id);
 
         task.setPriority(priority);
         Task updatedTask = taskRepository.save(task);
         return TaskDTO.fromEntity(updatedTask);
     }
 
+    /**
+     * Locks the task row, then loads the task with its detail fetch plan. Status counter deltas
+     * are computed from the locked values, so concurrent writes to one task queue up instead of
+     * both moving the counters from the same old status. Every writer locks task rows before the
+     * project's statistics row, as {@link #bulkUpdate} does.
+     */
+    private Task lockForUpdate(Long id) {
+        taskRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + id));
+        // Returns the instance locked above, with its associations fetched in one statement
+        return taskRepository.findDetailedById(id).orElseThrow();
+    }
+
+    /**
+     * Applies one operation to many tasks in a single transaction. The tasks' current values are
+     * read by one locking query, the tasks that actually change are written by one set-based
+     * update, and the status counters get one delta per affected project. Missing tasks and tasks
+     * that may not take the new value are reported per item and left untouched.
+     *
+     * @throws IllegalArgumentException if the request is empty, too large or lacks the operation's value
+     * @throws EntityNotFoundException if the target assignee or sprint does not exist
+     */
+    @Transactional
+    public BulkTaskResultDTO bulkUpdate(BulkTaskUpdateDTO request) {
+        Set<Long> taskIds = bulkTaskIds(request);
+        BulkTaskUpdateDTO.Operation operation = request.getOperation();
+
+        User assignee = null;
+        if (operation == BulkTaskUpdateDTO.Operation.ASSIGNEE) {
+            assignee = userRepository.findById(request.getAssigneeId())
+                    .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + request.getAssigneeId()));
+        }
+        Sprint sprint = null;
+        if (operation == BulkTaskUpdateDTO.Operation.SPRINT && request.getSprintId() != null) {
+            sprint = sprintRepository.findById(request.getSprintId())
+                    .orElseThrow(() -> new EntityNotFoundException("Sprint not found with ID: " + request.getSprintId()));
+        }
+
+        Map<Long, TaskRepository.TaskState> states = taskRepository.findStatesForUpdate(taskIds).stream()
+                .collect(Collectors.toMap(TaskRepository.TaskState::getId, Function.identity()));
+        // The assignee's membership is checked once per project, not once per task
+        Map<Long, Boolean> membership = new HashMap<>();
+        List<TaskRepository.TaskState> changed = new ArrayList<>();
+        List<BulkTaskResultDTO.Item> items = new ArrayList<>(taskIds.size());
+        for (Long taskId : taskIds) {
+            TaskRepository.TaskState state = states.get(taskId);
+            if (state == null) {
+                items.add(new BulkTaskResultDTO.Item(taskId, BulkTaskResultDTO.Outcome.NOT_FOUND, null));
+                continue;
+            }
+            String rejection = null;
+            if (operation == BulkTaskUpdateDTO.Operation.ASSIGNEE
+                    && !membership.computeIfAbsent(state.getProjectId(),
+                            projectId -> projectMembershipService.isMember(projectId, request.getAssigneeId()))) {
+                rejection = "User is not a member of the project";
+            } else if (sprint != null && sprint.getProject() != null
+                    && !sprint.getProject().getId().equals(state.getProjectId())) {
+                rejection = "Sprint belongs to another project";
+            }
+
+            if (rejection != null) {
+                items.add(new BulkTaskResultDTO.Item(taskId, BulkTaskResultDTO.Outcome.REJECTED, rejection));
+            } else if (alreadyApplied(request, state)) {
+                items.add(new BulkTaskResultDTO.Item(taskId, BulkTaskResultDTO.Outcome.UNCHANGED, null));
+            } else {
+                items.add(new BulkTaskResultDTO.Item(taskId, BulkTaskResultDTO.Outcome.UPDATED, null));
+                changed.add(state);
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            List<Long> ids = changed.stream().map(TaskRepository.TaskState::getId).collect(Collectors.toList());
+            LocalDateTime now = LocalDateTime.now();
+            switch (operation) {
+                case STATUS -> {
+                    taskRepository.updateStatus(ids, request.getStatus(), now);
+                    changed.stream()
+                            .collect(Collectors.groupingBy(TaskRepository.TaskState::getProjectId,
+                                    Collectors.mapping(TaskRepository.TaskState::getStatus, Collectors.toList())))
+                            .forEach((projectId, from) ->
+                                    projectStatisticsService.recordStatusChanges(projectId, from, request.getStatus()));
+                }
+                case PRIORITY -> taskRepository.updatePriority(ids, request.getPriority(), now);
+                case ASSIGNEE -> taskRepository.updateAssignee(ids, assignee, now);
+                case SPRINT -> taskRepository.updateSprint(ids, sprint, now);
+            }
+        }
+        return new BulkTaskResultDTO(items, changed.size());
+    }
+
+    private static Set<Long> bulkTaskIds(BulkTaskUpdateDTO request) {
+        if (request.getOperation() == null) {
+            throw new IllegalArgumentException("Operation is required");
+        }
+        if (request.getTaskIds() == null || request.getTaskIds().isEmpty()) {
+            throw new IllegalArgumentException("No task ids given");
+        }
+        Set<Long> taskIds = new LinkedHashSet<>(request.getTaskIds());
+        if (taskIds.contains(null)) {
+            throw new IllegalArgumentException("Task ids must not be null");
+        }
+        if (taskIds.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " tasks can be updated at once");
+        }
+        boolean valueMissing = switch (request.getOperation()) {
+            case STATUS -> request.getStatus() == null;
+            case PRIORITY -> request.getPriority() == null;
+            case ASSIGNEE -> request.getAssigneeId() == null;
+            // No sprint moves the tasks to the backlog
+            case SPRINT -> false;
+        };
+        if (valueMissing) {
+            throw new IllegalArgumentException("No value given for operation " + request.getOperation());
+        }
+        return taskIds;
+    }
+
+    private static boolean alreadyApplied(BulkTaskUpdateDTO request, TaskRepository.TaskState state) {
+        return switch (request.getOperation()) {
+            case STATUS -> state.getStatus() == request.getStatus();
+            case PRIORITY -> state.getPriority() == request.getPriority();
+            case ASSIGNEE -> Objects.equals(state.getAssigneeId(), request.getAssigneeId());
+            case SPRINT -> Objects.equals(state.getSprintId(), request.getSprintId());
+        };
+    }
+
     public List<TaskDTO> getTasksBySprint(Long sprintId) {
-        List<Task> tasks = taskRepository.findBySprintIdOrderByCreatedAtDesc(sprintId);
-        return tasks.stream()
-                .map(task -> {
-                    TaskDTO dto = TaskDTO.fromEntity(task);
-                    return dto;
-                })
+        return taskRepository.findListItemsBySprintId(sprintId).stream()
+                .map(TaskDTO::fromListItem)
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.repository.TaskRepository;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A project's task counts and hours, rolled up in memory from the grouped rows of
+ * {@link TaskRepository#aggregateByProject(Long)}. Tasks without a status, priority or
+ * type still count towards the total but not towards that breakdown.
+ */
+@Getter
+public class TaskTotals {
+
+    static final String UNASSIGNED = "Unassigned";
+
+    private long total;
+    private long estimatedHours;
+    private long loggedHours;
+    // Latest task change; with the counts it versions the project's task data
+    private LocalDateTime lastUpdated;
+    private final Map<Task.Status, Long> byStatus = zeroed(Task.Status.class);
+    private final Map<Task.Priority, Long> byPriority = zeroed(Task.Priority.class);
+    private final Map<Task.Type, Long> byType = zeroed(Task.Type.class);
+    // Keyed by assignee id (null for unassigned tasks) in first-seen order, so users who share
+    // a display name are counted separately
+    private final Map<Long, AssigneeCount> byAssignee = new LinkedHashMap<>();
+
+    public static TaskTotals of(List<TaskRepository.TaskAggregate> rows) {
+        TaskTotals totals = new TaskTotals();
+        for (TaskRepository.TaskAggregate row : rows) {
+            totals.add(row);
+        }
+        return totals;
+    }
+
+    public static TaskTotals empty() {
+        return of(Collections.emptyList());
+    }
+
+    public long getCount(Task.Status status) {
+        return byStatus.get(status);
+    }
+
+    private void add(TaskRepository.TaskAggregate row) {
+        long count = row.getCount();
+        total += count;
+        estimatedHours += row.getEstimatedHours();
+        loggedHours += row.getLoggedHours();
+        if (row.getLastUpdated() != null && (lastUpdated == null || row.getLastUpdated().isAfter(lastUpdated))) {
+            lastUpdated = row.getLastUpdated();
+        }
+        if (row.getStatus() != null) {
+            byStatus.merge(row.getStatus(), count, Long::sum);
+        }
+        if (row.getPriority() != null) {
+            byPriority.merge(row.getPriority(), count, Long::sum);
+        }
+        if (row.getType() != null) {
+            byType.merge(row.getType(), count, Long::sum);
+        }
+        String name = row.getAssigneeId() == null ? UNASSIGNED : row.getAssigneeName();
+        byAssignee.computeIfAbsent(row.getAssigneeId(), id -> new AssigneeCount(name, 0)).count += count;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class AssigneeCount {
+        private final String name;
+        private long count;
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> zeroed(Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            counts.put(constant, 0L);
+        }
+        return counts;
+    }
+}
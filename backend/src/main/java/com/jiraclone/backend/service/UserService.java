@@ -3,6 +3,7 @@ package com.jiraclone.backend.service;
 import com.jiraclone.backend.dto.UserDTO;
 import com.jiraclone.backend.model.User;
 import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.security.PrincipalCache;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -21,6 +22,7 @@ public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -73,13 +75,14 @@ public class UserService implements UserDetailsService {
         }
 
         User updatedUser = userRepository.save(user);
+        principalCache.evict(user.getEmail());
         return UserDTO.fromEntity(updatedUser);
     }
 
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new EntityNotFoundException("User not found with ID: " + id);
-        }
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + id));
+        principalCache.evict(user.getEmail());
         userRepository.deleteById(id);
     }
 }
\ No newline at end of file
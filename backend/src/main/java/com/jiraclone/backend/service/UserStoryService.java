@@ -1,18 +1,25 @@
 package com.jiraclone.backend.service;
 
+import com.jiraclone.backend.dto.Expansion;
+import com.jiraclone.backend.dto.TaskDTO;
 import com.jiraclone.backend.dto.UserStoryDTO;
 import com.jiraclone.backend.model.Epic;
 import com.jiraclone.backend.model.Project;
 import com.jiraclone.backend.model.UserStory;
 import com.jiraclone.backend.repository.EpicRepository;
 import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.TaskRepository;
 import com.jiraclone.backend.repository.UserStoryRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,6 +29,7 @@ public class UserStoryService {
     private final UserStoryRepository userStoryRepository;
     private final ProjectRepository projectRepository;
     private final EpicRepository epicRepository;
+    private final TaskRepository taskRepository;
 
     @Transactional
     public UserStoryDTO createUserStory(UserStory story, Long projectId, Long epicId) {
@@ -42,27 +50,63 @@ public class UserStoryService {
     }
 
     public UserStoryDTO getUserStoryById(Long id) {
+        return getUserStoryById(id, Expansion.none());
+    }
+
+    @Transactional(readOnly = true)
+    public UserStoryDTO getUserStoryById(Long id, Expansion expansion) {
         UserStory story = userStoryRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User Story not found with ID: " + id));
-        return UserStoryDTO.fromEntity(story);
+        return toDTOs(List.of(story), expansion).get(0);
     }
 
     public List<UserStoryDTO> getUserStoriesByProject(Long projectId) {
+        return getUserStoriesByProject(projectId, Expansion.none());
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserStoryDTO> getUserStoriesByProject(Long projectId, Expansion expansion) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + projectId));
         
-        return userStoryRepository.findByProjectOrderByCreatedAtDesc(project).stream()
-                .map(UserStoryDTO::fromEntity)
-                .collect(Collectors.toList());
+        return toDTOs(userStoryRepository.findByProjectOrderByCreatedAtDesc(project), expansion);
     }
 
     public List<UserStoryDTO> getUserStoriesByEpic(Long epicId) {
+        return getUserStoriesByEpic(epicId, Expansion.none());
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserStoryDTO> getUserStoriesByEpic(Long epicId, Expansion expansion) {
         Epic epic = epicRepository.findById(epicId)
                 .orElseThrow(() -> new EntityNotFoundException("Epic not found with ID: " + epicId));
         
-        return userStoryRepository.findByEpicOrderByCreatedAtDesc(epic).stream()
+        return toDTOs(userStoryRepository.findByEpicOrderByCreatedAtDesc(epic), expansion);
+    }
+
+    /**
+     * Stories of several epics in one statement, used by {@link EpicService} to expand
+     * {@code stories} without a query per epic.
+     */
+    @Transactional(readOnly = true)
+    public List<UserStoryDTO> getUserStoriesByEpics(Collection<Long> epicIds, Expansion expansion) {
+        return toDTOs(userStoryRepository.findByEpicIds(epicIds), expansion);
+    }
+
+    private List<UserStoryDTO> toDTOs(List<UserStory> stories, Expansion expansion) {
+        List<UserStoryDTO> dtos = stories.stream()
                 .map(UserStoryDTO::fromEntity)
                 .collect(Collectors.toList());
+        if (!expansion.includes("tasks") || dtos.isEmpty()) {
+            return dtos;
+        }
+
+        List<Long> storyIds = dtos.stream().map(UserStoryDTO::getId).collect(Collectors.toList());
+        Map<Long, Set<TaskDTO>> tasksByStory = taskRepository.findByUserStoryIdsWithDetails(storyIds).stream()
+                .collect(Collectors.groupingBy(task -> task.getUserStory().getId(),
+                        Collectors.mapping(TaskDTO::fromEntity, Collectors.toCollection(LinkedHashSet::new))));
+        dtos.forEach(dto -> dto.setTasks(tasksByStory.getOrDefault(dto.getId(), new LinkedHashSet<>())));
+        return dtos;
     }
 
     @Transactional
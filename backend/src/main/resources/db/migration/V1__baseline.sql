@@ -0,0 +1,197 @@
+-- Baseline: the schema as Hibernate's ddl-auto=update had created it before migrations took over.
+-- Databases that already have these tables are baselined at this version instead of running it.
+
+create table comments (
+    author_id bigint,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    task_id bigint,
+    updated_at datetime(6),
+    text TEXT,
+    primary key (id)
+) engine=InnoDB;
+
+create table epics (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    project_id bigint,
+    updated_at datetime(6),
+    name varchar(255),
+    summary varchar(255),
+    status enum ('TODO','IN_PROGRESS','DONE'),
+    primary key (id)
+) engine=InnoDB;
+
+create table project_members (
+    project_id bigint not null,
+    user_id bigint not null,
+    primary key (project_id, user_id)
+) engine=InnoDB;
+
+create table projects (
+    `key` varchar(5),
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    lead_id bigint,
+    updated_at datetime(6),
+    description varchar(255),
+    name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table reports (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    project_id bigint,
+    updated_at datetime(6),
+    user_id bigint,
+    content varchar(10000),
+    prompt varchar(255),
+    title varchar(255),
+    type enum ('STATUS_REPORT','SPRINT_ANALYSIS','TEAM_PERFORMANCE','RISK_ASSESSMENT','CUSTOM'),
+    primary key (id)
+) engine=InnoDB;
+
+create table sprints (
+    end_date date,
+    start_date date,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    project_id bigint,
+    updated_at datetime(6),
+    goal varchar(255),
+    name varchar(255),
+    status enum ('PLANNING','ACTIVE','COMPLETED'),
+    primary key (id)
+) engine=InnoDB;
+
+create table tasks (
+    due_date date,
+    estimated_hours integer,
+    logged_hours integer,
+    assignee_id bigint,
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    project_id bigint,
+    reporter_id bigint,
+    sprint_id bigint,
+    updated_at datetime(6),
+    user_story_id bigint,
+    description varchar(255),
+    task_key varchar(255),
+    title varchar(255),
+    priority enum ('HIGHEST','HIGH','MEDIUM','LOW','LOWEST'),
+    status enum ('TODO','IN_PROGRESS','IN_REVIEW','DONE'),
+    type enum ('TASK','BUG','STORY','EPIC'),
+    primary key (id)
+) engine=InnoDB;
+
+create table user_stories (
+    story_points integer,
+    created_at datetime(6),
+    epic_id bigint,
+    id bigint not null auto_increment,
+    project_id bigint,
+    updated_at datetime(6),
+    description varchar(255),
+    title varchar(255),
+    status enum ('TODO','IN_PROGRESS','IN_REVIEW','DONE'),
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    email varchar(255),
+    name varchar(255),
+    password varchar(255),
+    role enum ('MEMBER','PRODUCT_OWNER','SCRUM_MASTER'),
+    primary key (id)
+) engine=InnoDB;
+
+alter table projects
+   add constraint UK_31swcuwnfyiof99bt39ewodc9 unique (`key`);
+
+alter table users
+   add constraint UK_6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table comments
+   add constraint FKn2na60ukhs76ibtpt9burkm27
+   foreign key (author_id)
+   references users (id);
+
+alter table comments
+   add constraint FKi7pp0331nbiwd2844kg78kfwb
+   foreign key (task_id)
+   references tasks (id);
+
+alter table epics
+   add constraint FK2hdaeslvdk335bhp32fad99u7
+   foreign key (project_id)
+   references projects (id);
+
+alter table project_members
+   add constraint FKgul2el0qjk5lsvig3wgajwm77
+   foreign key (user_id)
+   references users (id);
+
+alter table project_members
+   add constraint FKdki1sp2homqsdcvqm9yrix31g
+   foreign key (project_id)
+   references projects (id);
+
+alter table projects
+   add constraint FK8bm4td77odxxq7j53pw4a0a07
+   foreign key (lead_id)
+   references users (id);
+
+alter table reports
+   add constraint FK2o32rer9hfweeylg7x8ut8rj2
+   foreign key (user_id)
+   references users (id);
+
+alter table reports
+   add constraint FKhylt1smy93ix3b4bh51tbf9ij
+   foreign key (project_id)
+   references projects (id);
+
+alter table sprints
+   add constraint FKke5a9e380ibc0xugykeqaktp4
+   foreign key (project_id)
+   references projects (id);
+
+alter table tasks
+   add constraint FKekr1dgiqktpyoip3qmp6lxsit
+   foreign key (assignee_id)
+   references users (id);
+
+alter table tasks
+   add constraint FKsfhn82y57i3k9uxww1s007acc
+   foreign key (project_id)
+   references projects (id);
+
+alter table tasks
+   add constraint FKbvjdsa9y725wovwlq4sjhodyk
+   foreign key (reporter_id)
+   references users (id);
+
+alter table tasks
+   add constraint FKl5ac6kwptw5o73haren9qnkav
+   foreign key (sprint_id)
+   references sprints (id);
+
+alter table tasks
+   add constraint FKkhukd6i4si1sthgxf7k5g0383
+   foreign key (user_story_id)
+   references user_stories (id);
+
+alter table user_stories
+   add constraint FKlg3eomprb6x89ybt3gv2mja73
+   foreign key (epic_id)
+   references epics (id);
+
+alter table user_stories
+   add constraint FKkkrgmr1ob6p0rh6foe385mwdk
+   foreign key (project_id)
+   references projects (id);
@@ -0,0 +1,14 @@
+-- Per-project task key counters; a row is created with the project's first task and removed
+-- with the project.
+
+create table task_key_sequences (
+    next_value bigint not null,
+    project_id bigint not null,
+    primary key (project_id)
+) engine=InnoDB;
+
+alter table task_key_sequences
+   add constraint fk_task_key_sequences_project
+   foreign key (project_id)
+   references projects (id)
+   on delete cascade;
@@ -0,0 +1,19 @@
+-- Materialized task counts per project and status, kept in step by the task service and
+-- checked against a recount by the reconciler.
+
+create table project_statistics (
+    done_tasks bigint not null,
+    in_progress_tasks bigint not null,
+    in_review_tasks bigint not null,
+    project_id bigint not null,
+    reconciled_at datetime(6),
+    todo_tasks bigint not null,
+    total_tasks bigint not null,
+    primary key (project_id)
+) engine=InnoDB;
+
+alter table project_statistics
+   add constraint fk_project_statistics_project
+   foreign key (project_id)
+   references projects (id)
+   on delete cascade;
@@ -0,0 +1,13 @@
+-- Keyset paging of task lists: each filter column followed by the (created_at, id) sort key.
+
+create index idx_tasks_project_created
+   on tasks (project_id, created_at, id);
+
+create index idx_tasks_project_status_created
+   on tasks (project_id, status, created_at, id);
+
+create index idx_tasks_sprint_created
+   on tasks (sprint_id, created_at, id);
+
+create index idx_tasks_assignee_created
+   on tasks (assignee_id, created_at, id);
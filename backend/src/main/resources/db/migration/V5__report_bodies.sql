@@ -0,0 +1,25 @@
+-- Report bodies move to their own table, stored compressed; reports keep a preview and the
+-- content length so lists do not read the bodies. Existing rows keep their inline content.
+
+create table report_bodies (
+    id bigint not null auto_increment,
+    data mediumblob not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table reports
+   add column body_id bigint;
+
+alter table reports
+   add column preview varchar(200);
+
+alter table reports
+   add column content_length integer;
+
+alter table reports
+   add constraint UK_sqy72ccu9qcm4piyq82dbxgfb unique (body_id);
+
+alter table reports
+   add constraint FKam3rhmuwr49g3vyctq53b4sdb
+   foreign key (body_id)
+   references report_bodies (id);
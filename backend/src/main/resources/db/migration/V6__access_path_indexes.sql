@@ -0,0 +1,12 @@
+-- Composite indexes for the listing paths: each filter column followed by the sort key, so
+-- the database reads rows in order from the index instead of scanning and sorting.
+-- tasks(project_id, created_at) and tasks(sprint_id, created_at) are covered by V4.
+
+create index idx_tasks_assignee_status
+   on tasks (assignee_id, status);
+
+create index idx_comments_task_created
+   on comments (task_id, created_at);
+
+create index idx_reports_project_created
+   on reports (project_id, created_at);
@@ -0,0 +1,5 @@
+-- Task keys are unique within their project. Allocation goes through task_key_sequences; this
+-- makes a key handed out twice fail the insert instead of producing a duplicate.
+
+create unique index uk_tasks_project_task_key
+   on tasks (project_id, task_key);
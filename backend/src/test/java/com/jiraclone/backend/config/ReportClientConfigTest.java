@@ -0,0 +1,74 @@
+package com.jiraclone.backend.config;
+
+import com.jiraclone.backend.service.StubLlmServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportClientConfigTest {
+
+    private final ReportClientConfig config = new ReportClientConfig();
+    private StubLlmServer upstream;
+    private SimpleMeterRegistry meterRegistry;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        upstream = StubLlmServer.start();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        upstream.close();
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
+
+    @Test
+    void reportRestTemplate_ReusesPooledConnection() {
+        // Arrange
+        RestTemplate restTemplate = restTemplate(60_000);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            restTemplate.postForObject(upstream.url(), Map.of("call", i), Map.class);
+        }
+
+        // Assert
+        assertEquals(5, upstream.getClientPorts().size());
+        assertEquals(1, new HashSet<>(upstream.getClientPorts()).size(), "all calls should share one connection");
+        assertEquals(5, meterRegistry.get(ReportClientConfig.TIMER_NAME).tag("outcome", "2xx").timer().count());
+    }
+
+    @Test
+    void reportRestTemplate_ReadTimeoutFailsTheCall() {
+        // Arrange
+        RestTemplate restTemplate = restTemplate(200);
+        upstream.hold();
+
+        // Act + Assert
+        try {
+            assertThrows(ResourceAccessException.class, () ->
+                    restTemplate.postForObject(upstream.url(), Map.of(), Map.class));
+        } finally {
+            upstream.release();
+        }
+        assertEquals(1, meterRegistry.get(ReportClientConfig.TIMER_NAME).tag("outcome", "IO_ERROR").timer().count());
+    }
+
+    private RestTemplate restTemplate(long readTimeoutMillis) {
+        httpClient = config.reportHttpClient(1_000, readTimeoutMillis, 1_000, 4, 4, 30_000);
+        return config.reportRestTemplate(httpClient, meterRegistry);
+    }
+}
@@ -0,0 +1,142 @@
+package com.jiraclone.backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaMigratorTest {
+
+    @TempDir
+    Path scripts;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:migrator-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void appliesScriptsInVersionOrderAndRecordsThem() throws IOException {
+        // Arrange
+        script("V2__add_name.sql", "alter table widgets add column name varchar(50);");
+        script("V1__create_widgets.sql", "create table widgets (id bigint primary key);");
+
+        // Act
+        migrator().migrate();
+
+        // Assert
+        jdbcTemplate.update("insert into widgets (id, name) values (1, 'a')");
+        assertEquals(List.of("create widgets", "add name"), jdbcTemplate.queryForList(
+                "select description from schema_history order by version", String.class));
+        assertEquals(List.of("SQL", "SQL"), jdbcTemplate.queryForList(
+                "select type from schema_history order by version", String.class));
+    }
+
+    @Test
+    void rerunAppliesOnlyNewScripts() throws IOException {
+        // Arrange
+        script("V1__create_widgets.sql", "create table widgets (id bigint primary key);");
+        migrator().migrate();
+        script("V2__add_name.sql", "alter table widgets add column name varchar(50);");
+
+        // Act
+        migrator().migrate();
+        migrator().migrate();
+
+        // Assert
+        assertEquals(2, jdbcTemplate.queryForObject("select count(*) from schema_history", Integer.class));
+        jdbcTemplate.update("insert into widgets (id, name) values (1, 'a')");
+    }
+
+    @Test
+    void baselinesExistingSchemaWithoutRunningBaselineScripts() throws IOException {
+        // Arrange
+        jdbcTemplate.execute("create table widgets (id bigint primary key)");
+        script("V1__create_widgets.sql", "create table widgets (id bigint primary key);");
+        script("V2__add_name.sql", "alter table widgets add column name varchar(50);");
+
+        // Act
+        migrator().migrate();
+
+        // Assert
+        assertEquals(List.of("BASELINE", "SQL"), jdbcTemplate.queryForList(
+                "select type from schema_history order by version", String.class));
+        jdbcTemplate.update("insert into widgets (id, name) values (1, 'a')");
+    }
+
+    @Test
+    void refusesToStartWhenAnAppliedScriptChanged() throws IOException {
+        // Arrange
+        script("V1__create_widgets.sql", "create table widgets (id bigint primary key);");
+        migrator().migrate();
+        script("V1__create_widgets.sql", "create table widgets (id bigint primary key, name varchar(50));");
+
+        // Act & Assert
+        IllegalStateException failure = assertThrows(IllegalStateException.class, () -> migrator().migrate());
+        assertTrue(failure.getMessage().contains("V1__create_widgets.sql"));
+    }
+
+    @Test
+    void refusesToStartWhenAnAppliedScriptIsMissing() throws IOException {
+        // Arrange
+        script("V1__create_widgets.sql", "create table widgets (id bigint primary key);");
+        migrator().migrate();
+        Files.delete(scripts.resolve("V1__create_widgets.sql"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> migrator().migrate());
+    }
+
+    @Test
+    void baselinedPreMigrationSchemaReceivesEveryLaterMigration() {
+        // Arrange: a database created by ddl-auto before migrations existed, i.e. the V1 schema
+        DriverManagerDataSource mysql = new DriverManagerDataSource(
+                "jdbc:h2:mem:migrator-mysql-" + System.nanoTime() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline.sql")).execute(mysql);
+        JdbcTemplate jdbc = new JdbcTemplate(mysql);
+        jdbc.update("insert into projects (id, `key`, name) values (1, 'ALP', 'Alpha')");
+
+        // Act
+        new SchemaMigrator(mysql, "classpath:db/migration", 1).migrate();
+
+        // Assert
+        List<String> types = jdbc.queryForList("select type from schema_history order by version", String.class);
+        assertEquals("BASELINE", types.get(0));
+        assertTrue(types.size() > 1);
+        assertTrue(types.subList(1, types.size()).stream().allMatch("SQL"::equals));
+        jdbc.update("insert into task_key_sequences (project_id, next_value) values (1, 1)");
+        jdbc.update("insert into project_statistics (project_id, total_tasks, todo_tasks, in_progress_tasks, "
+                + "in_review_tasks, done_tasks) values (1, 0, 0, 0, 0, 0)");
+        jdbc.update("insert into report_bodies (data) values (?)", (Object) new byte[70_000]);
+        jdbc.update("update reports set preview = null, content_length = null, body_id = null");
+        assertThrows(DataIntegrityViolationException.class, () -> jdbc.update(
+                "insert into project_statistics (project_id, total_tasks, todo_tasks, in_progress_tasks, "
+                        + "in_review_tasks, done_tasks) values (2, 0, 0, 0, 0, 0)"));
+        jdbc.update("delete from projects where id = 1");
+        assertEquals(0, jdbc.queryForObject("select count(*) from task_key_sequences", Integer.class));
+        assertEquals(0, jdbc.queryForObject("select count(*) from project_statistics", Integer.class));
+    }
+
+    private SchemaMigrator migrator() {
+        return new SchemaMigrator(dataSource, "file:" + scripts, 1);
+    }
+
+    private void script(String name, String sql) throws IOException {
+        Files.writeString(scripts.resolve(name), sql);
+    }
+}
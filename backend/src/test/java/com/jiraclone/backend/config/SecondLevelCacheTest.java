@@ -0,0 +1,161 @@
+package com.jiraclone.backend.config;
+
+import com.jiraclone.backend.dto.ProjectDTO;
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.ProjectStatisticsRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.service.ProjectMembershipService;
+import com.jiraclone.backend.service.ProjectService;
+import com.jiraclone.backend.service.ProjectStatisticsService;
+import com.jiraclone.backend.support.JpaTestConfig;
+import com.jiraclone.backend.support.TestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({SecondLevelCacheConfig.class, ProjectService.class, ProjectStatisticsService.class,
+        ProjectMembershipService.class, JpaTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired private ProjectService projectService;
+    @Autowired private TestFixtures fixtures;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectStatisticsRepository projectStatisticsRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private User lead;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        lead = fixtures.createUser("lead@example.com");
+        Project created = new Project();
+        created.setName("Cached");
+        created.setKey("CCH");
+        project = projectRepository.findById(projectService.createProject(created, lead.getEmail()).getId())
+                .orElseThrow();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectStatisticsRepository.deleteAllInBatch();
+        // Not in batch: removing projects also has to clear their project_members rows
+        projectRepository.deleteAll();
+        userRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void getProjectsByUser_RepeatReadLoadsProjectAndMembersFromCache() {
+        // Arrange
+        projectService.getProjectsByUser(lead.getEmail());
+        statistics.clear();
+
+        // Act
+        ProjectDTO project = projectService.getProjectsByUser(lead.getEmail()).get(0);
+
+        // Assert
+        assertEquals(1, project.getMembers().size());
+        assertEquals(0, statistics.getEntityFetchCount(), "entities must come from the second-level cache");
+        assertEquals(0, statistics.getCollectionFetchCount(), "members must come from the second-level cache");
+        assertTrue(statistics.getQueryCacheHitCount() > 0, "the caller's email lookup must hit the query cache");
+    }
+
+    @Test
+    void findById_SecondReadIssuesNoStatements() {
+        // Arrange
+        projectRepository.findById(project.getId());
+        statistics.clear();
+
+        // Act
+        Project cached = projectRepository.findById(project.getId()).orElseThrow();
+
+        // Assert
+        assertEquals("Cached", cached.getName());
+        assertEquals(lead.getId(), cached.getLead().getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(hits("l2.projects") > 0);
+    }
+
+    @Test
+    void addMemberToProject_InvalidatesCachedMembers() {
+        // Arrange
+        projectService.getProjectsByUser(lead.getEmail());
+        User member = fixtures.createUser("member@example.com");
+
+        // Act
+        projectService.addMemberToProject(project.getId(), member.getId());
+
+        // Assert
+        ProjectDTO reread = projectService.getProjectsByUser(lead.getEmail()).get(0);
+        assertEquals(2, reread.getMembers().size());
+        assertEquals(1, projectService.getProjectsByUser(member.getEmail()).size());
+    }
+
+    @Test
+    void updateProject_ReadAfterWriteSeesNewValues() {
+        // Arrange
+        projectRepository.findById(project.getId());
+        Project details = new Project();
+        details.setName("Renamed");
+        details.setKey("CCH");
+        details.setDescription("Updated through the service");
+
+        // Act
+        projectService.updateProject(project.getId(), details);
+
+        // Assert
+        statistics.clear();
+        Project reread = projectRepository.findById(project.getId()).orElseThrow();
+        assertEquals("Renamed", reread.getName());
+        assertEquals(0, statistics.getPrepareStatementCount(), "the update must refresh, not drop, the entry");
+    }
+
+    @Test
+    void findByEmail_CachedUntilUsersChange() {
+        // Arrange
+        userRepository.findByEmail(lead.getEmail());
+        statistics.clear();
+
+        // Act
+        userRepository.findByEmail(lead.getEmail());
+        long cachedStatements = statistics.getPrepareStatementCount();
+        User renamed = userRepository.findById(lead.getId()).orElseThrow();
+        renamed.setName("Renamed lead");
+        userRepository.save(renamed);
+        statistics.clear();
+        User reread = userRepository.findByEmail(lead.getEmail()).orElseThrow();
+
+        // Assert
+        assertEquals(0, cachedStatements);
+        assertEquals(1, statistics.getPrepareStatementCount(), "a write to users must invalidate the cached lookup");
+        assertEquals("Renamed lead", reread.getName());
+    }
+
+    private double hits(String cache) {
+        return meterRegistry.get("cache.gets").tag("cache", cache).tag("result", "hit")
+                .functionCounter().count();
+    }
+}
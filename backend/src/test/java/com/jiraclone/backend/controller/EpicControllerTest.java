@@ -1,10 +1,12 @@
 package com.jiraclone.backend.controller;
 
 import com.jiraclone.backend.dto.EpicDTO;
+import com.jiraclone.backend.dto.Expansion;
 import com.jiraclone.backend.model.Epic;
 import com.jiraclone.backend.service.EpicService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -57,10 +59,10 @@ class EpicControllerTest {
         Long epicId = 1L;
         EpicDTO expectedDto = new EpicDTO();
         expectedDto.setId(epicId);
-        when(epicService.getEpicById(epicId)).thenReturn(expectedDto);
+        when(epicService.getEpicById(eq(epicId), any(Expansion.class))).thenReturn(expectedDto);
 
         // Act
-        ResponseEntity<EpicDTO> response = epicController.getEpicById(epicId);
+        ResponseEntity<EpicDTO> response = epicController.getEpicById(epicId, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -72,16 +74,31 @@ class EpicControllerTest {
         // Arrange
         Long projectId = 1L;
         List<EpicDTO> expectedDtos = Arrays.asList(new EpicDTO(), new EpicDTO());
-        when(epicService.getEpicsByProject(projectId)).thenReturn(expectedDtos);
+        when(epicService.getEpicsByProject(eq(projectId), any(Expansion.class))).thenReturn(expectedDtos);
 
         // Act
-        ResponseEntity<List<EpicDTO>> response = epicController.getEpicsByProject(projectId);
+        ResponseEntity<List<EpicDTO>> response = epicController.getEpicsByProject(projectId, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(expectedDtos, response.getBody());
     }
 
+    @Test
+    void getEpicsByProject_ShouldPassExpansionToService() {
+        // Arrange
+        Long projectId = 1L;
+        ArgumentCaptor<Expansion> expansion = ArgumentCaptor.forClass(Expansion.class);
+        when(epicService.getEpicsByProject(eq(projectId), expansion.capture())).thenReturn(List.of());
+
+        // Act
+        epicController.getEpicsByProject(projectId, "stories.tasks");
+
+        // Assert
+        assertTrue(expansion.getValue().includes("stories"));
+        assertTrue(expansion.getValue().nested("stories").includes("tasks"));
+    }
+
     @Test
     void updateEpic_ShouldReturnUpdatedEpic() {
         // Arrange
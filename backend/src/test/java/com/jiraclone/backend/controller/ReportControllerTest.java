@@ -1,8 +1,16 @@
 package com.jiraclone.backend.controller;
 
+import com.jiraclone.backend.dto.ReportBatchRunDTO;
 import com.jiraclone.backend.dto.ReportDTO;
+import com.jiraclone.backend.dto.ReportJobDTO;
+import com.jiraclone.backend.dto.ReportSummaryDTO;
 import com.jiraclone.backend.model.Report;
+import com.jiraclone.backend.service.ReportBatchRun;
+import com.jiraclone.backend.service.ReportBatchService;
+import com.jiraclone.backend.service.ReportJob;
+import com.jiraclone.backend.service.ReportJobService;
 import com.jiraclone.backend.service.ReportService;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,19 +18,27 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.junit.jupiter.api.Assertions.*;
 
 
@@ -32,6 +48,12 @@ class ReportControllerTest {
     @Mock
     private ReportService reportService;
 
+    @Mock
+    private ReportJobService reportJobService;
+
+    @Mock
+    private ReportBatchService reportBatchService;
+
     @Mock
     private UserDetails userDetails;
 
@@ -45,42 +67,214 @@ class ReportControllerTest {
     }
 
     @Test
-    void generateReport_ShouldReturnGeneratedReport() {
+    void generateReport_ShouldQueueJobAndReturnAccepted() {
         // Arrange
-        when(userDetails.getUsername()).thenReturn("test@example.com"); // Move the stubbing here
+        when(userDetails.getUsername()).thenReturn("test@example.com");
 
         Map<String, Object> request = new HashMap<>();
         request.put("projectId", 1L);
         request.put("prompt", "Test prompt");
         request.put("type", Report.ReportType.STATUS_REPORT.toString());
 
-        ReportDTO expectedReport = new ReportDTO();
-        expectedReport.setId(1L);
+        ReportJobDTO expectedJob = new ReportJobDTO();
+        expectedJob.setJobId("job-1");
+        expectedJob.setStatus(ReportJob.Status.QUEUED);
 
-        when(reportService.generateReport(
+        when(reportJobService.submit(
                 eq(1L),
                 eq("test@example.com"),
                 eq("Test prompt"),
                 eq(Report.ReportType.STATUS_REPORT)
-        )).thenReturn(expectedReport);
+        )).thenReturn(expectedJob);
+
+        // Act
+        ResponseEntity<ReportJobDTO> response = reportController.generateReport(request, userDetails);
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(expectedJob, response.getBody());
+        assertEquals("/reports/jobs/job-1", response.getHeaders().getLocation().getPath());
+        verifyNoInteractions(reportService);
+    }
+
+    @Test
+    void generateReport_ShouldReturnServiceUnavailableWhenQueueIsFull() {
+        // Arrange
+        when(userDetails.getUsername()).thenReturn("test@example.com");
+        Map<String, Object> request = new HashMap<>();
+        request.put("projectId", 1L);
+        request.put("prompt", "Test prompt");
+        when(reportJobService.submit(eq(1L), eq("test@example.com"), eq("Test prompt"), eq(Report.ReportType.CUSTOM)))
+                .thenThrow(new RejectedExecutionException("full"));
+
+        // Act
+        ResponseEntity<ReportJobDTO> response = reportController.generateReport(request, userDetails);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void generateReport_ShouldReturnNotFoundForUnknownProject() {
+        // Arrange
+        when(userDetails.getUsername()).thenReturn("test@example.com");
+        Map<String, Object> request = new HashMap<>();
+        request.put("projectId", 99L);
+        request.put("type", "STATUS_REPORT");
+        when(reportJobService.submit(eq(99L), any(), any(), any()))
+                .thenThrow(new EntityNotFoundException("Project not found"));
 
         // Act
-        ResponseEntity<ReportDTO> response = reportController.generateReport(request, userDetails);
+        ResponseEntity<ReportJobDTO> response = reportController.generateReport(request, userDetails);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void getReportJob_ShouldClampWaitAndReturnJob() throws Exception {
+        // Arrange
+        ReportJobDTO job = new ReportJobDTO();
+        job.setJobId("job-1");
+        when(reportJobService.awaitJob("job-1", Duration.ofSeconds(ReportController.MAX_WAIT_SECONDS)))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(job)));
+
+        // Act
+        ResponseEntity<ReportJobDTO> response = reportController.getReportJob("job-1", 600).get();
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(expectedReport, response.getBody());
+        assertEquals(job, response.getBody());
+    }
+
+    @Test
+    void getReportJob_ShouldReturnNotFoundForUnknownJob() throws Exception {
+        // Arrange
+        when(reportJobService.awaitJob("missing", Duration.ZERO))
+                .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        // Act
+        ResponseEntity<ReportJobDTO> response = reportController.getReportJob("missing", 0).get();
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void getReportJob_ShouldReturnServiceUnavailableWhenStatusLoaderIsFull() throws Exception {
+        // Arrange
+        when(reportJobService.awaitJob("job-1", Duration.ofSeconds(5)))
+                .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException("full")));
+
+        // Act
+        ResponseEntity<ReportJobDTO> response = reportController.getReportJob("job-1", 5).get();
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void streamReport_ShouldReturnEventStreamForKnownProject() {
+        // Arrange
+        when(userDetails.getUsername()).thenReturn("test@example.com");
+        ReportService.ReportStream stream = mock(ReportService.ReportStream.class);
+        when(reportService.prepareStream(1L, "test@example.com", "Status?", Report.ReportType.STATUS_REPORT))
+                .thenReturn(stream);
+        when(stream.start(any(), any())).thenReturn(CompletableFuture.completedFuture(new ReportDTO()));
+
+        // Act
+        ResponseEntity<SseEmitter> response = reportController.streamReport(1L, "Status?", "STATUS_REPORT", userDetails);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(ReportController.STREAM_TIMEOUT_MILLIS, response.getBody().getTimeout());
+        assertEquals("no", response.getHeaders().getFirst("X-Accel-Buffering"));
+    }
+
+    @Test
+    void streamReport_ShouldReturnNotFoundForUnknownProject() {
+        // Arrange
+        when(userDetails.getUsername()).thenReturn("test@example.com");
+        when(reportService.prepareStream(eq(99L), any(), any(), eq(Report.ReportType.CUSTOM)))
+                .thenThrow(new EntityNotFoundException("Project not found"));
+
+        // Act
+        ResponseEntity<SseEmitter> response = reportController.streamReport(99L, null, "bogus", userDetails);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void streamReport_ShouldReturnServiceUnavailableWhenWorkersAreShutDown() {
+        // Arrange
+        when(userDetails.getUsername()).thenReturn("test@example.com");
+        ReportService.ReportStream stream = mock(ReportService.ReportStream.class);
+        when(reportService.prepareStream(1L, "test@example.com", null, Report.ReportType.CUSTOM)).thenReturn(stream);
+        when(stream.start(any(), any())).thenThrow(new RejectedExecutionException("shut down"));
+
+        // Act
+        ResponseEntity<SseEmitter> response = reportController.streamReport(1L, null, null, userDetails);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void startBatch_ShouldReturnAcceptedRun() {
+        // Arrange
+        ReportBatchRunDTO run = new ReportBatchRunDTO();
+        run.setRunId("run-1");
+        run.setStatus(ReportBatchRun.Status.RUNNING);
+        when(reportBatchService.start()).thenReturn(run);
+
+        // Act
+        ResponseEntity<ReportBatchRunDTO> response = reportController.startBatch();
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(run, response.getBody());
+        assertEquals("/reports/batch", response.getHeaders().getLocation().getPath());
+    }
+
+    @Test
+    void startBatch_ShouldReturnConflictWhileRunning() {
+        // Arrange
+        when(reportBatchService.start()).thenThrow(new IllegalStateException("still running"));
+
+        // Act
+        ResponseEntity<ReportBatchRunDTO> response = reportController.startBatch();
+
+        // Assert
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void getBatch_ShouldReturnNotFoundBeforeFirstRun() {
+        // Arrange
+        when(reportBatchService.getLatestRun()).thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<ReportBatchRunDTO> response = reportController.getBatch();
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
     @Test
     void getReportsByProject_ShouldReturnReportList() {
         // Arrange
         Long projectId = 1L;
-        List<ReportDTO> expectedReports = Arrays.asList(new ReportDTO(), new ReportDTO());
+        List<ReportSummaryDTO> expectedReports = Arrays.asList(new ReportSummaryDTO(), new ReportSummaryDTO());
         when(reportService.getReportsByProject(projectId)).thenReturn(expectedReports);
 
         // Act
-        ResponseEntity<List<ReportDTO>> response = reportController.getReportsByProject(projectId);
+        ResponseEntity<List<ReportSummaryDTO>> response = reportController.getReportsByProject(projectId);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -0,0 +1,121 @@
+package com.jiraclone.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jiraclone.backend.config.JacksonConfig;
+import com.jiraclone.backend.dto.EpicDTO;
+import com.jiraclone.backend.dto.TaskDTO;
+import com.jiraclone.backend.dto.UserStoryDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SparseFieldsetAdviceTest {
+
+    private SparseFieldsetAdvice advice;
+    private ObjectMapper objectMapper;
+    private EpicDTO epic;
+
+    @BeforeEach
+    void setUp() {
+        advice = new SparseFieldsetAdvice();
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new JacksonConfig().sparseFieldsetFilters().customize(builder);
+        objectMapper = builder.build();
+
+        TaskDTO task = new TaskDTO();
+        task.setId(3L);
+        task.setTaskKey("EPC-1");
+        task.setTitle("Task");
+        UserStoryDTO story = new UserStoryDTO();
+        story.setId(2L);
+        story.setTitle("Story");
+        story.setDescription("Long description");
+        story.setTasks(Set.of(task));
+        epic = new EpicDTO();
+        epic.setId(1L);
+        epic.setName("Epic");
+        epic.setSummary("Long summary");
+        epic.setStories(Set.of(story));
+    }
+
+    @Test
+    void withoutFieldsParameter_ShouldSerializeEverything() throws Exception {
+        // Act
+        JsonNode json = write(new MockHttpServletRequest());
+
+        // Assert
+        assertEquals("Long summary", json.get("summary").asText());
+        assertEquals("EPC-1", json.get("stories").get(0).get("tasks").get(0).get("taskKey").asText());
+    }
+
+    @Test
+    void withFieldsParameters_ShouldKeepOnlyRequestedFieldsAndId() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("fields[epics]", "name,stories");
+        request.setParameter("fields[stories]", "title, tasks");
+        request.setParameter("fields[tasks]", "taskKey");
+
+        // Act
+        JsonNode json = write(request);
+
+        // Assert
+        assertEquals(Set.of("id", "name", "stories"), fieldNames(json));
+        JsonNode story = json.get("stories").get(0);
+        assertEquals(Set.of("id", "title", "tasks"), fieldNames(story));
+        assertEquals(Set.of("id", "taskKey"), fieldNames(story.get("tasks").get(0)));
+    }
+
+    @Test
+    void withFieldsForOneType_ShouldLeaveOtherTypesUnfiltered() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setParameter("fields[tasks]", "title");
+
+        // Act
+        JsonNode json = write(request);
+
+        // Assert
+        assertEquals("Long summary", json.get("summary").asText());
+        assertEquals("Long description", json.get("stories").get(0).get("description").asText());
+        assertEquals(Set.of("id", "title"), fieldNames(json.get("stories").get(0).get("tasks").get(0)));
+    }
+
+    @Test
+    void dtos_ShouldSerializeWithAPlainObjectMapper() throws Exception {
+        // Act
+        JsonNode json = new ObjectMapper().findAndRegisterModules().valueToTree(epic);
+
+        // Assert
+        assertEquals("EPC-1", json.get("stories").get(0).get("tasks").get(0).get("taskKey").asText());
+    }
+
+    private JsonNode write(MockHttpServletRequest request) throws Exception {
+        MappingJacksonValue container = (MappingJacksonValue) advice.beforeBodyWrite(epic, null,
+                MediaType.APPLICATION_JSON, null,
+                new ServletServerHttpRequest(request),
+                new ServletServerHttpResponse(new MockHttpServletResponse()));
+        String body = container.getFilters() != null
+                ? objectMapper.writer(container.getFilters()).writeValueAsString(container.getValue())
+                : objectMapper.writeValueAsString(container.getValue());
+        return objectMapper.readTree(body);
+    }
+
+    private static Set<String> fieldNames(JsonNode node) {
+        Set<String> names = new HashSet<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
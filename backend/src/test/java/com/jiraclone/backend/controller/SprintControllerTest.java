@@ -1,5 +1,6 @@
 package com.jiraclone.backend.controller;
 
+import com.jiraclone.backend.dto.Expansion;
 import com.jiraclone.backend.dto.SprintDTO;
 import com.jiraclone.backend.model.Sprint;
 import com.jiraclone.backend.service.SprintService;
@@ -15,6 +16,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
@@ -58,10 +60,10 @@ class SprintControllerTest {
         // Arrange
         Long sprintId = 1L;
         SprintDTO expectedDto = new SprintDTO();
-        when(sprintService.getSprintById(sprintId)).thenReturn(expectedDto);
+        when(sprintService.getSprintById(eq(sprintId), any(Expansion.class))).thenReturn(expectedDto);
 
         // Act
-        ResponseEntity<SprintDTO> response = sprintController.getSprintById(sprintId);
+        ResponseEntity<SprintDTO> response = sprintController.getSprintById(sprintId, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -97,4 +99,28 @@ class SprintControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(expectedDto, response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getSprintsByProject_WithExpandTasks_ShouldRequestTasks() {
+        // Arrange
+        List<SprintDTO> expectedDtos = Arrays.asList(new SprintDTO(), new SprintDTO());
+        when(sprintService.getSprintsByProject(eq(1L), any(Expansion.class))).thenReturn(expectedDtos);
+
+        // Act
+        ResponseEntity<List<SprintDTO>> response = sprintController.getSprintsByProject(1L, "summary, tasks");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedDtos, response.getBody());
+        verify(sprintService).getSprintsByProject(eq(1L), argThat(expansion -> expansion.includes("tasks")));
+    }
+
+    @Test
+    void getSprintsByProject_WithoutExpand_ShouldReturnSummaries() {
+        // Act
+        sprintController.getSprintsByProject(1L, null);
+
+        // Assert
+        verify(sprintService).getSprintsByProject(eq(1L), argThat(expansion -> !expansion.includes("tasks")));
+    }
+}
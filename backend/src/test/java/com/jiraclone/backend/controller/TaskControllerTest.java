@@ -1,10 +1,17 @@
 package com.jiraclone.backend.controller;
 
+import com.jiraclone.backend.dto.BulkTaskResultDTO;
+import com.jiraclone.backend.dto.BulkTaskUpdateDTO;
 import com.jiraclone.backend.dto.TaskDTO;
+import com.jiraclone.backend.dto.TaskPageDTO;
 import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.repository.TaskCursor;
+import com.jiraclone.backend.repository.TaskFilter;
 import com.jiraclone.backend.service.TaskService;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -12,6 +19,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -19,8 +27,10 @@ import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.junit.jupiter.api.Assertions.*;
 
 
@@ -125,4 +135,119 @@ class TaskControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(expectedDtos, response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getTaskPageByProject_ShouldPassFiltersToService() {
+        // Arrange
+        String cursor = new TaskCursor(LocalDateTime.of(2024, 1, 1, 12, 0), 42L).encode();
+        TaskPageDTO expectedPage = new TaskPageDTO(List.of(new TaskDTO()), "next", true);
+        when(taskService.getTaskPageByProject(eq(1L), any(TaskFilter.class), eq(cursor), eq(20)))
+                .thenReturn(expectedPage);
+
+        // Act
+        ResponseEntity<TaskPageDTO> response = taskController.getTaskPageByProject(
+                1L, cursor, 20, Task.Status.DONE, Task.Priority.HIGH, 7L);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedPage, response.getBody());
+        ArgumentCaptor<TaskFilter> filter = ArgumentCaptor.forClass(TaskFilter.class);
+        verify(taskService).getTaskPageByProject(eq(1L), filter.capture(), eq(cursor), eq(20));
+        assertEquals(Task.Status.DONE, filter.getValue().getStatus());
+        assertEquals(Task.Priority.HIGH, filter.getValue().getPriority());
+        assertEquals(7L, filter.getValue().getAssigneeId());
+    }
+
+    @Test
+    void getTaskPageBySprint_WithInvalidCursor_ShouldReturnBadRequest() {
+        // Act
+        ResponseEntity<TaskPageDTO> response = taskController.getTaskPageBySprint(
+                1L, "bogus", 50, null, null, null);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void getTaskPageByProject_WithNonPositiveSize_ShouldReturnBadRequest() {
+        // Act
+        ResponseEntity<TaskPageDTO> response = taskController.getTaskPageByProject(
+                1L, null, 0, null, null, null);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void getTaskPageBySprint_WithUnknownSprint_ShouldReturnNotFound() {
+        // Arrange
+        when(taskService.getTaskPageBySprint(eq(9L), any(TaskFilter.class), isNull(), eq(50)))
+                .thenThrow(new EntityNotFoundException("Sprint not found with ID: 9"));
+
+        // Act
+        ResponseEntity<TaskPageDTO> response = taskController.getTaskPageBySprint(
+                9L, null, 50, null, null, null);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void getTaskPageByProject_ShouldNotTurnOtherFailuresIntoBadRequests() {
+        // Arrange
+        when(taskService.getTaskPageByProject(eq(1L), any(TaskFilter.class), isNull(), eq(50)))
+                .thenThrow(new IllegalArgumentException("unrelated"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskController.getTaskPageByProject(
+                1L, null, 50, null, null, null));
+    }
+
+    @Test
+    void bulkUpdate_ShouldReturnPerTaskResults() {
+        // Arrange
+        BulkTaskUpdateDTO request = new BulkTaskUpdateDTO();
+        request.setOperation(BulkTaskUpdateDTO.Operation.PRIORITY);
+        request.setPriority(Task.Priority.HIGH);
+        request.setTaskIds(List.of(1L, 2L));
+        BulkTaskResultDTO expected = new BulkTaskResultDTO(List.of(
+                new BulkTaskResultDTO.Item(1L, BulkTaskResultDTO.Outcome.UPDATED, null),
+                new BulkTaskResultDTO.Item(2L, BulkTaskResultDTO.Outcome.NOT_FOUND, null)), 1);
+        when(taskService.bulkUpdate(request)).thenReturn(expected);
+
+        // Act
+        ResponseEntity<BulkTaskResultDTO> response = taskController.bulkUpdate(request);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expected, response.getBody());
+    }
+
+    @Test
+    void bulkUpdate_WithInvalidRequest_ShouldReturnBadRequest() {
+        // Arrange
+        BulkTaskUpdateDTO request = new BulkTaskUpdateDTO();
+        when(taskService.bulkUpdate(request)).thenThrow(new IllegalArgumentException("Operation is required"));
+
+        // Act
+        ResponseEntity<BulkTaskResultDTO> response = taskController.bulkUpdate(request);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void bulkUpdate_WithUnknownSprint_ShouldReturnNotFound() {
+        // Arrange
+        BulkTaskUpdateDTO request = new BulkTaskUpdateDTO();
+        when(taskService.bulkUpdate(request)).thenThrow(new EntityNotFoundException("Sprint not found with ID: 9"));
+
+        // Act
+        ResponseEntity<BulkTaskResultDTO> response = taskController.bulkUpdate(request);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+}
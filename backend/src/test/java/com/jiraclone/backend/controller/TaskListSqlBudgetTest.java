@@ -0,0 +1,142 @@
+package com.jiraclone.backend.controller;
+
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Sprint;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.model.UserStory;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.SprintRepository;
+import com.jiraclone.backend.repository.TaskRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.repository.UserStoryRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the task list through the full filter chain, controller, service and repositories, with the
+ * test profile's fail-fast SQL budget in effect, so a lazy association touched per task fails the
+ * request instead of only being logged.
+ */
+@SpringBootTest(properties = {
+        "PORT=0",
+        "CONTEXT_PATH=",
+        "DATABASE_URL=jdbc:h2:mem:task-list-sql-budget;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "DATABASE_USERNAME=sa",
+        "DATABASE_PASSWORD=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "JWT_SECRET=test-secret-that-is-long-enough-for-hmac-sha-256",
+        "JWT_EXPIRATION=3600000",
+        "CORS_ALLOWED_ORIGINS=http://localhost:3000",
+        "OPENAI_API_URL=http://localhost:0",
+        "OPENAI_API_KEY=test"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskListSqlBudgetTest {
+
+    private static final int TASKS = 60;
+    private static final int USERS = 12;
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private SprintRepository sprintRepository;
+    @Autowired private UserStoryRepository userStoryRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project();
+        project.setName("Budget");
+        project.setKey("BUD");
+        project = projectRepository.save(project);
+        projectId = project.getId();
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setName("User " + i);
+            user.setEmail("user" + i + "@example.com");
+            user.setPassword("secret");
+            users.add(userRepository.save(user));
+        }
+        Sprint sprint = new Sprint();
+        sprint.setName("Sprint 1");
+        sprint.setStatus(Sprint.Status.ACTIVE);
+        sprint.setProject(project);
+        sprint = sprintRepository.save(sprint);
+        UserStory story = new UserStory();
+        story.setTitle("Story");
+        story.setProject(project);
+        story = userStoryRepository.save(story);
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTaskKey("BUD-" + (i + 1));
+            task.setTitle("Task " + i);
+            task.setProject(project);
+            task.setSprint(sprint);
+            task.setUserStory(story);
+            task.setAssignee(users.get(i % USERS));
+            task.setReporter(users.get((i + 1) % USERS));
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        userStoryRepository.deleteAllInBatch();
+        sprintRepository.deleteAllInBatch();
+        projectRepository.deleteAll();
+        userRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void getTasksByProject_StaysWithinTheSqlBudget() throws Exception {
+        // Act
+        ResultActions result = mockMvc.perform(get("/tasks/project/{projectId}", projectId));
+
+        // Assert: an exceeded budget would have failed the request with SqlBudgetExceededException
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(TASKS)))
+                .andExpect(jsonPath("$[0].assignee.email").exists())
+                .andExpect(jsonPath("$[0].sprintId").isNumber());
+
+        DistributionSummary statements = meterRegistry.find("http.server.sql.statements")
+                .tags("method", "GET", "uri", "/tasks/project/{projectId}")
+                .summary();
+        assertNotNull(statements, "the request must have run under the SQL budget filter");
+        assertEquals(1, statements.count());
+        assertTrue(statements.max() <= 3, "listing " + TASKS + " tasks ran " + statements.max() + " statements");
+        assertNull(meterRegistry.find("http.server.sql.budget.exceeded").counter());
+    }
+}
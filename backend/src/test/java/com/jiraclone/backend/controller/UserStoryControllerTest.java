@@ -1,5 +1,6 @@
 package com.jiraclone.backend.controller;
 
+import com.jiraclone.backend.dto.Expansion;
 import com.jiraclone.backend.dto.UserStoryDTO;
 import com.jiraclone.backend.model.UserStory;
 import com.jiraclone.backend.service.UserStoryService;
@@ -60,10 +61,10 @@ class UserStoryControllerTest {
         Long storyId = 1L;
         UserStoryDTO expectedDto = new UserStoryDTO();
         expectedDto.setId(storyId);
-        when(userStoryService.getUserStoryById(storyId)).thenReturn(expectedDto);
+        when(userStoryService.getUserStoryById(eq(storyId), any(Expansion.class))).thenReturn(expectedDto);
 
         // Act
-        ResponseEntity<UserStoryDTO> response = userStoryController.getUserStoryById(storyId);
+        ResponseEntity<UserStoryDTO> response = userStoryController.getUserStoryById(storyId, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -75,10 +76,10 @@ class UserStoryControllerTest {
         // Arrange
         Long projectId = 1L;
         List<UserStoryDTO> expectedDtos = Arrays.asList(new UserStoryDTO(), new UserStoryDTO());
-        when(userStoryService.getUserStoriesByProject(projectId)).thenReturn(expectedDtos);
+        when(userStoryService.getUserStoriesByProject(eq(projectId), any(Expansion.class))).thenReturn(expectedDtos);
 
         // Act
-        ResponseEntity<List<UserStoryDTO>> response = userStoryController.getUserStoriesByProject(projectId);
+        ResponseEntity<List<UserStoryDTO>> response = userStoryController.getUserStoriesByProject(projectId, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -90,10 +91,10 @@ class UserStoryControllerTest {
         // Arrange
         Long epicId = 1L;
         List<UserStoryDTO> expectedDtos = Arrays.asList(new UserStoryDTO(), new UserStoryDTO());
-        when(userStoryService.getUserStoriesByEpic(epicId)).thenReturn(expectedDtos);
+        when(userStoryService.getUserStoriesByEpic(eq(epicId), any(Expansion.class))).thenReturn(expectedDtos);
 
         // Act
-        ResponseEntity<List<UserStoryDTO>> response = userStoryController.getUserStoriesByEpic(epicId);
+        ResponseEntity<List<UserStoryDTO>> response = userStoryController.getUserStoriesByEpic(epicId, "tasks");
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -1,11 +1,9 @@
 package com.jiraclone.backend.dto;
 
 import com.jiraclone.backend.model.Project;
-import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.model.ProjectStatistics;
 import com.jiraclone.backend.model.User;
 import org.junit.jupiter.api.Test;
-import java.util.HashSet;
-import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 
 class ProjectDTOTest extends BaseDTOTest {
@@ -25,14 +23,12 @@ class ProjectDTOTest extends BaseDTOTest {
         lead.setName("Project Lead");
         project.setLead(lead);
 
-        Set<Task> tasks = new HashSet<>();
-        Task task = new Task();
-        task.setStatus(Task.Status.DONE);
-        tasks.add(task);
-        project.setTasks(tasks);
+        ProjectStatistics statistics = new ProjectStatistics(1L);
+        statistics.setTotalTasks(1);
+        statistics.setDoneTasks(1);
 
         // Act
-        ProjectDTO dto = ProjectDTO.fromEntity(project);
+        ProjectDTO dto = ProjectDTO.fromEntity(project, statistics);
 
         // Assert
         assertEquals(1L, dto.getId());
@@ -48,9 +44,8 @@ class ProjectDTOTest extends BaseDTOTest {
     @Test
     void fromEntity_WithNoTasks_ShouldHaveZeroCompletion() {
         Project project = new Project();
-        project.setTasks(new HashSet<>());
 
-        ProjectDTO dto = ProjectDTO.fromEntity(project);
+        ProjectDTO dto = ProjectDTO.fromEntity(project, new ProjectStatistics(1L));
 
         assertEquals(0, dto.getTasksCount());
         assertEquals(0, dto.getCompletedPercentage());
@@ -3,6 +3,7 @@ package com.jiraclone.backend.dto;
 import com.jiraclone.backend.model.Task;
 import com.jiraclone.backend.model.Project;
 import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.repository.TaskListItem;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -66,4 +67,43 @@ class TaskDTOTest extends BaseDTOTest {
         assertNull(dto.getProjectId());
         assertNull(dto.getAssignee());
     }
-}
\ No newline at end of file
+
+    @Test
+    void fromListItem_ShouldMapAllFields() {
+        // Arrange
+        TaskListItem item = new TaskListItem(1L, "TP-1", "Test Task", "Description", Task.Type.BUG,
+                Task.Priority.HIGH, Task.Status.IN_PROGRESS, null, 8, 4, 2L, "Test Project", 3L, 4L,
+                5L, "Assignee", "assignee@example.com", User.Role.MEMBER,
+                6L, "Reporter", "reporter@example.com", User.Role.SCRUM_MASTER, now, now);
+
+        // Act
+        TaskDTO dto = TaskDTO.fromListItem(item);
+
+        // Assert
+        assertEquals("TP-1", dto.getTaskKey());
+        assertEquals(Task.Status.IN_PROGRESS, dto.getStatus());
+        assertEquals(2L, dto.getProjectId());
+        assertEquals("Test Project", dto.getProjectName());
+        assertEquals(3L, dto.getSprintId());
+        assertEquals(4L, dto.getUserStoryId());
+        assertEquals("assignee@example.com", dto.getAssignee().getEmail());
+        assertEquals(User.Role.SCRUM_MASTER, dto.getReporter().getRole());
+        assertEquals(now, dto.getUpdatedAt());
+    }
+
+    @Test
+    void fromListItem_WithoutPeople_ShouldLeaveThemNull() {
+        // Arrange
+        TaskListItem item = new TaskListItem(1L, "TP-1", "Test Task", null, Task.Type.TASK,
+                Task.Priority.LOW, Task.Status.TODO, null, null, null, 2L, "Test Project", null, null,
+                null, null, null, null, null, null, null, null, now, now);
+
+        // Act
+        TaskDTO dto = TaskDTO.fromListItem(item);
+
+        // Assert
+        assertNull(dto.getAssignee());
+        assertNull(dto.getReporter());
+        assertNull(dto.getSprintId());
+    }
+}
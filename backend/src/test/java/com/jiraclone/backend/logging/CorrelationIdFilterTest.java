@@ -0,0 +1,71 @@
+package com.jiraclone.backend.logging;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CorrelationIdFilterTest {
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter();
+
+    @Test
+    void reusesCallerCorrelationIdAndClearsItAfterwards() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(CorrelationIdFilter.HEADER, "abc-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> seen.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+
+        // Assert
+        assertEquals("abc-123", seen.get());
+        assertEquals("abc-123", response.getHeader(CorrelationIdFilter.HEADER));
+        assertNull(MDC.get(CorrelationIdFilter.MDC_KEY));
+    }
+
+    @Test
+    void generatesIdWhenHeaderIsMissingOrInvalid() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(CorrelationIdFilter.HEADER, "bad id\r\ninjected: yes");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, new MockFilterChain());
+
+        // Assert
+        String generated = response.getHeader(CorrelationIdFilter.HEADER);
+        assertNotNull(generated);
+        assertNotEquals("bad id\r\ninjected: yes", generated);
+        assertEquals(36, generated.length());
+    }
+
+    @Test
+    void propagatesContextToOtherThreads() throws Exception {
+        // Arrange
+        AtomicReference<String> seen = new AtomicReference<>();
+        MDC.put(CorrelationIdFilter.MDC_KEY, "job-7");
+        Runnable task;
+        try {
+            task = CorrelationIdFilter.propagate(() -> seen.set(MDC.get(CorrelationIdFilter.MDC_KEY)));
+        } finally {
+            MDC.remove(CorrelationIdFilter.MDC_KEY);
+        }
+
+        // Act
+        Thread worker = new Thread(task);
+        worker.start();
+        worker.join();
+
+        // Assert
+        assertEquals("job-7", seen.get());
+    }
+}
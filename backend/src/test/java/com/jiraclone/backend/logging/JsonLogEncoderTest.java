@@ -0,0 +1,43 @@
+package com.jiraclone.backend.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLogEncoderTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final JsonLogEncoder encoder = new JsonLogEncoder();
+
+    @Test
+    void writesOneJsonLinePerEventWithMdcAndStackTrace() throws Exception {
+        // Arrange
+        LoggingEvent event = new LoggingEvent("test", loggerContext.getLogger("com.jiraclone.Test"), Level.WARN,
+                "Report for project {} failed: \"{}\"", new IllegalStateException("boom"),
+                new Object[]{42, "quota"});
+        event.setMDCPropertyMap(Map.of(CorrelationIdFilter.MDC_KEY, "abc-123"));
+
+        // Act
+        String line = new String(encoder.encode(event), StandardCharsets.UTF_8);
+
+        // Assert
+        assertTrue(line.endsWith("\n"));
+        assertEquals(1, line.split("\n").length);
+        JsonNode json = new ObjectMapper().readTree(line);
+        assertEquals("WARN", json.get("level").asText());
+        assertEquals("com.jiraclone.Test", json.get("logger").asText());
+        assertEquals("Report for project 42 failed: \"quota\"", json.get("message").asText());
+        assertEquals("abc-123", json.get("correlationId").asText());
+        assertEquals("java.lang.IllegalStateException", json.get("exception").asText());
+        assertTrue(json.get("stack_trace").asText().contains("boom"));
+        assertNotNull(json.get("@timestamp"));
+    }
+}
@@ -0,0 +1,37 @@
+package com.jiraclone.backend.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SamplingTurboFilterTest {
+
+    @Test
+    void dropsEventsBeyondTheLimitForTheSampledLoggerOnly() {
+        // Arrange
+        LoggerContext context = new LoggerContext();
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setLoggerName("org.hibernate.SQL_SLOW");
+        filter.setMaxPerSecond(3);
+        filter.start();
+        context.addTurboFilter(filter);
+        Logger slowQueries = context.getLogger("org.hibernate.SQL_SLOW");
+        Logger other = context.getLogger("com.jiraclone.Test");
+
+        // Act
+        int denied = 0;
+        for (int i = 0; i < 10; i++) {
+            if (!slowQueries.isInfoEnabled()) {
+                denied++;
+            }
+        }
+
+        // Assert
+        // A second boundary may fall inside the loop, so up to two windows' worth can pass
+        assertTrue(denied >= 4);
+        assertTrue(other.isInfoEnabled());
+        assertFalse(slowQueries.isTraceEnabled());
+    }
+}
@@ -0,0 +1,155 @@
+package com.jiraclone.backend.metrics;
+
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Sprint;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.SprintRepository;
+import com.jiraclone.backend.service.ProjectMembershipService;
+import com.jiraclone.backend.service.SprintService;
+import com.jiraclone.backend.support.JpaTestConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Import({SprintService.class, ProjectMembershipService.class, ServiceMetricsAspect.class, SqlBudgetConfig.class,
+        JpaTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ServiceMetricsAspectTest {
+
+    @Autowired private SprintService sprintService;
+    @Autowired private ProjectMembershipService projectMembershipService;
+    @Autowired private SprintRepository sprintRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        project = new Project();
+        project.setName("Metrics");
+        project.setKey("MET");
+        project = projectRepository.save(project);
+
+        Sprint sprint = new Sprint();
+        sprint.setName("Sprint 1");
+        sprint.setStartDate(LocalDate.now());
+        sprint.setEndDate(LocalDate.now().plusDays(14));
+        sprint.setStatus(Sprint.Status.PLANNING);
+        sprint.setProject(project);
+        sprintRepository.save(sprint);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sprintRepository.deleteAll();
+        projectRepository.deleteAll();
+    }
+
+    @Test
+    void recordsLatencyAndQueryCountPerOperation() {
+        // Arrange
+        statistics.clear();
+
+        // Act
+        sprintService.getSprintsByProject(project.getId());
+
+        // Assert
+        Timer timer = meterRegistry.find(ServiceMetricsAspect.TIMER_NAME)
+                .tags("service", "SprintService", "operation", "getSprintsByProject", "outcome", "success")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        DistributionSummary queries = meterRegistry.find(ServiceMetricsAspect.QUERIES_NAME)
+                .tags("service", "SprintService", "operation", "getSprintsByProject")
+                .summary();
+        assertNotNull(queries);
+        assertEquals(1, queries.count());
+        assertTrue(queries.totalAmount() > 0);
+        assertEquals(statistics.getPrepareStatementCount(), (long) queries.totalAmount());
+    }
+
+    @Test
+    void countsTheSameStatementsAsTheRequestBudget() {
+        // Arrange
+        double queriesBefore = queriesOf("getSprintsByProject");
+
+        // Act
+        int budgetStatements;
+        try (SqlBudget budget = SqlBudget.open()) {
+            sprintService.getSprintsByProject(project.getId());
+            sprintService.getSprintsByProject(project.getId());
+            budgetStatements = budget.getStatements();
+        }
+
+        // Assert
+        assertTrue(budgetStatements > 0);
+        assertEquals(budgetStatements, (long) (queriesOf("getSprintsByProject") - queriesBefore));
+    }
+
+    @Test
+    void countsErrorsByExceptionType() {
+        // Act
+        assertThrows(EntityNotFoundException.class, () -> sprintService.getSprintById(-1L));
+
+        // Assert
+        Counter errors = meterRegistry.find(ServiceMetricsAspect.ERRORS_NAME)
+                .tags("service", "SprintService", "operation", "getSprintById",
+                        "exception", "EntityNotFoundException")
+                .counter();
+        assertNotNull(errors);
+        assertEquals(1, errors.count());
+        Timer failed = meterRegistry.find(ServiceMetricsAspect.TIMER_NAME)
+                .tags("service", "SprintService", "operation", "getSprintById", "outcome", "error")
+                .timer();
+        assertNotNull(failed);
+        assertEquals(1, failed.count());
+    }
+
+    @Test
+    void leavesMembershipChecksUninstrumented() {
+        // Act
+        boolean member = projectMembershipService.isMember(project.getId(), -1L);
+
+        // Assert
+        assertFalse(member);
+        assertFalse(AopUtils.isAopProxy(projectMembershipService));
+        assertNull(meterRegistry.find(ServiceMetricsAspect.TIMER_NAME)
+                .tags("service", "ProjectMembershipService")
+                .timer());
+    }
+
+    private double queriesOf(String operation) {
+        DistributionSummary queries = meterRegistry.find(ServiceMetricsAspect.QUERIES_NAME)
+                .tags("service", "SprintService", "operation", operation)
+                .summary();
+        return queries == null ? 0 : queries.totalAmount();
+    }
+}
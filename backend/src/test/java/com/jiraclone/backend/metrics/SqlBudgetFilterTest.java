@@ -0,0 +1,82 @@
+package com.jiraclone.backend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlBudgetFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void recordsStatementsPerRouteWithinBudget() throws Exception {
+        // Arrange
+        SqlBudgetFilter filter = new SqlBudgetFilter(meterRegistry, 5, 500, true);
+
+        // Act
+        filter.doFilter(request(), new MockHttpServletResponse(), statements(3));
+
+        // Assert
+        DistributionSummary statements = meterRegistry.find(SqlBudgetFilter.STATEMENTS_NAME)
+                .tags("method", "GET", "uri", "/tasks/project/{projectId}")
+                .summary();
+        assertNotNull(statements);
+        assertEquals(3, statements.totalAmount());
+        assertNull(meterRegistry.find(SqlBudgetFilter.EXCEEDED_NAME).counter());
+        assertNull(SqlBudget.current());
+    }
+
+    @Test
+    void countsRequestsOverBudgetWithoutFailingByDefault() throws Exception {
+        // Arrange
+        SqlBudgetFilter filter = new SqlBudgetFilter(meterRegistry, 5, 500, false);
+
+        // Act
+        filter.doFilter(request(), new MockHttpServletResponse(), statements(8));
+
+        // Assert
+        Counter exceeded = meterRegistry.find(SqlBudgetFilter.EXCEEDED_NAME)
+                .tags("uri", "/tasks/project/{projectId}", "limit", "statements")
+                .counter();
+        assertNotNull(exceeded);
+        assertEquals(1, exceeded.count());
+    }
+
+    @Test
+    void failFastRejectsRequestsOverBudgetWithTheirStatementShapes() {
+        // Arrange
+        SqlBudgetFilter filter = new SqlBudgetFilter(meterRegistry, 5, 500, true);
+
+        // Act
+        SqlBudgetExceededException e = assertThrows(SqlBudgetExceededException.class,
+                () -> filter.doFilter(request(), new MockHttpServletResponse(), statements(8)));
+
+        // Assert
+        assertTrue(e.getMessage().contains("8 statements"));
+        assertTrue(e.getMessage().contains("8x select * from users where id = ?"));
+        assertNull(SqlBudget.current());
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/project/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/tasks/project/{projectId}");
+        return request;
+    }
+
+    /** A handler that issues one user lookup per task, the classic N+1. */
+    private static FilterChain statements(int count) {
+        return (request, response) -> {
+            for (int i = 0; i < count; i++) {
+                SqlBudget.current().record("select * from users where id = " + i, 1_000);
+            }
+        };
+    }
+}
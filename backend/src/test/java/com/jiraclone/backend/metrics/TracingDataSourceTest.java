@@ -0,0 +1,81 @@
+package com.jiraclone.backend.metrics;
+
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.repository.ProjectRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import(SqlBudgetConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TracingDataSourceTest {
+
+    @Autowired private DataSource dataSource;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+    }
+
+    @Test
+    void recordsStatementsAndShapesWhileBudgetIsOpen() {
+        // Arrange
+        assertInstanceOf(TracingDataSource.class, dataSource);
+        Long first = projectRepository.save(project("First", "FST")).getId();
+        Long second = projectRepository.save(project("Second", "SND")).getId();
+
+        // Act
+        int statements;
+        List<Map.Entry<String, Integer>> shapes;
+        try (SqlBudget budget = SqlBudget.open()) {
+            projectRepository.findById(first);
+            projectRepository.findById(second);
+            jdbcTemplate.queryForObject("select count(*) from projects where id in (" + first + ", " + second + ")",
+                    Long.class);
+            statements = budget.getStatements();
+            shapes = budget.topShapes(5);
+        }
+
+        // Assert
+        assertEquals(3, statements);
+        assertEquals(2, shapes.get(0).getValue());
+        assertTrue(shapes.get(0).getKey().startsWith("select"));
+        assertEquals("select count(*) from projects where id in (?)", shapes.get(1).getKey());
+        assertNull(SqlBudget.current());
+    }
+
+    @Test
+    void nestedBudgetRestoresOuterBudget() {
+        try (SqlBudget outer = SqlBudget.open()) {
+            try (SqlBudget inner = SqlBudget.open()) {
+                projectRepository.count();
+                assertEquals(1, inner.getStatements());
+            }
+            assertSame(outer, SqlBudget.current());
+            assertEquals(0, outer.getStatements());
+        }
+    }
+
+    private static Project project(String name, String key) {
+        Project project = new Project();
+        project.setName(name);
+        project.setKey(key);
+        return project;
+    }
+}
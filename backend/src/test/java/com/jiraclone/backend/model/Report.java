@@ -13,17 +13,39 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "reports")
+@Table(name = "reports", indexes = {
+    @Index(name = "idx_reports_project_created", columnList = "project_id, created_at")
+})
 public class Report {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Characters of content kept on the row itself for report lists
+    public static final int PREVIEW_LENGTH = 200;
+
     private String title;
 
-    @Column(length = 10000)
-    private String content;
+    // Bodies written before compressed storage; new reports keep theirs in ReportBody
+    @Column(name = "content", length = 10000)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String legacyContent;
+
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "body_id")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ReportBody body;
+
+    // Uncompressed length of the content, so lists can show it without loading the body
+    @Setter(AccessLevel.NONE)
+    private Integer contentLength;
+
+    @Column(length = PREVIEW_LENGTH)
+    @Setter(AccessLevel.NONE)
+    private String preview;
 
     private String prompt;
 
@@ -44,6 +66,21 @@ public class Report {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    /**
+     * Report body, inflated from {@link ReportBody} on first access (which also loads it).
+     * Falls back to the legacy uncompressed column for reports stored before.
+     */
+    public String getContent() {
+        return body != null ? body.getContent() : legacyContent;
+    }
+
+    public void setContent(String content) {
+        legacyContent = null;
+        body = content != null ? ReportBody.of(content) : null;
+        contentLength = content != null ? content.length() : null;
+        preview = content != null ? content.substring(0, Math.min(content.length(), PREVIEW_LENGTH)) : null;
+    }
+
     // Define report types
     public enum ReportType {
         STATUS_REPORT,
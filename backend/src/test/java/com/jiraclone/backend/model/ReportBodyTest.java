@@ -0,0 +1,37 @@
+package com.jiraclone.backend.model;
+
+import jakarta.persistence.Column;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportBodyTest {
+
+    @Test
+    void testDataColumnIsSizedForMediumBlob() throws Exception {
+        // Act
+        Column column = ReportBody.class.getDeclaredField("data").getAnnotation(Column.class);
+
+        // Assert: MySQL maps a binary LOB to TINYBLOB (255 bytes) unless the length asks for more
+        assertEquals(16_777_215, column.length());
+    }
+
+    @Test
+    void testContentRoundTripsWhenCompressedBodyExceedsTinyBlob() {
+        // Arrange: random text barely compresses
+        Random random = new Random(16);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 4_000; i++) {
+            text.append((char) ('a' + random.nextInt(26)));
+        }
+
+        // Act
+        ReportBody body = ReportBody.of(text.toString());
+
+        // Assert
+        assertTrue(body.getCompressedSize() > 255);
+        assertEquals(text.toString(), body.getContent());
+    }
+}
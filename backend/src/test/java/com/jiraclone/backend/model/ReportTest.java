@@ -54,6 +54,22 @@ class ReportTest {
         assertEquals(now, report.getUpdatedAt());
     }
 
+    @Test
+    void testSetContent_StoresCompressedBodyWithPreview() {
+        // Arrange
+        String content = "# Risks\n" + "Vendor delivery may slip by a week. ".repeat(50);
+
+        // Act
+        report.setContent(content);
+
+        // Assert
+        assertEquals(content, report.getContent());
+        assertEquals(content.length(), report.getContentLength());
+        assertEquals(content.substring(0, Report.PREVIEW_LENGTH), report.getPreview());
+        assertEquals(content, ReportBody.of(content).getContent());
+        assertTrue(ReportBody.of(content).getCompressedSize() < content.length() / 5);
+    }
+
     @Test
     void testReportType() {
         // Assert
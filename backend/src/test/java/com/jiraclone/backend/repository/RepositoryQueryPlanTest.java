@@ -0,0 +1,256 @@
+package com.jiraclone.backend.repository;
+
+import com.jiraclone.backend.config.SchemaMigrationConfig;
+import com.jiraclone.backend.model.Epic;
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Sprint;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.model.User;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every query method the repositories declare against the migrated schema and checks the
+ * H2 plan of each statement it issues. A table scan that is not listed in
+ * {@link #EXPECTED_SCANS} means a query has no index to serve it.
+ */
+@DataJpaTest(showSql = false, properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plans;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.jiraclone.backend.repository.RepositoryQueryPlanTest$CapturingInspector"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(SchemaMigrationConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RepositoryQueryPlanTest {
+
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\* public\\.(\\w+)\\.tableScan");
+
+    // Queries that read a whole table by design
+    private static final Map<String, Set<String>> EXPECTED_SCANS = Map.of(
+            "ProjectRepository.findAllIds", Set.of("projects"),
+            // Nightly batch: every project is checked; the EXISTS probes use the sprint and task indexes
+            "ProjectRepository.findActiveWithLead", Set.of("projects"));
+
+    public static class CapturingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private EpicRepository epicRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private ProjectStatisticsRepository projectStatisticsRepository;
+    @Autowired private ReportRepository reportRepository;
+    @Autowired private SprintRepository sprintRepository;
+    @Autowired private TaskKeySequenceRepository taskKeySequenceRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private UserStoryRepository userStoryRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private final Map<Class<?>, Object> samples = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setName("Planner");
+        user.setEmail("planner-" + System.nanoTime() + "@example.com");
+        user.setPassword("secret");
+        user = userRepository.save(user);
+
+        Project project = new Project();
+        project.setName("Plans");
+        project.setKey("Q" + (System.nanoTime() % 10_000));
+        project.setLead(user);
+        project = projectRepository.save(project);
+
+        Epic epic = new Epic();
+        epic.setName("Epic");
+        epic.setProject(project);
+        epic = epicRepository.save(epic);
+
+        Sprint sprint = new Sprint();
+        sprint.setName("Sprint");
+        sprint.setProject(project);
+        sprint.setStatus(Sprint.Status.ACTIVE);
+        sprint = sprintRepository.save(sprint);
+
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setTaskKey(project.getKey() + "-1");
+        task.setProject(project);
+        task.setAssignee(user);
+        task.setReporter(user);
+        task.setStatus(Task.Status.TODO);
+        task = taskRepository.save(task);
+
+        samples.put(User.class, user);
+        samples.put(Project.class, project);
+        samples.put(Epic.class, epic);
+        samples.put(Sprint.class, sprint);
+        samples.put(Task.class, task);
+    }
+
+    @Test
+    void repositoryQueriesUseIndexes() {
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        for (Object repository : List.of(commentRepository, epicRepository, projectRepository,
+                projectStatisticsRepository, reportRepository, sprintRepository, taskKeySequenceRepository,
+                taskRepository, userRepository, userStoryRepository)) {
+            Class<?> type = repositoryInterface(repository);
+            for (Method method : type.getDeclaredMethods()) {
+                if (Modifier.isAbstract(method.getModifiers())) {
+                    queries.put(type.getSimpleName() + "." + method.getName(), () -> invoke(repository, method));
+                }
+            }
+        }
+        Long projectId = ((Project) samples.get(Project.class)).getId();
+        Long userId = ((User) samples.get(User.class)).getId();
+        TaskCursor after = new TaskCursor(LocalDateTime.now(), Long.MAX_VALUE);
+        queries.put("TaskRepository.findPage(project)",
+                () -> taskRepository.findPage(filter(projectId, null, null, null), after, 20));
+        queries.put("TaskRepository.findPage(project, status)",
+                () -> taskRepository.findPage(filter(projectId, null, null, Task.Status.TODO), after, 20));
+        queries.put("TaskRepository.findPage(sprint)",
+                () -> taskRepository.findPage(filter(null, 1L, null, null), null, 20));
+        queries.put("TaskRepository.findPage(assignee)",
+                () -> taskRepository.findPage(filter(null, null, userId, null), null, 20));
+
+        List<String> violations = new ArrayList<>();
+        queries.forEach((name, query) -> {
+            CapturingInspector.STATEMENTS.clear();
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                query.run();
+                status.setRollbackOnly();
+            });
+            assertFalse(CapturingInspector.STATEMENTS.isEmpty(), name + " issued no statements");
+            String method = name.contains("(") ? name.substring(0, name.indexOf('(')) : name;
+            for (String sql : CapturingInspector.STATEMENTS) {
+                String plan = explain(sql);
+                Matcher scan = TABLE_SCAN.matcher(plan);
+                while (scan.find()) {
+                    if (!EXPECTED_SCANS.getOrDefault(method, Set.of()).contains(scan.group(1))) {
+                        violations.add(name + " scans " + scan.group(1) + ":\n" + plan);
+                    }
+                }
+            }
+        });
+
+        assertTrue(violations.isEmpty(), String.join("\n\n", violations));
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("explain " + sql);
+                 ResultSet plan = statement.executeQuery()) {
+                StringBuilder text = new StringBuilder();
+                while (plan.next()) {
+                    text.append(plan.getString(1));
+                }
+                return text.toString();
+            }
+        });
+    }
+
+    private void invoke(Object repository, Method method) {
+        Object[] args = new Object[method.getParameterCount()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = sample(method.getParameterTypes()[i], method.getGenericParameterTypes()[i]);
+        }
+        try {
+            method.invoke(repository, args);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(method + " failed", e.getTargetException());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object sample(Class<?> type, Type genericType) {
+        if (type == Long.class || type == long.class) {
+            return ((Project) samples.get(Project.class)).getId();
+        }
+        if (type == int.class) {
+            return 10;
+        }
+        if (type == String.class) {
+            return "x";
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now().minusDays(14);
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (Collection.class.isAssignableFrom(type)
+                && genericType instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments()[0] == Long.class) {
+            return List.of(1L, 2L, 3L);
+        }
+        if (samples.containsKey(type)) {
+            return samples.get(type);
+        }
+        throw new IllegalArgumentException("No sample value for " + genericType);
+    }
+
+    private static TaskFilter filter(Long projectId, Long sprintId, Long assigneeId, Task.Status status) {
+        TaskFilter filter = new TaskFilter();
+        filter.setProjectId(projectId);
+        filter.setSprintId(sprintId);
+        filter.setAssigneeId(assigneeId);
+        filter.setStatus(status);
+        return filter;
+    }
+
+    private static Class<?> repositoryInterface(Object repository) {
+        for (Class<?> type : repository.getClass().getInterfaces()) {
+            if (type.getPackageName().equals(RepositoryQueryPlanTest.class.getPackageName())) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Not a repository proxy: " + repository);
+    }
+}
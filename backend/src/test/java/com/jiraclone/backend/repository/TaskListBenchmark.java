@@ -0,0 +1,163 @@
+package com.jiraclone.backend.repository;
+
+import com.jiraclone.backend.dto.TaskDTO;
+import com.jiraclone.backend.model.*;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Lists every task of a 10k-task project three ways: task entities with lazy parents loaded by
+ * batch fetching, task entities with every parent fetch-joined (the shape the former eager
+ * mappings produced), and the flat {@link TaskListItem} rows the task lists now use.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=com.jiraclone.backend.repository.TaskListBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskListBenchmark {
+
+    private static final int TASKS = 10_000;
+    private static final int USERS = 25;
+    private static final int SPRINTS = 20;
+    private static final int STORIES = 200;
+    private static final String ORDER = " ORDER BY t.createdAt DESC, t.id DESC";
+
+    private SessionFactory sessionFactory;
+    private Long projectId;
+
+    @Setup
+    public void setUp() {
+        // Same column names as under Spring Boot, so the schema's indexes apply
+        Configuration configuration = new Configuration()
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .setProperty(AvailableSettings.URL, "jdbc:h2:mem:task-list-benchmark;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "100")
+                .setProperty(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, "50");
+        for (Class<?> entity : List.of(Comment.class, Epic.class, Project.class, ProjectStatistics.class,
+                Report.class, ReportBody.class, Sprint.class, Task.class, TaskKeySequence.class,
+                User.class, UserStory.class)) {
+            configuration.addAnnotatedClass(entity);
+        }
+        sessionFactory = configuration.buildSessionFactory();
+        projectId = sessionFactory.fromTransaction(TaskListBenchmark::seed);
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<TaskDTO> lazyEntitiesWithBatchFetch() {
+        return list("SELECT t FROM Task t WHERE t.project.id = :projectId" + ORDER,
+                Task.class, TaskDTO::fromEntity);
+    }
+
+    @Benchmark
+    public List<TaskDTO> fetchJoinedEntities() {
+        return list("SELECT t FROM Task t LEFT JOIN FETCH t.project LEFT JOIN FETCH t.sprint "
+                        + "LEFT JOIN FETCH t.userStory LEFT JOIN FETCH t.assignee LEFT JOIN FETCH t.reporter "
+                        + "WHERE t.project.id = :projectId" + ORDER,
+                Task.class, TaskDTO::fromEntity);
+    }
+
+    @Benchmark
+    public List<TaskDTO> listItemRows() {
+        return list(TaskListItem.SELECT + "WHERE t.project.id = :projectId" + ORDER,
+                TaskListItem.class, TaskDTO::fromListItem);
+    }
+
+    private <T> List<TaskDTO> list(String jpql, Class<T> rowType, Function<T, TaskDTO> mapper) {
+        try (Session session = sessionFactory.openSession()) {
+            session.setDefaultReadOnly(true);
+            List<TaskDTO> tasks = new ArrayList<>(TASKS);
+            for (T row : session.createQuery(jpql, rowType).setParameter("projectId", projectId).getResultList()) {
+                tasks.add(mapper.apply(row));
+            }
+            return tasks;
+        }
+    }
+
+    private static Long seed(Session session) {
+        Project project = new Project();
+        project.setName("Benchmark");
+        project.setKey("BEN");
+        session.persist(project);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setName("User " + i);
+            user.setEmail("user" + i + "@example.com");
+            user.setPassword("secret");
+            session.persist(user);
+            users.add(user);
+        }
+        List<Sprint> sprints = new ArrayList<>();
+        for (int i = 0; i < SPRINTS; i++) {
+            Sprint sprint = new Sprint();
+            sprint.setName("Sprint " + i);
+            sprint.setProject(project);
+            sprint.setStatus(Sprint.Status.COMPLETED);
+            session.persist(sprint);
+            sprints.add(sprint);
+        }
+        List<UserStory> stories = new ArrayList<>();
+        for (int i = 0; i < STORIES; i++) {
+            UserStory story = new UserStory();
+            story.setTitle("Story " + i);
+            story.setProject(project);
+            session.persist(story);
+            stories.add(story);
+        }
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTaskKey("BEN-" + (i + 1));
+            task.setTitle("Task " + i);
+            task.setDescription("Benchmark task " + i);
+            task.setType(Task.Type.TASK);
+            task.setPriority(Task.Priority.MEDIUM);
+            task.setStatus(Task.Status.values()[i % Task.Status.values().length]);
+            task.setEstimatedHours(i % 13);
+            task.setProject(project);
+            task.setSprint(sprints.get(i % SPRINTS));
+            task.setUserStory(stories.get(i % STORIES));
+            task.setAssignee(users.get(i % USERS));
+            task.setReporter(users.get((i + 1) % USERS));
+            session.persist(task);
+            if (i % 500 == 0) {
+                session.flush();
+                session.clear();
+                project = session.getReference(Project.class, project.getId());
+                sprints.replaceAll(sprint -> session.getReference(Sprint.class, sprint.getId()));
+                stories.replaceAll(story -> session.getReference(UserStory.class, story.getId()));
+                users.replaceAll(user -> session.getReference(User.class, user.getId()));
+            }
+        }
+        return project.getId();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskListBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
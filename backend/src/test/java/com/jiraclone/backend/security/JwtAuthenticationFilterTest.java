@@ -1,6 +1,11 @@
-package com.jiraclone.backend.security;import jakarta.servlet.FilterChain;import jakarta.servlet.http.HttpServletRequest;import jakarta.servlet.http.HttpServletResponse;import org.junit.jupiter.api.BeforeEach;import org.junit.jupiter.api.Test;import org.junit.jupiter.api.extension.ExtendWith;import org.mockito.Mock;import org.mockito.junit.jupiter.MockitoExtension;import org.springframework.security.core.userdetails.UserDetails;
+package com.jiraclone.backend.security;import jakarta.servlet.FilterChain;import jakarta.servlet.http.HttpServletRequest;import jakarta.servlet.http.HttpServletResponse;import org.junit.jupiter.api.BeforeEach;import org.junit.jupiter.api.Test;import org.junit.jupiter.api.extension.ExtendWith;import org.mockito.Mock;import org.mockito.junit.jupiter.MockitoExtension;import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
+import java.time.Instant;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -25,10 +30,18 @@ class JwtAuthenticationFilterTest {
 
     @BeforeEach
     void setUp() {
-        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenUtil);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PrincipalCache principalCache = new PrincipalCache(100, 60000, meterRegistry);
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100, 60000, meterRegistry);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenUtil, principalCache, verifiedTokenCache);
         jwtAuthenticationFilter.setUserDetailsService(userDetailsService);
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void doFilterInternal_WithValidToken_ShouldAuthenticate() throws Exception {
         // Arrange
@@ -36,9 +49,10 @@ class JwtAuthenticationFilterTest {
         String username = "test@example.com";
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
         when(request.getServletPath()).thenReturn("/api/projects");
-        when(jwtTokenUtil.extractUsername(token)).thenReturn(username);
+        TokenClaims claims = new TokenClaims(username, Instant.now(), Instant.now().plusSeconds(3600));
+        when(jwtTokenUtil.parseToken(token)).thenReturn(claims);
         when(userDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
-        when(jwtTokenUtil.validateToken(token, userDetails)).thenReturn(true);
+        when(jwtTokenUtil.validateToken(claims, userDetails)).thenReturn(true);
 
         // Act
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -46,6 +60,7 @@ class JwtAuthenticationFilterTest {
         // Assert
         verify(filterChain).doFilter(request, response);
         verify(userDetailsService).loadUserByUsername(username);
+        verify(jwtTokenUtil, times(1)).parseToken(token);
     }
 
     @Test
@@ -60,4 +75,27 @@ class JwtAuthenticationFilterTest {
         verify(filterChain).doFilter(request, response);
         verify(userDetailsService, never()).loadUserByUsername(anyString());
     }
-}
\ No newline at end of file
+
+    @Test
+    void doFilterInternal_WithRepeatedToken_ShouldVerifyAndLoadUserOnce() throws Exception {
+        // Arrange
+        String token = "valid-token";
+        String username = "test@example.com";
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
+        when(request.getServletPath()).thenReturn("/api/projects");
+        TokenClaims claims = new TokenClaims(username, Instant.now(), Instant.now().plusSeconds(3600));
+        when(jwtTokenUtil.parseToken(token)).thenReturn(claims);
+        when(userDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
+        when(jwtTokenUtil.validateToken(claims, userDetails)).thenReturn(true);
+
+        // Act
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Assert
+        verify(filterChain, times(2)).doFilter(request, response);
+        verify(userDetailsService, times(1)).loadUserByUsername(username);
+        verify(jwtTokenUtil, times(1)).parseToken(token);
+    }
+}
@@ -1,9 +1,10 @@
 package com.jiraclone.backend.security;
 
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -18,9 +19,7 @@ class JwtTokenUtilTest {
 
     @BeforeEach
     void setUp() {
-        jwtTokenUtil = new JwtTokenUtil();
-        ReflectionTestUtils.setField(jwtTokenUtil, "secret", SECRET_KEY);
-        ReflectionTestUtils.setField(jwtTokenUtil, "expiration", EXPIRATION);
+        jwtTokenUtil = new JwtTokenUtil(SECRET_KEY, EXPIRATION);
 
         userDetails = mock(UserDetails.class);
         when(userDetails.getUsername()).thenReturn("test@example.com");
@@ -59,4 +58,38 @@ class JwtTokenUtilTest {
         // Assert
         assertEquals("test@example.com", username);
     }
-}
\ No newline at end of file
+
+    @Test
+    void parseToken_ShouldReturnVerifiedClaims() {
+        // Arrange
+        String token = jwtTokenUtil.generateToken(userDetails);
+
+        // Act
+        TokenClaims claims = jwtTokenUtil.parseToken(token);
+
+        // Assert
+        assertEquals("test@example.com", claims.getSubject());
+        assertFalse(claims.isExpired());
+        assertTrue(jwtTokenUtil.validateToken(claims, userDetails));
+    }
+
+    @Test
+    void parseToken_WithTamperedToken_ShouldThrow() {
+        // Arrange
+        String token = jwtTokenUtil.generateToken(userDetails);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtTokenUtil.parseToken(tampered));
+    }
+
+    @Test
+    void parseToken_WithExpiredToken_ShouldThrow() {
+        // Arrange
+        JwtTokenUtil expiredTokenUtil = new JwtTokenUtil(SECRET_KEY, -1000L);
+        String token = expiredTokenUtil.generateToken(userDetails);
+
+        // Act & Assert
+        assertThrows(ExpiredJwtException.class, () -> jwtTokenUtil.parseToken(token));
+    }
+}
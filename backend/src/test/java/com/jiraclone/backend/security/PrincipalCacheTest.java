@@ -0,0 +1,68 @@
+package com.jiraclone.backend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(100, 60000, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    private UserDetails load(String email) {
+        loads.incrementAndGet();
+        return new User(email, "password", new ArrayList<>());
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndServeFromCache() {
+        // Act
+        UserDetails first = principalCache.get("test@example.com", this::load);
+        UserDetails second = principalCache.get("test@example.com", this::load);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evict_ShouldForceReload() {
+        // Arrange
+        principalCache.get("test@example.com", this::load);
+
+        // Act
+        principalCache.evict("test@example.com");
+        principalCache.get("test@example.com", this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldRecordHitAndMissMetrics() {
+        // Act
+        principalCache.get("test@example.com", this::load);
+        principalCache.get("test@example.com", this::load);
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", PrincipalCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", PrincipalCache.CACHE_NAME).tag("result", "miss").functionCounter().count());
+    }
+}
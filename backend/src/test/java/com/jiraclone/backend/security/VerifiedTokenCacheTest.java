@@ -0,0 +1,86 @@
+package com.jiraclone.backend.security;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+    private AtomicInteger verifications;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(100, 60000, meterRegistry);
+        verifications = new AtomicInteger();
+    }
+
+    private TokenClaims verify(String token, Instant expiration) {
+        verifications.incrementAndGet();
+        return new TokenClaims("test@example.com", Instant.now(), expiration);
+    }
+
+    @Test
+    void get_WithRepeatedToken_ShouldVerifyOnce() {
+        // Arrange
+        Instant expiration = Instant.now().plusSeconds(3600);
+
+        // Act
+        TokenClaims first = verifiedTokenCache.get("token-a", t -> verify(t, expiration));
+        TokenClaims second = verifiedTokenCache.get("token-a", t -> verify(t, expiration));
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", VerifiedTokenCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void get_WithDifferentTokens_ShouldVerifyEach() {
+        // Arrange
+        Instant expiration = Instant.now().plusSeconds(3600);
+
+        // Act
+        verifiedTokenCache.get("token-a", t -> verify(t, expiration));
+        verifiedTokenCache.get("token-b", t -> verify(t, expiration));
+
+        // Assert
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void get_WithInvalidToken_ShouldNotCacheFailure() {
+        // Act & Assert
+        assertThrows(JwtException.class, () -> verifiedTokenCache.get("bad-token", t -> {
+            verifications.incrementAndGet();
+            throw new JwtException("invalid");
+        }));
+        assertThrows(JwtException.class, () -> verifiedTokenCache.get("bad-token", t -> {
+            verifications.incrementAndGet();
+            throw new JwtException("invalid");
+        }));
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void get_WithExpiredClaims_ShouldNotServeFromCache() {
+        // Arrange
+        Instant expired = Instant.now().minusSeconds(1);
+
+        // Act
+        verifiedTokenCache.get("token-a", t -> verify(t, expired));
+        verifiedTokenCache.get("token-a", t -> verify(t, expired));
+
+        // Assert
+        assertEquals(2, verifications.get());
+    }
+}
@@ -0,0 +1,164 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.dto.EpicDTO;
+import com.jiraclone.backend.dto.Expansion;
+import com.jiraclone.backend.dto.UserStoryDTO;
+import com.jiraclone.backend.model.Epic;
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.model.UserStory;
+import com.jiraclone.backend.repository.EpicRepository;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.TaskRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.repository.UserStoryRepository;
+import com.jiraclone.backend.support.JpaTestConfig;
+import com.jiraclone.backend.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({EpicService.class, UserStoryService.class, JpaTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EpicServiceQueryCountTest {
+
+    private static final int STORIES_PER_EPIC = 2;
+    private static final int TASKS_PER_STORY = 3;
+
+    @Autowired private EpicService epicService;
+    @Autowired private TestFixtures fixtures;
+    @Autowired private EpicRepository epicRepository;
+    @Autowired private UserStoryRepository userStoryRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Project project;
+    private int epicCount;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        User lead = fixtures.createUser("epic-lead@example.com", "Epic Lead");
+
+        project = new Project();
+        project.setName("Epics");
+        project.setKey("EPC");
+        project.setLead(lead);
+        project = projectRepository.save(project);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        userStoryRepository.deleteAllInBatch();
+        epicRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getEpicsByProject_DefaultListIsOneStatement() {
+        // Arrange
+        addEpics(5);
+        statistics.clear();
+
+        // Act
+        List<EpicDTO> epics = epicService.getEpicsByProject(project.getId());
+
+        // Assert
+        assertEquals(5, epics.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(UserStory.class.getName()).getLoadCount(),
+                "unexpanded list must not load stories");
+        epics.forEach(epic -> assertNull(epic.getStories()));
+    }
+
+    @Test
+    void getEpicsByProject_ExpandedCostDoesNotGrowWithEpics() {
+        // Arrange
+        Expansion expansion = Expansion.parse("stories,stories.tasks");
+        addEpics(2);
+        statistics.clear();
+        epicService.getEpicsByProject(project.getId(), expansion);
+        long queriesForTwo = statistics.getPrepareStatementCount();
+
+        addEpics(8);
+        statistics.clear();
+
+        // Act
+        List<EpicDTO> epics = epicService.getEpicsByProject(project.getId(), expansion);
+
+        // Assert
+        assertEquals(10, epics.size());
+        assertEquals(3, queriesForTwo);
+        assertEquals(queriesForTwo, statistics.getPrepareStatementCount());
+        for (EpicDTO epic : epics) {
+            assertEquals(STORIES_PER_EPIC, epic.getStories().size());
+            for (UserStoryDTO story : epic.getStories()) {
+                assertEquals(epic.getId(), story.getEpicId());
+                assertEquals(TASKS_PER_STORY, story.getTasks().size());
+            }
+        }
+    }
+
+    @Test
+    void getEpicsByProject_StoriesWithoutTasks() {
+        // Arrange
+        addEpics(3);
+        statistics.clear();
+
+        // Act
+        List<EpicDTO> epics = epicService.getEpicsByProject(project.getId(), Expansion.parse("stories"));
+
+        // Assert
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(Task.class.getName()).getLoadCount());
+        epics.forEach(epic -> epic.getStories().forEach(story -> assertNull(story.getTasks())));
+    }
+
+    private void addEpics(int count) {
+        for (int i = 0; i < count; i++) {
+            epicCount++;
+            Epic epic = new Epic();
+            epic.setName("Epic " + epicCount);
+            epic.setStatus(Epic.Status.TODO);
+            epic.setProject(project);
+            epic = epicRepository.save(epic);
+
+            for (int s = 0; s < STORIES_PER_EPIC; s++) {
+                UserStory story = new UserStory();
+                story.setTitle("Story " + epicCount + "." + s);
+                story.setProject(project);
+                story.setEpic(epic);
+                story = userStoryRepository.save(story);
+
+                for (int t = 0; t < TASKS_PER_STORY; t++) {
+                    Task task = new Task();
+                    task.setTitle("Task");
+                    task.setProject(project);
+                    task.setUserStory(story);
+                    taskRepository.save(task);
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.jiraclone.backend.service;
 
 import com.jiraclone.backend.dto.EpicDTO;
+import com.jiraclone.backend.dto.Expansion;
+import com.jiraclone.backend.dto.UserStoryDTO;
 import com.jiraclone.backend.model.Epic;
 import com.jiraclone.backend.model.Project;
 import com.jiraclone.backend.repository.EpicRepository;
@@ -21,6 +23,7 @@ class EpicServiceTest {
 
     @Mock private EpicRepository epicRepository;
     @Mock private ProjectRepository projectRepository;
+    @Mock private UserStoryService userStoryService;
 
     @InjectMocks private EpicService epicService;
 
@@ -82,22 +85,54 @@ class EpicServiceTest {
         Epic epic1 = new Epic(); epic1.setName("Epic One");
         Epic epic2 = new Epic(); epic2.setName("Epic Two");
 
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(epicRepository.findByProjectOrderByCreatedAtDesc(project))
-                .thenReturn(List.of(epic1, epic2));
+        epic1.setProject(project); epic2.setProject(project);
+
+        when(epicRepository.findByProjectIdWithProject(1L)).thenReturn(List.of(epic1, epic2));
 
         List<EpicDTO> result = epicService.getEpicsByProject(1L);
 
         assertEquals(2, result.size());
         assertEquals("Epic One", result.get(0).getName());
+        assertNull(result.get(0).getStories());
+        verify(projectRepository, never()).existsById(anyLong());
+        verifyNoInteractions(userStoryService);
+    }
+
+    @Test
+    void testGetEpicsByProject_EmptyProject() {
+        when(epicRepository.findByProjectIdWithProject(1L)).thenReturn(List.of());
+        when(projectRepository.existsById(1L)).thenReturn(true);
+
+        assertTrue(epicService.getEpicsByProject(1L).isEmpty());
     }
 
     @Test
     void testGetEpicsByProject_ProjectNotFound() {
-        when(projectRepository.findById(1L)).thenReturn(Optional.empty());
+        when(epicRepository.findByProjectIdWithProject(1L)).thenReturn(List.of());
+        when(projectRepository.existsById(1L)).thenReturn(false);
         assertThrows(EntityNotFoundException.class, () -> epicService.getEpicsByProject(1L));
     }
 
+    @Test
+    void testGetEpicsByProject_ExpandStoriesBatchesAcrossEpics() {
+        Epic epic1 = new Epic(); epic1.setId(1L);
+        Epic epic2 = new Epic(); epic2.setId(2L);
+        UserStoryDTO story = new UserStoryDTO();
+        story.setId(10L);
+        story.setEpicId(1L);
+
+        when(epicRepository.findByProjectIdWithProject(1L)).thenReturn(List.of(epic1, epic2));
+        when(userStoryService.getUserStoriesByEpics(eq(List.of(1L, 2L)), any(Expansion.class)))
+                .thenReturn(List.of(story));
+
+        List<EpicDTO> result = epicService.getEpicsByProject(1L, Expansion.parse("stories.tasks"));
+
+        assertEquals(Set.of(story), result.get(0).getStories());
+        assertTrue(result.get(1).getStories().isEmpty());
+        verify(userStoryService).getUserStoriesByEpics(eq(List.of(1L, 2L)),
+                argThat(nested -> nested.includes("tasks")));
+    }
+
     @Test
     void testUpdateEpic_Success() {
         Epic existing = new Epic();
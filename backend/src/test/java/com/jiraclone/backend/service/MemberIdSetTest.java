@@ -0,0 +1,67 @@
+package com.jiraclone.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberIdSetTest {
+
+    @Test
+    void contains_FindsEveryIdAndNothingElse() {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, 1000).map(i -> i * 7).boxed().toList();
+
+        // Act
+        MemberIdSet members = MemberIdSet.of(ids);
+
+        // Assert
+        assertEquals(1000, members.size());
+        for (long id = 1; id <= 7000; id++) {
+            assertEquals(id % 7 == 0, members.contains(id), "id " + id);
+        }
+    }
+
+    @Test
+    void of_IgnoresDuplicates() {
+        MemberIdSet members = MemberIdSet.of(List.of(3L, 3L, 5L));
+
+        assertEquals(2, members.size());
+        assertTrue(members.contains(3));
+        assertTrue(members.contains(5));
+    }
+
+    @Test
+    void withAndWithout_ReturnChangedCopies() {
+        // Arrange
+        MemberIdSet members = MemberIdSet.of(List.of(1L, 2L));
+
+        // Act
+        MemberIdSet added = members.with(3);
+        MemberIdSet removed = added.without(1);
+
+        // Assert
+        assertFalse(members.contains(3));
+        assertTrue(added.contains(3));
+        assertEquals(3, added.size());
+        assertFalse(removed.contains(1));
+        assertTrue(removed.contains(2));
+        assertTrue(removed.contains(3));
+        assertEquals(2, removed.size());
+        assertSame(removed, removed.without(1));
+        assertSame(removed, removed.with(2));
+    }
+
+    @Test
+    void empty_ContainsNothing() {
+        assertFalse(MemberIdSet.EMPTY.contains(1));
+        assertTrue(MemberIdSet.EMPTY.with(1).contains(1));
+    }
+
+    @Test
+    void of_RejectsNonPositiveIds() {
+        assertThrows(IllegalArgumentException.class, () -> MemberIdSet.of(List.of(0L)));
+    }
+}
@@ -0,0 +1,80 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.model.Report;
+import com.jiraclone.backend.model.Sprint;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OfflineReportRendererTest {
+
+    @Test
+    void render_StatusReportUsesContextFigures() {
+        // Arrange
+        ReportContext context = context(List.of(
+                row(Task.Status.TODO, 6), row(Task.Status.IN_PROGRESS, 2), row(Task.Status.DONE, 2)));
+
+        // Act
+        String report = OfflineReportRenderer.render(context, "status please", Report.ReportType.STATUS_REPORT);
+
+        // Assert
+        assertTrue(report.startsWith("# Status Report for Apollo\n\n"));
+        assertTrue(report.contains("This project is currently 20% complete"));
+        assertTrue(report.contains("There are a total of 10 tasks"));
+        assertTrue(report.contains("- **In Progress**: 2 tasks\n"));
+        assertTrue(report.contains("The team consists of 4 members"));
+        assertTrue(report.contains("Begin planning for the next 5 tasks"));
+    }
+
+    @Test
+    void render_SprintAnalysisBelowTarget() {
+        // Arrange
+        ReportContext context = context(List.of(row(Task.Status.TODO, 1), row(Task.Status.DONE, 1)));
+
+        // Act
+        String report = OfflineReportRenderer.render(context, "", Report.ReportType.SPRINT_ANALYSIS);
+
+        // Assert
+        assertTrue(report.contains("- **Completion Rate**: 50%\n"));
+        assertTrue(report.contains("Consider reducing the sprint scope"));
+    }
+
+    @Test
+    void render_CustomReportQuotesPromptAndHandlesEmptyProject() {
+        // Arrange
+        ReportContext context = context(List.of());
+
+        // Act
+        String report = OfflineReportRenderer.render(context, "What is blocked?", Report.ReportType.CUSTOM);
+
+        // Assert
+        assertTrue(report.contains("Based on your prompt: \"What is blocked?\""));
+        assertTrue(report.contains("The overall completion percentage is 0%"));
+    }
+
+    private static ReportContext context(List<TaskRepository.TaskAggregate> rows) {
+        return ReportContext.builder()
+                .projectId(1L)
+                .projectName("Apollo")
+                .projectKey("APL")
+                .tasks(TaskTotals.of(rows))
+                .teamSize(4)
+                .sprintsByStatus(Map.of(Sprint.Status.ACTIVE, 0L))
+                .activeSprints(List.of())
+                .build();
+    }
+
+    private static TaskRepository.TaskAggregate row(Task.Status status, long count) {
+        TaskRepository.TaskAggregate row = mock(TaskRepository.TaskAggregate.class);
+        when(row.getStatus()).thenReturn(status);
+        when(row.getCount()).thenReturn(count);
+        return row;
+    }
+}
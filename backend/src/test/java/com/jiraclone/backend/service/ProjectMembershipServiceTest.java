@@ -0,0 +1,180 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.repository.ProjectRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProjectMembershipServiceTest {
+
+    private static final Long PROJECT_ID = 1L;
+
+    @Mock private ProjectRepository projectRepository;
+
+    private final Queue<Runnable> pendingLoads = new ArrayDeque<>();
+    private ProjectMembershipService membershipService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        membershipService = new ProjectMembershipService(projectRepository, 100, 60_000,
+                new SimpleMeterRegistry(), pendingLoads::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void isMember_SaturatedLoadPoolFallsBackToExistsProbe() {
+        // Arrange
+        ProjectMembershipService saturated = new ProjectMembershipService(projectRepository, 100, 60_000,
+                new SimpleMeterRegistry(), task -> {
+                    throw new RejectedExecutionException("queue full");
+                });
+        when(projectRepository.existsByIdAndMembersId(PROJECT_ID, 10L)).thenReturn(true);
+
+        // Act
+        boolean first = saturated.isMember(PROJECT_ID, 10L);
+        boolean second = saturated.isMember(PROJECT_ID, 10L);
+
+        // Assert: each check is answered by the probe, and the failed load is not cached
+        assertTrue(first);
+        assertTrue(second);
+        verify(projectRepository, times(2)).existsByIdAndMembersId(PROJECT_ID, 10L);
+        verify(projectRepository, never()).findMemberIds(any());
+    }
+
+    @Test
+    void isMember_ColdProjectUsesExistsProbeThenIndex() {
+        // Arrange
+        when(projectRepository.existsByIdAndMembersId(PROJECT_ID, 10L)).thenReturn(true);
+        when(projectRepository.findMemberIds(PROJECT_ID)).thenReturn(List.of(10L, 11L));
+
+        // Act
+        boolean cold = membershipService.isMember(PROJECT_ID, 10L);
+        runPendingLoads();
+        boolean warmMember = membershipService.isMember(PROJECT_ID, 11L);
+        boolean warmOutsider = membershipService.isMember(PROJECT_ID, 12L);
+
+        // Assert
+        assertTrue(cold);
+        assertTrue(warmMember);
+        assertFalse(warmOutsider);
+        verify(projectRepository, times(1)).existsByIdAndMembersId(anyLong(), anyLong());
+        verify(projectRepository, times(1)).findMemberIds(PROJECT_ID);
+    }
+
+    @Test
+    void memberAdded_AppliedOnlyAfterCommit() {
+        // Arrange
+        warm(10L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        membershipService.memberAdded(PROJECT_ID, 20L);
+        boolean beforeCommit = membershipService.isMember(PROJECT_ID, 20L);
+        commit();
+
+        // Assert
+        assertFalse(beforeCommit);
+        assertTrue(membershipService.isMember(PROJECT_ID, 20L));
+        verify(projectRepository, never()).existsByIdAndMembersId(anyLong(), anyLong());
+    }
+
+    @Test
+    void memberRemoved_NotAppliedOnRollback() {
+        // Arrange
+        warm(10L, 20L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        membershipService.memberRemoved(PROJECT_ID, 20L);
+        rollback();
+
+        // Assert
+        assertTrue(membershipService.isMember(PROJECT_ID, 20L));
+    }
+
+    @Test
+    void memberRemoved_RemovesFromIndex() {
+        // Arrange
+        warm(10L, 20L);
+
+        // Act
+        membershipService.memberRemoved(PROJECT_ID, 20L);
+
+        // Assert
+        assertFalse(membershipService.isMember(PROJECT_ID, 20L));
+        assertTrue(membershipService.isMember(PROJECT_ID, 10L));
+    }
+
+    @Test
+    void memberAdded_ChainedOntoLoadThatReadStaleMembers() {
+        // Arrange: the load is started but reads the members before the new one commits
+        when(projectRepository.findMemberIds(PROJECT_ID)).thenReturn(List.of(10L));
+        membershipService.isMember(PROJECT_ID, 10L);
+
+        // Act
+        membershipService.memberAdded(PROJECT_ID, 20L);
+        runPendingLoads();
+
+        // Assert
+        assertTrue(membershipService.isMember(PROJECT_ID, 20L));
+        assertTrue(membershipService.isMember(PROJECT_ID, 10L));
+    }
+
+    @Test
+    void projectDeleted_DropsIndexEntry() {
+        // Arrange
+        warm(10L);
+        when(projectRepository.existsByIdAndMembersId(PROJECT_ID, 10L)).thenReturn(false);
+
+        // Act
+        membershipService.projectDeleted(PROJECT_ID);
+
+        // Assert
+        assertFalse(membershipService.isMember(PROJECT_ID, 10L));
+        verify(projectRepository).existsByIdAndMembersId(PROJECT_ID, 10L);
+    }
+
+    private void warm(Long... memberIds) {
+        when(projectRepository.findMemberIds(PROJECT_ID)).thenReturn(List.of(memberIds));
+        membershipService.isMember(PROJECT_ID, memberIds[0]);
+        runPendingLoads();
+        clearInvocations(projectRepository);
+    }
+
+    private void runPendingLoads() {
+        Runnable load;
+        while ((load = pendingLoads.poll()) != null) {
+            load.run();
+        }
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static void rollback() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,106 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.dto.ProjectDTO;
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.ProjectStatistics;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.ProjectStatisticsRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.support.JpaTestConfig;
+import com.jiraclone.backend.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({ProjectService.class, ProjectStatisticsService.class, ProjectMembershipService.class,
+        JpaTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProjectServiceQueryCountTest {
+
+    @Autowired private ProjectService projectService;
+    @Autowired private TestFixtures fixtures;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectStatisticsRepository projectStatisticsRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User viewer;
+    private int projectCount;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        viewer = fixtures.createUser("viewer@example.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectStatisticsRepository.deleteAllInBatch();
+        // Not in batch: removing projects also has to clear their project_members rows
+        projectRepository.deleteAll();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getProjectsByUser_QueryCountDoesNotGrowWithProjects() {
+        // Arrange
+        addProjects(2);
+        long queriesForTwo = countQueries(2);
+
+        addProjects(18);
+
+        // Act
+        long queriesForTwenty = countQueries(20);
+
+        // Assert
+        assertEquals(queriesForTwo, queriesForTwenty);
+        assertTrue(queriesForTwenty <= 4, "expected at most 4 statements but was " + queriesForTwenty);
+    }
+
+    private long countQueries(int expectedProjects) {
+        statistics.clear();
+        List<ProjectDTO> projects = projectService.getProjectsByUser(viewer.getEmail());
+        long queries = statistics.getPrepareStatementCount();
+
+        assertEquals(expectedProjects, projects.size());
+        for (ProjectDTO project : projects) {
+            assertNotNull(project.getLead());
+            assertEquals(2, project.getMembers().size());
+            assertEquals(0, project.getTasksCount());
+        }
+        return queries;
+    }
+
+    private void addProjects(int count) {
+        for (int i = 0; i < count; i++) {
+            projectCount++;
+            // Each project has its own lead so leads cannot be served from the persistence context
+            User lead = fixtures.createUser("lead" + projectCount + "@example.com");
+            Project project = new Project();
+            project.setName("Project " + projectCount);
+            project.setKey("P" + projectCount);
+            project.setLead(lead);
+            project.getMembers().add(lead);
+            project.getMembers().add(viewer);
+            Long projectId = projectRepository.save(project).getId();
+            projectStatisticsRepository.save(new ProjectStatistics(projectId));
+        }
+    }
+}
@@ -2,14 +2,17 @@ package com.jiraclone.backend.service;
 
 import com.jiraclone.backend.dto.ProjectDTO;
 import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.ProjectStatistics;
 import com.jiraclone.backend.model.User;
 import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.TaskKeySequenceRepository;
 import com.jiraclone.backend.repository.UserRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.persistence.Query;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -23,7 +26,10 @@ class ProjectServiceTest {
 
     @Mock private ProjectRepository projectRepository;
     @Mock private UserRepository userRepository;
+    @Mock private TaskKeySequenceRepository taskKeySequenceRepository;
     @Mock private EntityManager entityManager;
+    @Mock private ProjectStatisticsService projectStatisticsService;
+    @Mock private ProjectMembershipService projectMembershipService;
 
     @InjectMocks private ProjectService projectService;
 
@@ -84,6 +90,25 @@ class ProjectServiceTest {
         assertEquals("PRJ", result.getKey());
     }
 
+    @Test
+    void testGetProjectById_UsesMaterializedStatistics() {
+        Project project = new Project();
+        project.setId(1L);
+        project.setKey("PRJ");
+
+        ProjectStatistics statistics = new ProjectStatistics(1L);
+        statistics.setTotalTasks(4);
+        statistics.setDoneTasks(1);
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(projectStatisticsService.getStatistics(1L)).thenReturn(statistics);
+
+        ProjectDTO result = projectService.getProjectById(1L);
+
+        assertEquals(4, result.getTasksCount());
+        assertEquals(25, result.getCompletedPercentage());
+    }
+
     @Test
     void testGetProjectById_NotFound() {
         when(projectRepository.findById(99L)).thenReturn(Optional.empty());
@@ -94,7 +119,10 @@ class ProjectServiceTest {
     void testDeleteProject_Success() {
         when(projectRepository.existsById(1L)).thenReturn(true);
         projectService.deleteProject(1L);
-        verify(projectRepository).deleteById(1L);
+        InOrder order = inOrder(taskKeySequenceRepository, projectStatisticsService, projectRepository);
+        order.verify(taskKeySequenceRepository).deleteById(1L);
+        order.verify(projectStatisticsService).delete(1L);
+        order.verify(projectRepository).deleteById(1L);
     }
 
     @Test
@@ -0,0 +1,129 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.ProjectStatistics;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.ProjectStatisticsRepository;
+import com.jiraclone.backend.repository.TaskKeySequenceRepository;
+import com.jiraclone.backend.repository.TaskRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.support.JpaTestConfig;
+import com.jiraclone.backend.support.TestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import({TaskService.class, TaskKeyGenerator.class, ProjectStatisticsService.class, ProjectMembershipService.class,
+        ProjectStatisticsReconciler.class, JpaTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProjectStatisticsReconcilerTest {
+
+    @Autowired private TaskService taskService;
+    @Autowired private TestFixtures fixtures;
+    @Autowired private ProjectStatisticsReconciler reconciler;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TaskKeySequenceRepository taskKeySequenceRepository;
+    @Autowired private ProjectStatisticsRepository projectStatisticsRepository;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        User reporter = fixtures.createUser("reporter@example.com", "Reporter");
+
+        Project project = new Project();
+        project.setName("Statistics");
+        project.setKey("STA");
+        projectId = projectRepository.save(project).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        taskKeySequenceRepository.deleteAllInBatch();
+        projectStatisticsRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void taskWrites_ShouldKeepCountersInStep() {
+        Long first = createTask();
+        Long second = createTask();
+        createTask();
+
+        taskService.updateTaskStatus(first, Task.Status.IN_PROGRESS);
+        taskService.updateTaskStatus(second, Task.Status.DONE);
+        taskService.updateTaskStatus(first, Task.Status.DONE);
+        taskService.deleteTask(second);
+
+        ProjectStatistics statistics = projectStatisticsRepository.findById(projectId).orElseThrow();
+        assertEquals(2, statistics.getTotalTasks());
+        assertEquals(1, statistics.getTodoTasks());
+        assertEquals(0, statistics.getInProgressTasks());
+        assertEquals(1, statistics.getDoneTasks());
+        assertEquals(50, statistics.getCompletedPercentage());
+
+        assertEquals(0, reconciler.reconcileAll());
+    }
+
+    @Test
+    void reconcileAll_ShouldRepairDriftedCounters() {
+        Long first = createTask();
+        createTask();
+        taskService.updateTaskStatus(first, Task.Status.DONE);
+
+        // Simulate a write that bypassed TaskService
+        ProjectStatistics drifted = projectStatisticsRepository.findById(projectId).orElseThrow();
+        drifted.setTotalTasks(7);
+        drifted.setDoneTasks(0);
+        projectStatisticsRepository.save(drifted);
+
+        assertEquals(1, reconciler.reconcileAll());
+
+        ProjectStatistics repaired = projectStatisticsRepository.findById(projectId).orElseThrow();
+        assertEquals(2, repaired.getTotalTasks());
+        assertEquals(1, repaired.getTodoTasks());
+        assertEquals(1, repaired.getDoneTasks());
+        assertNotNull(repaired.getReconciledAt());
+        assertEquals(1.0, meterRegistry.get("project.statistics.drift").counter().count());
+    }
+
+    @Test
+    void reconcileAll_ShouldCreateMissingCounters() {
+        Task legacy = new Task();
+        legacy.setTitle("Legacy");
+        legacy.setTaskKey("STA-1");
+        legacy.setStatus(Task.Status.IN_REVIEW);
+        legacy.setProject(projectRepository.findById(projectId).orElseThrow());
+        taskRepository.save(legacy);
+
+        assertEquals(0, reconciler.reconcileAll());
+
+        ProjectStatistics statistics = projectStatisticsRepository.findById(projectId).orElseThrow();
+        assertEquals(1, statistics.getTotalTasks());
+        assertEquals(1, statistics.getInReviewTasks());
+    }
+
+    private Long createTask() {
+        Task task = new Task();
+        task.setTitle("Task");
+        return taskService.createTask(task, projectId, "reporter@example.com").getId();
+    }
+}
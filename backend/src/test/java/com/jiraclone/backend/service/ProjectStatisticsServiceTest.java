@@ -0,0 +1,76 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.model.ProjectStatistics;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.ProjectStatisticsRepository;
+import com.jiraclone.backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProjectStatisticsServiceTest {
+
+    @Mock private ProjectStatisticsRepository statisticsRepository;
+    @Mock private ProjectRepository projectRepository;
+    @Mock private TaskRepository taskRepository;
+
+    @InjectMocks private ProjectStatisticsService projectStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void reconcile_LocksAndCountsTasksBeforeLockingCounters() {
+        // Arrange
+        ProjectStatistics stored = new ProjectStatistics(1L);
+        stored.setTotalTasks(2);
+        stored.setTodoTasks(1);
+        stored.setDoneTasks(1);
+        when(statisticsRepository.existsById(1L)).thenReturn(true);
+        when(statisticsRepository.findForUpdate(1L)).thenReturn(Optional.of(stored));
+        when(taskRepository.findStatusesForUpdate(1L)).thenReturn(List.of(Task.Status.TODO, Task.Status.DONE));
+
+        // Act
+        boolean drifted = projectStatisticsService.reconcile(1L);
+
+        // Assert
+        assertFalse(drifted);
+        InOrder order = inOrder(taskRepository, statisticsRepository);
+        order.verify(taskRepository).findStatusesForUpdate(1L);
+        order.verify(statisticsRepository).findForUpdate(1L);
+        order.verify(statisticsRepository).save(stored);
+        verify(projectRepository, never()).findByIdForUpdate(any());
+    }
+
+    @Test
+    void reconcile_CreatesMissingCountersUnderTheProjectLock() {
+        // Arrange
+        when(statisticsRepository.existsById(1L)).thenReturn(false);
+        when(statisticsRepository.findForUpdate(1L)).thenReturn(Optional.empty());
+        when(taskRepository.findStatusesForUpdate(1L))
+                .thenReturn(List.of(Task.Status.IN_REVIEW, Task.Status.IN_REVIEW, Task.Status.TODO));
+
+        // Act
+        boolean drifted = projectStatisticsService.reconcile(1L);
+
+        // Assert
+        assertFalse(drifted);
+        InOrder order = inOrder(projectRepository, taskRepository);
+        order.verify(projectRepository).findByIdForUpdate(1L);
+        order.verify(taskRepository).findStatusesForUpdate(1L);
+        verify(statisticsRepository).save(argThat(saved -> saved.getTotalTasks() == 3
+                && saved.getInReviewTasks() == 2 && saved.getTodoTasks() == 1));
+    }
+}
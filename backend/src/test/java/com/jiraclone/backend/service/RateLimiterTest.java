@@ -0,0 +1,37 @@
+package com.jiraclone.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @Test
+    void acquire_SpacesCallsAtTheConfiguredRate() throws Exception {
+        // Arrange
+        RateLimiter rateLimiter = new RateLimiter(20);
+        long start = System.nanoTime();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.acquire();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert: the first call is free, the next four wait 50ms each
+        assertTrue(elapsedMillis >= 190, "expected about 200ms, took " + elapsedMillis);
+    }
+
+    @Test
+    void acquire_NeverWaitsWhenUnlimited() throws Exception {
+        // Arrange
+        RateLimiter rateLimiter = new RateLimiter(0);
+
+        // Act + Assert
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, rateLimiter.acquire());
+        }
+    }
+}
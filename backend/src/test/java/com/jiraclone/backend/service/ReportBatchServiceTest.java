@@ -0,0 +1,179 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.config.ReportClientConfig;
+import com.jiraclone.backend.dto.ReportBatchRunDTO;
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Report;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.ReportRepository;
+import com.jiraclone.backend.repository.TaskRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.support.JpaTestConfig;
+import com.jiraclone.backend.support.TestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false, properties = {
+        "openai.api.key=sk-test-0123456789",
+        "report-batch.concurrency=2",
+        "report-batch.chunk-size=2",
+        "report-batch.rate-per-second=0",
+        "report-batch.author-email=author@example.com"
+})
+@ActiveProfiles("test")
+@Import({ReportBatchService.class, ReportService.class, ReportContextBuilder.class, ReportContentCache.class,
+        ReportClientConfig.class, JpaTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReportBatchServiceTest {
+
+    private static final StubLlmServer upstream = StubLlmServer.start();
+
+    @DynamicPropertySource
+    static void upstreamUrl(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.url", upstream::url);
+    }
+
+    @Autowired private ReportBatchService reportBatchService;
+    @Autowired private TestFixtures fixtures;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private ReportRepository reportRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        User author = fixtures.createUser("author@example.com", "Author");
+
+        for (int i = 1; i <= 3; i++) {
+            Project project = fixtures.createProject("Active " + i, "AC" + i);
+            Task task = new Task();
+            task.setTitle("Recent work");
+            task.setStatus(Task.Status.IN_PROGRESS);
+            task.setProject(project);
+            taskRepository.save(task);
+        }
+        fixtures.createProject("Idle", "IDL");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        upstream.reset();
+        awaitFinished();
+        reportRepository.deleteAll();
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.close();
+    }
+
+    @Test
+    void start_GeneratesStatusReportForEachActiveProject() throws Exception {
+        // Arrange
+        upstream.setCompletion("# Nightly status");
+        double succeededBefore = meterRegistry.get("report.batch.projects").tag("outcome", "success").counter().count();
+
+        // Act
+        reportBatchService.start();
+        ReportBatchRunDTO run = awaitFinished();
+
+        // Assert
+        assertEquals(ReportBatchRun.Status.SUCCEEDED, run.getStatus());
+        assertEquals(3, run.getTotalProjects());
+        assertEquals(3, run.getSucceeded());
+        assertEquals(0, run.getFailed());
+        assertNotNull(run.getFinishedAt());
+
+        List<Report> reports = reportRepository.findAll();
+        assertEquals(3, reports.size());
+        for (Report report : reports) {
+            assertEquals(Report.ReportType.STATUS_REPORT, report.getType());
+            assertEquals("# Nightly status", report.getPreview());
+            assertTrue(report.getTitle().startsWith("Active "));
+            assertEquals("author@example.com", report.getAuthor().getEmail());
+        }
+        assertEquals(3, upstream.getRequestBodies().size());
+        assertEquals(succeededBefore + 3,
+                meterRegistry.get("report.batch.projects").tag("outcome", "success").counter().count());
+        assertEquals(0.0, meterRegistry.get("report.batch.in-flight").gauge().value());
+    }
+
+    @Test
+    void start_RejectsSecondRunWhileOneIsInProgress() throws Exception {
+        // Arrange
+        upstream.hold();
+        ReportBatchRunDTO first = reportBatchService.start();
+
+        // Act + Assert
+        assertThrows(IllegalStateException.class, () -> reportBatchService.start());
+        assertEquals(first.getRunId(), reportBatchService.getLatestRun().orElseThrow().getRunId());
+
+        upstream.release();
+        assertEquals(ReportBatchRun.Status.SUCCEEDED, awaitFinished().getStatus());
+        assertNotEquals(first.getRunId(), reportBatchService.start().getRunId());
+    }
+
+    @Test
+    @DirtiesContext
+    void shutdown_LetsTheRunningBatchFinish() throws Exception {
+        // Arrange
+        upstream.hold();
+        upstream.setCompletion("# Nightly status");
+        reportBatchService.start();
+        CompletableFuture<Void> shutdown = CompletableFuture.runAsync(() -> {
+            try {
+                reportBatchService.shutdown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        Thread.sleep(200);
+        assertFalse(shutdown.isDone(), "shutdown must wait for the run in progress");
+
+        // Act
+        upstream.release();
+        shutdown.get(30, TimeUnit.SECONDS);
+
+        // Assert
+        ReportBatchRunDTO run = reportBatchService.getLatestRun().orElseThrow();
+        assertEquals(ReportBatchRun.Status.SUCCEEDED, run.getStatus());
+        assertEquals(3, reportRepository.count());
+    }
+
+    private ReportBatchRunDTO awaitFinished() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            ReportBatchRunDTO run = reportBatchService.getLatestRun().orElse(null);
+            if (run == null || run.getStatus() != ReportBatchRun.Status.RUNNING) {
+                return run;
+            }
+            assertTrue(System.currentTimeMillis() < deadline, "batch run did not finish");
+            Thread.sleep(20);
+        }
+    }
+}
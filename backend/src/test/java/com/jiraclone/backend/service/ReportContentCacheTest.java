@@ -0,0 +1,96 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.model.Report;
+import com.jiraclone.backend.model.Sprint;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReportContentCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReportContentCache reportContentCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reportContentCache = new ReportContentCache(100, 60000, meterRegistry);
+    }
+
+    private static ReportContext context(long todo, LocalDateTime lastUpdated) {
+        TaskRepository.TaskAggregate row = mock(TaskRepository.TaskAggregate.class);
+        when(row.getStatus()).thenReturn(Task.Status.TODO);
+        when(row.getCount()).thenReturn(todo);
+        when(row.getLastUpdated()).thenReturn(lastUpdated);
+        List<TaskRepository.TaskAggregate> rows = List.of(row);
+        return ReportContext.builder()
+                .projectId(1L)
+                .projectName("Apollo")
+                .projectKey("APL")
+                .tasks(TaskTotals.of(rows))
+                .sprintsByStatus(new EnumMap<>(Sprint.Status.class))
+                .activeSprints(Collections.emptyList())
+                .build();
+    }
+
+    @Test
+    void fingerprint_ShouldIgnoreCaseAndWhitespaceInPrompt() {
+        // Arrange
+        LocalDateTime updated = LocalDateTime.of(2026, 3, 1, 9, 0);
+        ReportContext context = context(2, updated);
+
+        // Act
+        String first = ReportContentCache.fingerprint(context, "Summarize the sprint", Report.ReportType.STATUS_REPORT);
+        String second = ReportContentCache.fingerprint(context, "  summarize  THE\nsprint ", Report.ReportType.STATUS_REPORT);
+
+        // Assert
+        assertEquals(first, second);
+    }
+
+    @Test
+    void fingerprint_ShouldChangeWithTypeOrProjectData() {
+        // Arrange
+        LocalDateTime updated = LocalDateTime.of(2026, 3, 1, 9, 0);
+        String base = ReportContentCache.fingerprint(context(2, updated), "prompt", Report.ReportType.STATUS_REPORT);
+
+        // Act
+        String otherType = ReportContentCache.fingerprint(context(2, updated), "prompt", Report.ReportType.RISK_ASSESSMENT);
+        String otherCounts = ReportContentCache.fingerprint(context(3, updated), "prompt", Report.ReportType.STATUS_REPORT);
+        String touched = ReportContentCache.fingerprint(context(2, updated.plusMinutes(1)), "prompt", Report.ReportType.STATUS_REPORT);
+
+        // Assert
+        assertNotEquals(base, otherType);
+        assertNotEquals(base, otherCounts);
+        assertNotEquals(base, touched);
+    }
+
+    @Test
+    void get_ShouldCountSavedUpstreamCallsOnHit() {
+        // Arrange
+        reportContentCache.put("abc", "# Report");
+        reportContentCache.put("ignored", null);
+
+        // Act
+        String hit = reportContentCache.get("abc").orElseThrow();
+        boolean miss = reportContentCache.get("ignored").isPresent();
+
+        // Assert
+        assertEquals("# Report", hit);
+        assertFalse(miss);
+        assertEquals(1, reportContentCache.size());
+        assertEquals(1.0, meterRegistry.get("report.cache.upstream.saved").counter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", ReportContentCache.CACHE_NAME).tag("result", "miss").functionCounter().count());
+    }
+}
@@ -0,0 +1,209 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Sprint;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.SprintRepository;
+import com.jiraclone.backend.repository.TaskRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.support.JpaTestConfig;
+import com.jiraclone.backend.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({ReportContextBuilder.class, JpaTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReportContextBuilderTest {
+
+    @Autowired private ReportContextBuilder reportContextBuilder;
+    @Autowired private TestFixtures fixtures;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private SprintRepository sprintRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Project project;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        alice = fixtures.createUser("alice@example.com", "Alice");
+        bob = fixtures.createUser("bob@example.com", "Bob");
+
+        project = new Project();
+        project.setName("Context");
+        project.setKey("CTX");
+        project.setLead(alice);
+        project.setMembers(Set.of(alice, bob));
+        project = projectRepository.save(project);
+
+        createTask(Task.Status.TODO, Task.Priority.HIGH, Task.Type.BUG, alice, 3, 1);
+        createTask(Task.Status.IN_PROGRESS, Task.Priority.HIGH, Task.Type.TASK, alice, 5, 2);
+        createTask(Task.Status.IN_REVIEW, Task.Priority.LOW, Task.Type.TASK, bob, 2, null);
+        createTask(Task.Status.DONE, Task.Priority.MEDIUM, Task.Type.STORY, bob, null, 4);
+        createTask(Task.Status.DONE, null, null, null, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        sprintRepository.deleteAllInBatch();
+        projectRepository.deleteAll();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void build_AggregatesTasksInSql() {
+        // Arrange
+        statistics.clear();
+
+        // Act
+        ReportContext context = reportContextBuilder.build(project);
+
+        // Assert
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(Task.class.getName()).getLoadCount(),
+                "context must not load task entities");
+        TaskTotals tasks = context.getTasks();
+        assertEquals("Context", context.getProjectName());
+        assertEquals("Alice", context.getLeadName());
+        assertEquals(5, tasks.getTotal());
+        assertEquals(1, tasks.getCount(Task.Status.TODO));
+        assertEquals(1, tasks.getCount(Task.Status.IN_PROGRESS));
+        assertEquals(1, tasks.getCount(Task.Status.IN_REVIEW));
+        assertEquals(2, tasks.getCount(Task.Status.DONE));
+        assertEquals(11, tasks.getEstimatedHours());
+        assertEquals(8, tasks.getLoggedHours());
+        assertEquals(2, tasks.getByPriority().get(Task.Priority.HIGH));
+        assertEquals(2, tasks.getByType().get(Task.Type.TASK));
+        assertEquals(new TaskTotals.AssigneeCount("Alice", 2), tasks.getByAssignee().get(alice.getId()));
+        assertEquals(new TaskTotals.AssigneeCount("Bob", 2), tasks.getByAssignee().get(bob.getId()));
+        assertEquals(new TaskTotals.AssigneeCount(TaskTotals.UNASSIGNED, 1), tasks.getByAssignee().get(null));
+        assertEquals(2, context.getTeamSize());
+        assertEquals(40, context.getCompletionPercentage());
+        assertTrue(context.getActiveSprints().isEmpty());
+    }
+
+    @Test
+    void build_SummarizesActiveSprints() {
+        // Arrange
+        Sprint planned = createSprint("Next", Sprint.Status.PLANNING);
+        Sprint active = createSprint("Current", Sprint.Status.ACTIVE);
+        Task first = createTask(Task.Status.DONE, Task.Priority.LOW, Task.Type.TASK, alice, 2, 2);
+        Task second = createTask(Task.Status.TODO, Task.Priority.LOW, Task.Type.TASK, alice, 3, 0);
+        first.setSprint(active);
+        second.setSprint(active);
+        taskRepository.saveAll(List.of(first, second));
+        statistics.clear();
+
+        // Act
+        ReportContext context = reportContextBuilder.build(project);
+
+        // Assert
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(1, context.getSprintsByStatus().get(Sprint.Status.PLANNING));
+        assertEquals(1, context.getSprintsByStatus().get(Sprint.Status.ACTIVE));
+        assertEquals(0, context.getSprintsByStatus().get(Sprint.Status.COMPLETED));
+        assertEquals(List.of(new ReportContext.ActiveSprint("Current", null, 2, 1, 5, 2)), context.getActiveSprints());
+        assertNotNull(planned.getId());
+    }
+
+    @Test
+    void build_CostDoesNotGrowWithTasks() {
+        // Arrange
+        for (int i = 0; i < 50; i++) {
+            createTask(Task.Status.TODO, Task.Priority.LOW, Task.Type.TASK, alice, 1, 0);
+        }
+        statistics.clear();
+
+        // Act
+        ReportContext context = reportContextBuilder.build(project);
+
+        // Assert
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(55, context.getTasks().getTotal());
+        assertEquals(52, context.getTasks().getByAssignee().get(alice.getId()).getCount());
+    }
+
+    @Test
+    void buildAll_UsesSameQueriesForManyProjects() {
+        // Arrange
+        Sprint active = createSprint("Current", Sprint.Status.ACTIVE);
+        Task sprintTask = createTask(Task.Status.DONE, Task.Priority.LOW, Task.Type.TASK, alice, 2, 2);
+        sprintTask.setSprint(active);
+        taskRepository.save(sprintTask);
+        Project other = new Project();
+        other.setName("Other");
+        other.setKey("OTH");
+        other = projectRepository.save(other);
+        Project empty = new Project();
+        empty.setName("Empty");
+        empty.setKey("EMP");
+        empty = projectRepository.save(empty);
+        ReportContext single = reportContextBuilder.build(project);
+        statistics.clear();
+
+        // Act
+        Map<Long, ReportContext> contexts = reportContextBuilder.buildAll(List.of(project, other, empty));
+
+        // Assert
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(List.of(project.getId(), other.getId(), empty.getId()), List.copyOf(contexts.keySet()));
+        ReportContext batched = contexts.get(project.getId());
+        assertEquals(single.getTasks().getTotal(), batched.getTasks().getTotal());
+        assertEquals(single.getTasks().getByStatus(), batched.getTasks().getByStatus());
+        assertEquals(single.getTasks().getByAssignee(), batched.getTasks().getByAssignee());
+        assertEquals(single.getTeamSize(), batched.getTeamSize());
+        assertEquals(single.getSprintsByStatus(), batched.getSprintsByStatus());
+        assertEquals(single.getActiveSprints(), batched.getActiveSprints());
+        assertEquals(ReportPromptRenderer.render(single), ReportPromptRenderer.render(batched));
+        assertEquals(0, contexts.get(empty.getId()).getTasks().getTotal());
+        assertEquals(0, contexts.get(empty.getId()).getTeamSize());
+    }
+
+    private Sprint createSprint(String name, Sprint.Status status) {
+        Sprint sprint = new Sprint();
+        sprint.setName(name);
+        sprint.setStatus(status);
+        sprint.setProject(project);
+        return sprintRepository.save(sprint);
+    }
+
+    private Task createTask(Task.Status status, Task.Priority priority, Task.Type type, User assignee,
+                            Integer estimatedHours, Integer loggedHours) {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setProject(project);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setType(type);
+        task.setAssignee(assignee);
+        task.setEstimatedHours(estimatedHours);
+        task.setLoggedHours(loggedHours);
+        return taskRepository.save(task);
+    }
+}
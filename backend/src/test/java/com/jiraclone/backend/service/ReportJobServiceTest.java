@@ -0,0 +1,160 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.config.ReportClientConfig;
+import com.jiraclone.backend.dto.ReportJobDTO;
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Report;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.ReportRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.support.JpaTestConfig;
+import com.jiraclone.backend.support.TestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false, properties = {
+        "openai.api.key=sk-test-0123456789",
+        "report-jobs.workers=1",
+        "report-jobs.queue-capacity=1"
+})
+@ActiveProfiles("test")
+@Import({ReportService.class, ReportContextBuilder.class, ReportContentCache.class, ReportJobService.class,
+        ReportClientConfig.class, JpaTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReportJobServiceTest {
+
+    private static final StubLlmServer upstream = StubLlmServer.start();
+
+    @DynamicPropertySource
+    static void upstreamUrl(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.url", upstream::url);
+    }
+
+    @Autowired private ReportJobService reportJobService;
+    @Autowired private TestFixtures fixtures;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private ReportRepository reportRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        User author = fixtures.createUser("author@example.com", "Author");
+
+        Project project = new Project();
+        project.setName("Reports");
+        project.setKey("REP");
+        projectId = projectRepository.save(project).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.reset();
+        reportRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.close();
+    }
+
+    @Test
+    void submit_ReturnsBeforeUpstreamCompletes() throws Exception {
+        // Arrange
+        upstream.hold();
+        upstream.setCompletion("# Weekly status");
+
+        // Act
+        ReportJobDTO submitted = reportJobService.submit(projectId, "author@example.com", "How are we doing?",
+                Report.ReportType.STATUS_REPORT);
+
+        // Assert
+        assertNotEquals(ReportJob.Status.SUCCEEDED, submitted.getStatus());
+        assertNull(submitted.getReport());
+        assertEquals(0, reportRepository.count());
+
+        upstream.release();
+        ReportJobDTO finished = reportJobService.awaitJob(submitted.getJobId(), Duration.ofSeconds(10))
+                .get(15, TimeUnit.SECONDS).orElseThrow();
+        assertEquals(ReportJob.Status.SUCCEEDED, finished.getStatus());
+        assertEquals("# Weekly status", finished.getReport().getContent());
+        assertEquals("Reports - Status report", finished.getReport().getTitle());
+        assertEquals(reportRepository.findAll().get(0).getId(), finished.getReportId());
+        assertNotNull(finished.getStartedAt());
+        assertNotNull(finished.getFinishedAt());
+        assertEquals(1, reportRepository.count());
+
+        assertEquals("Bearer sk-test-0123456789", upstream.getAuthorizations().get(0));
+        assertTrue(upstream.getRequestBodies().get(0).contains("How are we doing?"));
+        assertTrue(upstream.getRequestBodies().get(0).contains("Project Name: Reports"));
+        assertEquals(1, meterRegistry.get("report.jobs.duration").tag("outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("report.upstream.requests").tag("outcome", "2xx").timer().count());
+    }
+
+    @Test
+    void submit_RejectsWhenQueueIsFull() throws Exception {
+        // Arrange: one worker busy, one job queued
+        upstream.hold();
+        ReportJobDTO running = reportJobService.submit(projectId, "author@example.com", "first", Report.ReportType.CUSTOM);
+        awaitStatus(running.getJobId(), ReportJob.Status.RUNNING);
+        ReportJobDTO queued = reportJobService.submit(projectId, "author@example.com", "second", Report.ReportType.CUSTOM);
+        assertEquals(1, reportJobService.getQueueDepth());
+        assertEquals(1.0, meterRegistry.get("report.jobs.queue.depth").gauge().value());
+
+        // Act + Assert
+        assertThrows(RejectedExecutionException.class, () ->
+                reportJobService.submit(projectId, "author@example.com", "third", Report.ReportType.CUSTOM));
+        assertEquals(1.0, meterRegistry.get("report.jobs.rejected").counter().count());
+
+        upstream.release();
+        for (ReportJobDTO job : List.of(running, queued)) {
+            assertEquals(ReportJob.Status.SUCCEEDED, reportJobService.awaitJob(job.getJobId(), Duration.ofSeconds(10))
+                    .get(15, TimeUnit.SECONDS).orElseThrow().getStatus());
+        }
+        assertEquals(2, reportRepository.count());
+    }
+
+    @Test
+    void submit_UnknownProject_FailsImmediately() {
+        assertThrows(EntityNotFoundException.class, () ->
+                reportJobService.submit(-1L, "author@example.com", "prompt", Report.ReportType.CUSTOM));
+        assertTrue(upstream.getRequestBodies().isEmpty());
+    }
+
+    @Test
+    void awaitJob_UnknownJob_ReturnsEmpty() throws Exception {
+        assertTrue(reportJobService.awaitJob("missing", Duration.ofSeconds(1)).get(5, TimeUnit.SECONDS).isEmpty());
+    }
+
+    private void awaitStatus(String jobId, ReportJob.Status status) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (reportJobService.getJob(jobId).orElseThrow().getStatus() != status) {
+            assertTrue(System.currentTimeMillis() < deadline, "job did not reach " + status);
+            Thread.sleep(20);
+        }
+    }
+}
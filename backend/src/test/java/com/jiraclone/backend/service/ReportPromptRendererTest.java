@@ -0,0 +1,84 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.model.Sprint;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReportPromptRendererTest {
+
+    @Test
+    void render_IncludesAllContextSections() {
+        // Arrange
+        TaskRepository.TaskAggregate row = mock(TaskRepository.TaskAggregate.class);
+        when(row.getStatus()).thenReturn(Task.Status.IN_REVIEW);
+        when(row.getPriority()).thenReturn(Task.Priority.HIGH);
+        when(row.getAssigneeId()).thenReturn(7L);
+        when(row.getAssigneeName()).thenReturn("Alice");
+        when(row.getCount()).thenReturn(3L);
+        when(row.getEstimatedHours()).thenReturn(12L);
+        when(row.getLoggedHours()).thenReturn(4L);
+        List<TaskRepository.TaskAggregate> rows = List.of(row);
+
+        Map<Sprint.Status, Long> sprints = new EnumMap<>(Sprint.Status.class);
+        sprints.put(Sprint.Status.ACTIVE, 1L);
+        ReportContext context = ReportContext.builder()
+                .projectName("Apollo")
+                .projectKey("APL")
+                .description("Moon")
+                .tasks(TaskTotals.of(rows))
+                .teamSize(2)
+                .sprintsByStatus(sprints)
+                .activeSprints(List.of(new ReportContext.ActiveSprint("Sprint 4", LocalDate.of(2026, 1, 30), 3, 0, 12, 4)))
+                .build();
+
+        // Act
+        String text = ReportPromptRenderer.render(context);
+
+        // Assert
+        assertTrue(text.startsWith("Project Name: Apollo\nProject Key: APL\nDescription: Moon\n"));
+        assertTrue(text.contains("- Total Tasks: 3\n- To Do: 0\n- In Progress: 0\n- In Review: 3\n- Done: 0\n"));
+        assertTrue(text.contains("- Estimated Hours: 12\n- Logged Hours: 4\n"));
+        assertTrue(text.contains("Tasks by Priority:\n- HIGHEST: 0\n- HIGH: 3\n"));
+        assertTrue(text.contains("Tasks by Assignee:\n- Alice: 3\n"));
+        assertTrue(text.contains("- Active Sprint \"Sprint 4\" ending 2026-01-30: 0/3 tasks done, 4/12 hours logged\n"));
+        assertTrue(text.contains("- Team Size: 2\n- Project Lead: Not assigned\n"));
+    }
+
+    @Test
+    void render_ListsAssigneesWhoShareANameSeparately() {
+        // Arrange
+        List<TaskRepository.TaskAggregate> rows = List.of(
+                assigneeRow(7L, "Alex", 2), assigneeRow(8L, "Alex", 1), assigneeRow(7L, "Alex", 1));
+        ReportContext context = ReportContext.builder()
+                .projectName("Apollo")
+                .projectKey("APL")
+                .tasks(TaskTotals.of(rows))
+                .sprintsByStatus(new EnumMap<>(Sprint.Status.class))
+                .activeSprints(List.of())
+                .build();
+
+        // Act
+        String text = ReportPromptRenderer.render(context);
+
+        // Assert
+        assertTrue(text.contains("Tasks by Assignee:\n- Alex: 3\n- Alex: 1\n"));
+    }
+
+    private static TaskRepository.TaskAggregate assigneeRow(Long assigneeId, String name, long count) {
+        TaskRepository.TaskAggregate row = mock(TaskRepository.TaskAggregate.class);
+        when(row.getAssigneeId()).thenReturn(assigneeId);
+        when(row.getAssigneeName()).thenReturn(name);
+        when(row.getCount()).thenReturn(count);
+        return row;
+    }
+}
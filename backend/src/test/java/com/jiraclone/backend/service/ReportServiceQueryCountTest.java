@@ -0,0 +1,138 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.config.ReportClientConfig;
+import com.jiraclone.backend.dto.ReportDTO;
+import com.jiraclone.backend.dto.ReportSummaryDTO;
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Report;
+import com.jiraclone.backend.model.ReportBody;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.ReportRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.support.JpaTestConfig;
+import com.jiraclone.backend.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({ReportService.class, ReportContextBuilder.class, ReportContentCache.class, ReportClientConfig.class,
+        JpaTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReportServiceQueryCountTest {
+
+    private static final String BODY = "# Status\n\n" + "All tasks are on track for the release. ".repeat(200);
+
+    @Autowired private ReportService reportService;
+    @Autowired private TestFixtures fixtures;
+    @Autowired private ReportRepository reportRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Project project;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        author = fixtures.createUser("author@example.com", "Author");
+
+        project = new Project();
+        project.setName("Reports");
+        project.setKey("REP");
+        project = projectRepository.save(project);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportRepository.deleteAll();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getReportsByProject_ListsWithOneQueryAndNoBodies() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            saveReport("Report " + i);
+        }
+        statistics.clear();
+
+        // Act
+        List<ReportSummaryDTO> reports = reportService.getReportsByProject(project.getId());
+
+        // Assert
+        assertEquals(5, reports.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(ReportBody.class.getName()).getLoadCount());
+        ReportSummaryDTO first = reports.get(0);
+        assertEquals(BODY.length(), first.getSize());
+        assertEquals(BODY.substring(0, Report.PREVIEW_LENGTH), first.getPreview());
+        assertEquals("Author", first.getAuthorName());
+        assertEquals(Report.ReportType.STATUS_REPORT, first.getType());
+    }
+
+    @Test
+    void getReportById_DecompressesStoredBody() {
+        // Arrange
+        Long reportId = saveReport("Compressed").getId();
+        Integer stored = jdbcTemplate.queryForObject(
+                "SELECT LENGTH(b.data) FROM report_bodies b JOIN reports r ON r.body_id = b.id WHERE r.id = ?",
+                Integer.class, reportId);
+
+        // Act
+        ReportDTO report = reportService.getReportById(reportId);
+
+        // Assert
+        assertEquals(BODY, report.getContent());
+        assertTrue(stored < BODY.length() / 10, "compressed body should be far smaller, was " + stored);
+        assertNull(jdbcTemplate.queryForObject("SELECT content FROM reports WHERE id = ?", String.class, reportId));
+    }
+
+    @Test
+    void legacyReports_FallBackToUncompressedColumn() {
+        // Arrange: a row written before bodies were split out
+        Long reportId = saveReport("Legacy").getId();
+        jdbcTemplate.update("UPDATE reports SET body_id = NULL, content_length = NULL, preview = NULL, content = ? WHERE id = ?",
+                "Legacy body", reportId);
+        jdbcTemplate.update("DELETE FROM report_bodies");
+
+        // Act
+        List<ReportSummaryDTO> reports = reportService.getReportsByProject(project.getId());
+        ReportDTO report = reportService.getReportById(reportId);
+
+        // Assert
+        assertEquals("Legacy body".length(), reports.get(0).getSize());
+        assertEquals("Legacy body", reports.get(0).getPreview());
+        assertEquals("Legacy body", report.getContent());
+    }
+
+    private Report saveReport(String title) {
+        Report report = new Report();
+        report.setTitle(title);
+        report.setContent(BODY);
+        report.setType(Report.ReportType.STATUS_REPORT);
+        report.setProject(project);
+        report.setAuthor(author);
+        return reportRepository.save(report);
+    }
+}
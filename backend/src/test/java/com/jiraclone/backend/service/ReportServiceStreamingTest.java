@@ -0,0 +1,139 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.config.ReportClientConfig;
+import com.jiraclone.backend.dto.ReportDTO;
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Report;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.ReportRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.support.JpaTestConfig;
+import com.jiraclone.backend.support.TestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false, properties = "openai.api.key=sk-test-0123456789")
+@ActiveProfiles("test")
+@Import({ReportService.class, ReportContextBuilder.class, ReportContentCache.class, ReportClientConfig.class,
+        JpaTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReportServiceStreamingTest {
+
+    private static final StubLlmServer upstream = StubLlmServer.start();
+
+    @DynamicPropertySource
+    static void upstreamUrl(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.url", upstream::url);
+    }
+
+    @Autowired private ReportService reportService;
+    @Autowired private TestFixtures fixtures;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private ReportRepository reportRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        User author = fixtures.createUser("author@example.com", "Author");
+
+        Project project = new Project();
+        project.setName("Streams");
+        project.setKey("STR");
+        projectId = projectRepository.save(project).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        upstream.reset();
+        reportRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @AfterAll
+    static void stopUpstream() {
+        upstream.close();
+    }
+
+    @Test
+    void streamReport_DeliversFirstChunkBeforeUpstreamFinishes() throws Exception {
+        // Arrange
+        upstream.hold();
+        upstream.setCompletion("# Sprint health is good");
+        List<String> chunks = new CopyOnWriteArrayList<>();
+        CountDownLatch firstChunk = new CountDownLatch(1);
+        Timer timer = meterRegistry.find(ReportService.FIRST_CHUNK_TIMER).timer();
+        long timedBefore = timer == null ? 0 : timer.count();
+
+        // Act
+        CompletableFuture<ReportDTO> report = reportService.prepareStream(projectId, "author@example.com",
+                "How is the sprint?", Report.ReportType.SPRINT_ANALYSIS).start(() -> { }, chunk -> {
+                    chunks.add(chunk);
+                    firstChunk.countDown();
+                });
+
+        // Assert
+        assertTrue(firstChunk.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of("# "), chunks);
+        assertFalse(report.isDone());
+        assertEquals(0, reportRepository.count());
+
+        upstream.release();
+        ReportDTO saved = report.get(10, TimeUnit.SECONDS);
+        assertEquals("# Sprint health is good", String.join("", chunks));
+        assertEquals("# Sprint health is good", saved.getContent());
+        assertEquals("Streams - Sprint analysis", saved.getTitle());
+        assertEquals(1, reportRepository.count());
+        assertTrue(upstream.getRequestBodies().get(0).contains("\"stream\":true"));
+        assertEquals("Bearer sk-test-0123456789", upstream.getAuthorizations().get(0));
+        assertEquals(timedBefore + 1, meterRegistry.get(ReportService.FIRST_CHUNK_TIMER).timer().count());
+    }
+
+    @Test
+    void streamReport_ReplaysCachedContentAsSingleChunk() throws Exception {
+        // Arrange
+        upstream.setCompletion("# Cached risk review");
+        reportService.prepareStream(projectId, "author@example.com", "Risks?", Report.ReportType.RISK_ASSESSMENT)
+                .start(() -> { }, chunk -> { }).get(10, TimeUnit.SECONDS);
+        List<String> chunks = new CopyOnWriteArrayList<>();
+        List<Thread> chunkThreads = new CopyOnWriteArrayList<>();
+
+        // Act
+        ReportDTO saved = reportService.prepareStream(projectId, "author@example.com", "risks?",
+                Report.ReportType.RISK_ASSESSMENT).start(() -> { }, chunk -> {
+                    chunkThreads.add(Thread.currentThread());
+                    chunks.add(chunk);
+                }).get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(List.of("# Cached risk review"), chunks);
+        assertNotSame(Thread.currentThread(), chunkThreads.get(0), "cache hits must not run on the request thread");
+        assertEquals("# Cached risk review", saved.getContent());
+        assertEquals(1, upstream.getRequestBodies().size());
+        assertEquals(2, reportRepository.count());
+    }
+}
@@ -1,15 +1,22 @@
 package com.jiraclone.backend.service;
 
 import com.jiraclone.backend.dto.ReportDTO;
+import com.jiraclone.backend.dto.ReportSummaryDTO;
 import com.jiraclone.backend.model.*;
 import com.jiraclone.backend.repository.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -21,26 +28,35 @@ class ReportServiceTest {
     @Mock private ProjectRepository projectRepository;
     @Mock private UserRepository userRepository;
     @Mock private TaskRepository taskRepository;
+    @Mock private SprintRepository sprintRepository;
+    @Mock private RestTemplate restTemplate;
 
-    @InjectMocks private ReportService reportService;
+    private ReportService reportService;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        reportService = new ReportService(reportRepository, projectRepository, userRepository,
+                new ReportContextBuilder(projectRepository, taskRepository, sprintRepository), restTemplate,
+                new ReportContentCache(100, 60_000, meterRegistry), HttpClient.newHttpClient(), meterRegistry);
     }
 
     @Test
     void testGetReportsByProject_ReturnsList() {
-        Report report1 = new Report();
-        report1.setTitle("Report 1");
+        ReportRepository.ReportSummary report1 = mock(ReportRepository.ReportSummary.class);
+        when(report1.getTitle()).thenReturn("Report 1");
+        when(report1.getSize()).thenReturn(42);
+        List<ReportRepository.ReportSummary> summaries = List.of(report1);
 
-        when(reportRepository.findByProjectIdOrderByCreatedAtDesc(1L))
-                .thenReturn(List.of(report1));
+        when(reportRepository.findSummariesByProjectId(1L)).thenReturn(summaries);
 
-        List<ReportDTO> result = reportService.getReportsByProject(1L);
+        List<ReportSummaryDTO> result = reportService.getReportsByProject(1L);
 
         assertEquals(1, result.size());
         assertEquals("Report 1", result.get(0).getTitle());
+        assertEquals(42, result.get(0).getSize());
     }
 
     @Test
@@ -91,13 +107,15 @@ class ReportServiceTest {
         user.setName("User");
 
         
-        Task t1 = new Task(); t1.setStatus(Task.Status.TODO);
-        Task t2 = new Task(); t2.setStatus(Task.Status.DONE);
-        Task t3 = new Task(); t3.setStatus(Task.Status.IN_PROGRESS);
+        List<TaskRepository.TaskAggregate> aggregates = List.of(
+                aggregate(Task.Status.TODO, 1),
+                aggregate(Task.Status.DONE, 1),
+                aggregate(Task.Status.IN_PROGRESS, 1));
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
         when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
-        when(taskRepository.findByProjectId(1L)).thenReturn(List.of(t1, t2, t3));
+        when(taskRepository.aggregateByProject(1L)).thenReturn(aggregates);
+        when(projectRepository.countMembers(1L)).thenReturn(0L);
         when(reportRepository.save(any(Report.class))).thenAnswer(i -> i.getArgument(0));
 
         ReportDTO result = reportService.generateReport(
@@ -108,6 +126,54 @@ class ReportServiceTest {
         );
 
         assertTrue(result.getContent().contains("Status Report"));
+        assertTrue(result.getContent().contains("There are a total of 3 tasks"));
+        assertTrue(result.getContent().contains("**Done**: 1 tasks"));
         assertEquals("MyProject - Status report", result.getTitle());
+        verifyNoInteractions(restTemplate);
+    }
+
+
+    @Test
+    void testGenerateReport_ReusesCachedContentForUnchangedProject() {
+        // Arrange
+        ReflectionTestUtils.setField(reportService, "openaiApiKey", "sk-test-0123456789");
+        ReflectionTestUtils.setField(reportService, "openaiApiUrl", "http://localhost/v1/chat/completions");
+
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("Cached");
+        project.setKey("CAC");
+        User user = new User();
+        user.setEmail("user@example.com");
+        List<TaskRepository.TaskAggregate> before = List.of(aggregate(Task.Status.TODO, 2));
+        List<TaskRepository.TaskAggregate> after = List.of(aggregate(Task.Status.TODO, 3));
+        Map<String, Object> completion = Map.of("choices",
+                List.of(Map.of("message", Map.of("role", "assistant", "content", "# From upstream"))));
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(taskRepository.aggregateByProject(1L)).thenReturn(before, before, after);
+        when(reportRepository.save(any(Report.class))).thenAnswer(i -> i.getArgument(0));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class)))
+                .thenReturn(ResponseEntity.ok(completion));
+
+        // Act
+        ReportDTO first = reportService.generateReport(1L, "user@example.com", "Weekly status", Report.ReportType.STATUS_REPORT);
+        ReportDTO repeat = reportService.generateReport(1L, "user@example.com", "  weekly   STATUS ", Report.ReportType.STATUS_REPORT);
+        ReportDTO changed = reportService.generateReport(1L, "user@example.com", "Weekly status", Report.ReportType.STATUS_REPORT);
+
+        // Assert
+        assertEquals("# From upstream", first.getContent());
+        assertEquals("# From upstream", repeat.getContent());
+        assertEquals("# From upstream", changed.getContent());
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(Map.class));
+        assertEquals(1.0, meterRegistry.get("report.cache.upstream.saved").counter().count());
+    }
+
+    private static TaskRepository.TaskAggregate aggregate(Task.Status status, long count) {
+        TaskRepository.TaskAggregate row = mock(TaskRepository.TaskAggregate.class);
+        when(row.getStatus()).thenReturn(status);
+        when(row.getCount()).thenReturn(count);
+        return row;
     }
 }
@@ -0,0 +1,145 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.dto.Expansion;
+import com.jiraclone.backend.dto.SprintDTO;
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Sprint;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.model.UserStory;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.SprintRepository;
+import com.jiraclone.backend.repository.TaskRepository;
+import com.jiraclone.backend.repository.UserStoryRepository;
+import com.jiraclone.backend.support.JpaTestConfig;
+import com.jiraclone.backend.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({SprintService.class, JpaTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SprintServiceQueryCountTest {
+
+    private static final int TASKS_PER_SPRINT = 5;
+
+    @Autowired private SprintService sprintService;
+    @Autowired private TestFixtures fixtures;
+    @Autowired private SprintRepository sprintRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserStoryRepository userStoryRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Project project;
+    private int sprintCount;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        project = fixtures.createProject("Sprints", "SPR");
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        userStoryRepository.deleteAllInBatch();
+        sprintRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getSprintsByProject_SummaryCostDoesNotGrowWithSprints() {
+        // Arrange
+        addSprints(2);
+        statistics.clear();
+        List<SprintDTO> small = sprintService.getSprintsByProject(project.getId());
+        long queriesForTwo = statistics.getPrepareStatementCount();
+
+        addSprints(10);
+        statistics.clear();
+
+        // Act
+        List<SprintDTO> large = sprintService.getSprintsByProject(project.getId());
+        long queriesForTwelve = statistics.getPrepareStatementCount();
+
+        // Assert
+        assertEquals(2, small.size());
+        assertEquals(12, large.size());
+        assertEquals(queriesForTwo, queriesForTwelve);
+        assertEquals(0, statistics.getEntityStatistics(Task.class.getName()).getLoadCount(),
+                "summary view must not load tasks");
+        for (SprintDTO sprint : large) {
+            assertNull(sprint.getTasks());
+            assertEquals(TASKS_PER_SPRINT, sprint.getSummary().getTotalTasks());
+            assertEquals(2, sprint.getSummary().getTasksByStatus().get(Task.Status.DONE));
+            assertEquals(TASKS_PER_SPRINT * 3, sprint.getSummary().getEstimatedHours());
+            assertEquals(8, sprint.getSummary().getStoryPoints());
+        }
+    }
+
+    @Test
+    void getSprintsByProject_ExpandedCostDoesNotGrowWithSprints() {
+        // Arrange
+        addSprints(2);
+        statistics.clear();
+        sprintService.getSprintsByProject(project.getId(), Expansion.parse("tasks"));
+        long queriesForTwo = statistics.getPrepareStatementCount();
+
+        addSprints(10);
+        statistics.clear();
+
+        // Act
+        List<SprintDTO> large = sprintService.getSprintsByProject(project.getId(), Expansion.parse("tasks"));
+
+        // Assert
+        assertEquals(queriesForTwo, statistics.getPrepareStatementCount());
+        for (SprintDTO sprint : large) {
+            assertEquals(TASKS_PER_SPRINT, sprint.getTasks().size());
+        }
+    }
+
+    private void addSprints(int count) {
+        for (int i = 0; i < count; i++) {
+            sprintCount++;
+            Sprint sprint = new Sprint();
+            sprint.setName("Sprint " + sprintCount);
+            sprint.setProject(project);
+            sprint.setStatus(Sprint.Status.PLANNING);
+            sprint = sprintRepository.save(sprint);
+
+            UserStory story = new UserStory();
+            story.setTitle("Story " + sprintCount);
+            story.setStoryPoints(8);
+            story.setProject(project);
+            story = userStoryRepository.save(story);
+
+            for (int t = 0; t < TASKS_PER_SPRINT; t++) {
+                Task task = new Task();
+                task.setTitle("Task");
+                task.setProject(project);
+                task.setSprint(sprint);
+                // Several tasks of the same story must only count its points once
+                task.setUserStory(story);
+                task.setStatus(t < 2 ? Task.Status.DONE : Task.Status.TODO);
+                task.setEstimatedHours(3);
+                taskRepository.save(task);
+            }
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.jiraclone.backend.service;
 
+import com.jiraclone.backend.dto.Expansion;
 import com.jiraclone.backend.dto.SprintDTO;
+import com.jiraclone.backend.dto.SprintSummaryDTO;
 import com.jiraclone.backend.model.Project;
 import com.jiraclone.backend.model.Sprint;
+import com.jiraclone.backend.model.Task;
 import com.jiraclone.backend.repository.ProjectRepository;
 import com.jiraclone.backend.repository.SprintRepository;
+import com.jiraclone.backend.repository.TaskRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +26,7 @@ class SprintServiceTest {
 
     @Mock private SprintRepository sprintRepository;
     @Mock private ProjectRepository projectRepository;
+    @Mock private TaskRepository taskRepository;
 
     @InjectMocks private SprintService sprintService;
 
@@ -93,6 +98,63 @@ class SprintServiceTest {
 
         assertEquals(2, result.size());
         assertEquals("Sprint A", result.get(0).getName());
+        assertNull(result.get(0).getTasks());
+        assertEquals(0, result.get(0).getSummary().getTotalTasks());
+        verify(taskRepository, never()).findBySprintIdsWithDetails(any());
+    }
+
+    @Test
+    void testGetSprintsByProject_BuildsSummaryFromAggregates() {
+        Project project = new Project();
+        project.setId(1L);
+
+        Sprint sprint = new Sprint();
+        sprint.setId(10L);
+        sprint.setName("Sprint A");
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(sprintRepository.findByProjectOrderByStartDateDesc(project)).thenReturn(List.of(sprint));
+        List<TaskRepository.SprintStatusTotals> totals = List.of(
+                statusTotals(10L, Task.Status.TODO, 3, 12, 0),
+                statusTotals(10L, Task.Status.DONE, 2, 8, 9));
+        List<TaskRepository.SprintStory> stories = List.of(
+                sprintStory(10L, 100L, 5),
+                sprintStory(10L, 101L, 8),
+                sprintStory(10L, 102L, null));
+        when(taskRepository.summarizeBySprint(List.of(10L))).thenReturn(totals);
+        when(taskRepository.findSprintStories(List.of(10L))).thenReturn(stories);
+
+        SprintSummaryDTO summary = sprintService.getSprintsByProject(1L).get(0).getSummary();
+
+        assertEquals(5, summary.getTotalTasks());
+        assertEquals(3L, summary.getTasksByStatus().get(Task.Status.TODO));
+        assertEquals(0L, summary.getTasksByStatus().get(Task.Status.IN_PROGRESS));
+        assertEquals(2L, summary.getTasksByStatus().get(Task.Status.DONE));
+        assertEquals(20, summary.getEstimatedHours());
+        assertEquals(9, summary.getLoggedHours());
+        assertEquals(13, summary.getStoryPoints());
+    }
+
+    @Test
+    void testGetSprintsByProject_ExpandTasks() {
+        Project project = new Project();
+        project.setId(1L);
+
+        Sprint sprint = new Sprint();
+        sprint.setId(10L);
+
+        Task task = new Task();
+        task.setId(5L);
+        task.setSprint(sprint);
+
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(sprintRepository.findByProjectOrderByStartDateDesc(project)).thenReturn(List.of(sprint));
+        when(taskRepository.findBySprintIdsWithDetails(List.of(10L))).thenReturn(List.of(task));
+
+        SprintDTO result = sprintService.getSprintsByProject(1L, Expansion.parse("tasks")).get(0);
+
+        assertEquals(1, result.getTasks().size());
+        assertEquals(5L, result.getTasks().iterator().next().getId());
     }
 
     @Test
@@ -189,4 +251,23 @@ class SprintServiceTest {
 
         assertThrows(EntityNotFoundException.class, () -> sprintService.completeSprint(1L));
     }
+
+    private static TaskRepository.SprintStatusTotals statusTotals(Long sprintId, Task.Status status,
+                                                                 long count, long estimated, long logged) {
+        TaskRepository.SprintStatusTotals totals = mock(TaskRepository.SprintStatusTotals.class);
+        when(totals.getSprintId()).thenReturn(sprintId);
+        when(totals.getStatus()).thenReturn(status);
+        when(totals.getCount()).thenReturn(count);
+        when(totals.getEstimatedHours()).thenReturn(estimated);
+        when(totals.getLoggedHours()).thenReturn(logged);
+        return totals;
+    }
+
+    private static TaskRepository.SprintStory sprintStory(Long sprintId, Long storyId, Integer points) {
+        TaskRepository.SprintStory story = mock(TaskRepository.SprintStory.class);
+        when(story.getSprintId()).thenReturn(sprintId);
+        when(story.getStoryId()).thenReturn(storyId);
+        when(story.getStoryPoints()).thenReturn(points);
+        return story;
+    }
 }
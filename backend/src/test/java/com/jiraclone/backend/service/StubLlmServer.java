@@ -0,0 +1,146 @@
+package com.jiraclone.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local stand-in for the chat completions API on a JDK {@link HttpServer}. Replies with a
+ * fixed completion, or streams it word by word as server-sent events when the request asks
+ * for {@code "stream": true}. {@link #hold()} makes requests wait until {@link #release()}
+ * (streamed replies send their first word before waiting) so tests can observe in-flight work.
+ */
+public class StubLlmServer implements AutoCloseable {
+
+    public static final String PATH = "/v1/chat/completions";
+
+    private final HttpServer server;
+    private final ExecutorService handlers = Executors.newCachedThreadPool();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<String> requestBodies = new CopyOnWriteArrayList<>();
+    private final List<String> authorizations = new CopyOnWriteArrayList<>();
+    private final List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+    private volatile String completion = "# Stubbed report";
+
+    private StubLlmServer(HttpServer server) {
+        this.server = server;
+        server.createContext(PATH, this::handle);
+        server.setExecutor(handlers);
+        server.start();
+    }
+
+    public static StubLlmServer start() {
+        try {
+            return new StubLlmServer(HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String url() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + PATH;
+    }
+
+    public void setCompletion(String completion) {
+        this.completion = completion;
+    }
+
+    public void hold() {
+        gate = new CountDownLatch(1);
+    }
+
+    public void release() {
+        gate.countDown();
+    }
+
+    public List<String> getRequestBodies() {
+        return requestBodies;
+    }
+
+    public List<String> getAuthorizations() {
+        return authorizations;
+    }
+
+    /**
+     * Client ports seen per request; one distinct port across calls means the connection was reused.
+     */
+    public List<Integer> getClientPorts() {
+        return clientPorts;
+    }
+
+    public void reset() {
+        release();
+        requestBodies.clear();
+        authorizations.clear();
+        clientPorts.clear();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        requestBodies.add(requestBody);
+        authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        if (objectMapper.readTree(requestBody).path("stream").asBoolean()) {
+            streamCompletion(exchange);
+            return;
+        }
+        awaitGate();
+
+        byte[] body = objectMapper.writeValueAsBytes(Map.of(
+                "choices", List.of(Map.of("message", Map.of("role", "assistant", "content", completion)))));
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void streamCompletion(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            String[] words = completion.split("(?<= )");
+            for (int i = 0; i < words.length; i++) {
+                String delta = objectMapper.writeValueAsString(Map.of(
+                        "choices", List.of(Map.of("index", 0, "delta", Map.of("content", words[i])))));
+                out.write(("data: " + delta + "\n\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                if (i == 0) {
+                    awaitGate();
+                }
+            }
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void awaitGate() {
+        try {
+            gate.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        release();
+        server.stop(0);
+        handlers.shutdownNow();
+    }
+}
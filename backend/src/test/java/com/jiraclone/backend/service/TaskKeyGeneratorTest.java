@@ -0,0 +1,75 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.TaskKeySequence;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.TaskKeySequenceRepository;
+import com.jiraclone.backend.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TaskKeyGeneratorTest {
+
+    @Mock private TaskKeySequenceRepository sequenceRepository;
+    @Mock private ProjectRepository projectRepository;
+    @Mock private TaskRepository taskRepository;
+
+    @InjectMocks private TaskKeyGenerator taskKeyGenerator;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        project = new Project();
+        project.setId(1L);
+        project.setKey("PRJ");
+    }
+
+    @Test
+    void testNextKey_IncrementsExistingSequence() {
+        TaskKeySequence sequence = new TaskKeySequence(1L, 42L);
+        when(sequenceRepository.existsById(1L)).thenReturn(true);
+        when(sequenceRepository.findForUpdate(1L)).thenReturn(Optional.of(sequence));
+
+        assertEquals("PRJ-42", taskKeyGenerator.nextKey(project));
+        assertEquals("PRJ-43", taskKeyGenerator.nextKey(project));
+        assertEquals(44L, sequence.getNextValue());
+        verify(taskRepository, never()).findHighestTaskNumber(any());
+    }
+
+    @Test
+    void testNextKey_SeedsFromExistingTaskKeys() {
+        when(sequenceRepository.existsById(1L)).thenReturn(false);
+        when(taskRepository.findHighestTaskNumber(1L)).thenReturn(7L);
+        when(sequenceRepository.save(any(TaskKeySequence.class))).thenAnswer(i -> i.getArgument(0));
+        when(sequenceRepository.findForUpdate(1L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new TaskKeySequence(1L, 8L)));
+
+        assertEquals("PRJ-8", taskKeyGenerator.nextKey(project));
+        verify(projectRepository).findByIdForUpdate(1L);
+        verify(sequenceRepository).save(argThat(s -> s.getNextValue() == 8L));
+    }
+
+    @Test
+    void testNextKey_SeedsEmptyProjectAtOne() {
+        when(sequenceRepository.existsById(1L)).thenReturn(false);
+        when(taskRepository.findHighestTaskNumber(1L)).thenReturn(null);
+        when(sequenceRepository.findForUpdate(1L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new TaskKeySequence(1L, 1L)));
+
+        assertEquals("PRJ-1", taskKeyGenerator.nextKey(project));
+        verify(sequenceRepository).save(argThat(s -> s.getNextValue() == 1L));
+    }
+}
@@ -0,0 +1,195 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.dto.BulkTaskResultDTO;
+import com.jiraclone.backend.dto.BulkTaskUpdateDTO;
+import com.jiraclone.backend.model.ProjectStatistics;
+import com.jiraclone.backend.model.Sprint;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.ProjectStatisticsRepository;
+import com.jiraclone.backend.repository.SprintRepository;
+import com.jiraclone.backend.repository.TaskKeySequenceRepository;
+import com.jiraclone.backend.repository.TaskRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.support.JpaTestConfig;
+import com.jiraclone.backend.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({TaskService.class, TaskKeyGenerator.class, ProjectStatisticsService.class, ProjectMembershipService.class,
+        ProjectStatisticsReconciler.class, JpaTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskServiceBulkUpdateTest {
+
+    @Autowired private TaskService taskService;
+    @Autowired private TestFixtures fixtures;
+    @Autowired private ProjectStatisticsReconciler reconciler;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private SprintRepository sprintRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TaskKeySequenceRepository taskKeySequenceRepository;
+    @Autowired private ProjectStatisticsRepository projectStatisticsRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User reporter;
+    private Long alpha;
+    private Long beta;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        reporter = fixtures.createUser("reporter@example.com");
+        alpha = fixtures.createProject("Alpha", "ALP", reporter).getId();
+        beta = fixtures.createProject("Beta", "BET").getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        taskKeySequenceRepository.deleteAllInBatch();
+        projectStatisticsRepository.deleteAllInBatch();
+        sprintRepository.deleteAllInBatch();
+        // Not in batch: removing projects also has to clear their project_members rows
+        projectRepository.deleteAll();
+        userRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void bulkUpdate_StatusKeepsCountersInStep() {
+        // Arrange
+        List<Long> alphaTasks = createTasks(alpha, 3);
+        List<Long> betaTasks = createTasks(beta, 2);
+        taskService.updateTaskStatus(alphaTasks.get(0), Task.Status.DONE);
+        taskService.updateTaskStatus(betaTasks.get(0), Task.Status.IN_REVIEW);
+        List<Long> requested = new ArrayList<>(alphaTasks);
+        requested.addAll(betaTasks);
+        requested.add(-1L);
+        requested.add(alphaTasks.get(1));
+
+        // Act
+        BulkTaskResultDTO result = taskService.bulkUpdate(request(BulkTaskUpdateDTO.Operation.STATUS, requested));
+
+        // Assert
+        assertEquals(4, result.getUpdated());
+        assertEquals(6, result.getItems().size(), "duplicate ids are reported once");
+        assertEquals(BulkTaskResultDTO.Outcome.UNCHANGED, result.getItems().get(0).getOutcome());
+        assertEquals(BulkTaskResultDTO.Outcome.UPDATED, result.getItems().get(1).getOutcome());
+        assertEquals(BulkTaskResultDTO.Outcome.NOT_FOUND, result.getItems().get(5).getOutcome());
+        assertTrue(taskRepository.findAll().stream().allMatch(task -> task.getStatus() == Task.Status.DONE));
+
+        ProjectStatistics alphaCounts = projectStatisticsRepository.findById(alpha).orElseThrow();
+        assertEquals(3, alphaCounts.getDoneTasks());
+        assertEquals(0, alphaCounts.getTodoTasks());
+        ProjectStatistics betaCounts = projectStatisticsRepository.findById(beta).orElseThrow();
+        assertEquals(2, betaCounts.getDoneTasks());
+        assertEquals(0, betaCounts.getInReviewTasks());
+        assertEquals(0, reconciler.reconcileAll(), "counters must match a recount");
+    }
+
+    @Test
+    void bulkUpdate_StatementCountDoesNotGrowWithTasks() {
+        // Arrange
+        List<Long> few = createTasks(alpha, 3);
+        List<Long> many = createTasks(alpha, 60);
+        statistics.clear();
+        taskService.bulkUpdate(request(BulkTaskUpdateDTO.Operation.STATUS, few));
+        long statementsForFew = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        // Act
+        BulkTaskResultDTO result = taskService.bulkUpdate(request(BulkTaskUpdateDTO.Operation.STATUS, many));
+
+        // Assert
+        assertEquals(60, result.getUpdated());
+        assertEquals(statementsForFew, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void bulkUpdate_AssigneeRejectsTasksOutsideTheirProjects() {
+        // Arrange
+        List<Long> alphaTasks = createTasks(alpha, 2);
+        List<Long> betaTasks = createTasks(beta, 1);
+        BulkTaskUpdateDTO request = request(BulkTaskUpdateDTO.Operation.ASSIGNEE,
+                List.of(alphaTasks.get(0), betaTasks.get(0), alphaTasks.get(1)));
+        request.setAssigneeId(reporter.getId());
+
+        // Act
+        BulkTaskResultDTO result = taskService.bulkUpdate(request);
+
+        // Assert
+        assertEquals(2, result.getUpdated());
+        BulkTaskResultDTO.Item rejected = result.getItems().get(1);
+        assertEquals(BulkTaskResultDTO.Outcome.REJECTED, rejected.getOutcome());
+        assertEquals("User is not a member of the project", rejected.getError());
+        assertEquals(reporter.getId(), taskRepository.findDetailedById(alphaTasks.get(1)).orElseThrow()
+                .getAssignee().getId());
+        assertNull(taskRepository.findDetailedById(betaTasks.get(0)).orElseThrow().getAssignee());
+    }
+
+    @Test
+    void bulkUpdate_SprintMovesTasksInAndBackToTheBacklog() {
+        // Arrange
+        List<Long> alphaTasks = createTasks(alpha, 2);
+        List<Long> betaTasks = createTasks(beta, 1);
+        Sprint sprint = new Sprint();
+        sprint.setName("Sprint 1");
+        sprint.setStatus(Sprint.Status.ACTIVE);
+        sprint.setProject(projectRepository.findById(alpha).orElseThrow());
+        Long sprintId = sprintRepository.save(sprint).getId();
+        List<Long> requested = List.of(alphaTasks.get(0), alphaTasks.get(1), betaTasks.get(0));
+        BulkTaskUpdateDTO intoSprint = request(BulkTaskUpdateDTO.Operation.SPRINT, requested);
+        intoSprint.setSprintId(sprintId);
+
+        // Act
+        BulkTaskResultDTO moved = taskService.bulkUpdate(intoSprint);
+        List<Long> inSprint = taskService.getTasksBySprint(sprintId).stream().map(task -> task.getId()).toList();
+        BulkTaskResultDTO backlog = taskService.bulkUpdate(request(BulkTaskUpdateDTO.Operation.SPRINT, requested));
+
+        // Assert
+        assertEquals(BulkTaskResultDTO.Outcome.REJECTED, moved.getItems().get(2).getOutcome());
+        assertEquals(Set.copyOf(alphaTasks), Set.copyOf(inSprint));
+        assertEquals(2, backlog.getUpdated());
+        assertEquals(BulkTaskResultDTO.Outcome.UNCHANGED, backlog.getItems().get(2).getOutcome());
+        assertTrue(taskService.getTasksBySprint(sprintId).isEmpty());
+    }
+
+    private static BulkTaskUpdateDTO request(BulkTaskUpdateDTO.Operation operation, List<Long> taskIds) {
+        BulkTaskUpdateDTO request = new BulkTaskUpdateDTO();
+        request.setOperation(operation);
+        request.setTaskIds(taskIds);
+        request.setStatus(Task.Status.DONE);
+        return request;
+    }
+
+    private List<Long> createTasks(Long projectId, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            ids.add(taskService.createTask(task, projectId, reporter.getEmail()).getId());
+        }
+        return ids;
+    }
+}
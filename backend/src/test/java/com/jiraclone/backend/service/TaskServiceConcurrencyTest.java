@@ -0,0 +1,237 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.dto.BulkTaskUpdateDTO;
+import com.jiraclone.backend.dto.TaskDTO;
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.model.ProjectStatistics;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.ProjectStatisticsRepository;
+import com.jiraclone.backend.repository.TaskKeySequenceRepository;
+import com.jiraclone.backend.repository.TaskRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.support.JpaTestConfig;
+import com.jiraclone.backend.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Own database with a MySQL-like lock wait: every create in the project queues on the same counter
+// rows, and on a slow machine the queue outlasts H2's 2 second default lock timeout
+@DataJpaTest(showSql = false, properties = {
+        "spring.datasource.url=jdbc:h2:mem:task-concurrency;LOCK_TIMEOUT=30000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({TaskService.class, TaskKeyGenerator.class, ProjectStatisticsService.class, ProjectMembershipService.class,
+        ProjectStatisticsReconciler.class, JpaTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int TASKS_PER_THREAD = 125;
+    private static final int UPDATED_TASKS = 40;
+    private static final int UPDATES_PER_THREAD = 25;
+
+    @Autowired private TaskService taskService;
+    @Autowired private TestFixtures fixtures;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TaskKeySequenceRepository taskKeySequenceRepository;
+    @Autowired private ProjectStatisticsRepository projectStatisticsRepository;
+    @Autowired private ProjectStatisticsService projectStatisticsService;
+    @Autowired private ProjectStatisticsReconciler reconciler;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        taskKeySequenceRepository.deleteAllInBatch();
+        projectStatisticsRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testCreateTask_ConcurrentCreatesGetUniqueSequentialKeys() throws Exception {
+        User reporter = fixtures.createUser("reporter@example.com", "Reporter");
+
+        Project project = new Project();
+        project.setName("Concurrency");
+        project.setKey("CON");
+        Long projectId = projectRepository.save(project).getId();
+        // As ProjectService.createProject does for every new project
+        projectStatisticsService.initialize(projectId);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                List<String> keys = new ArrayList<>();
+                for (int i = 0; i < TASKS_PER_THREAD; i++) {
+                    Task task = new Task();
+                    task.setTitle("Task");
+                    TaskDTO created = taskService.createTask(task, projectId, "reporter@example.com");
+                    keys.add(created.getTaskKey());
+                }
+                return keys;
+            }));
+        }
+
+        List<String> allKeys = new ArrayList<>();
+        for (Future<List<String>> future : futures) {
+            allKeys.addAll(future.get());
+        }
+        executor.shutdown();
+
+        int expected = THREADS * TASKS_PER_THREAD;
+        Set<String> expectedKeys = LongStream.rangeClosed(1, expected)
+                .mapToObj(n -> "CON-" + n)
+                .collect(Collectors.toSet());
+
+        assertEquals(expected, allKeys.size());
+        assertEquals(expectedKeys, Set.copyOf(allKeys));
+        assertEquals(expected, taskRepository.count());
+
+        // Counters are only moved by relative updates, so none of the concurrent increments is lost
+        ProjectStatistics statistics = projectStatisticsRepository.findById(projectId).orElseThrow();
+        assertEquals(expected, statistics.getTotalTasks());
+        assertEquals(expected, statistics.getTodoTasks());
+    }
+
+    @Test
+    void testCreateTask_SeedsSequenceFromExistingTasks() {
+        User reporter = fixtures.createUser("reporter@example.com", "Reporter");
+
+        Project project = new Project();
+        project.setName("Legacy");
+        project.setKey("LEG");
+        project = projectRepository.save(project);
+
+        // Tasks keyed by the previous size()+1 scheme, with a gap left by a deleted task
+        for (String key : List.of("LEG-1", "LEG-2", "LEG-4")) {
+            Task legacy = new Task();
+            legacy.setTitle("Legacy");
+            legacy.setTaskKey(key);
+            legacy.setProject(project);
+            taskRepository.save(legacy);
+        }
+
+        Task task = new Task();
+        task.setTitle("New");
+        TaskDTO created = taskService.createTask(task, project.getId(), "reporter@example.com");
+
+        assertEquals("LEG-5", created.getTaskKey());
+    }
+
+    @Test
+    void testCreateTask_SeedsSequenceForProjectKeyContainingDash() {
+        fixtures.createUser("reporter@example.com", "Reporter");
+        Project project = fixtures.createProject("My App", "MY-AP");
+        for (String key : List.of("MY-AP-1", "MY-AP-7", "MY-AP-12")) {
+            Task legacy = new Task();
+            legacy.setTitle("Legacy");
+            legacy.setTaskKey(key);
+            legacy.setProject(project);
+            taskRepository.save(legacy);
+        }
+
+        Task task = new Task();
+        task.setTitle("New");
+        TaskDTO created = taskService.createTask(task, project.getId(), "reporter@example.com");
+
+        assertEquals("MY-AP-13", created.getTaskKey());
+    }
+
+    @Test
+    void testTaskKeys_AreUniqueWithinAProject() {
+        Project project = fixtures.createProject("Duplicates", "DUP");
+        Project other = fixtures.createProject("Other", "OTH");
+        Task first = new Task();
+        first.setTitle("Task");
+        first.setTaskKey("DUP-1");
+        first.setProject(project);
+        taskRepository.save(first);
+        Task elsewhere = new Task();
+        elsewhere.setTitle("Task");
+        elsewhere.setTaskKey("DUP-1");
+        elsewhere.setProject(other);
+        taskRepository.save(elsewhere);
+
+        Task duplicate = new Task();
+        duplicate.setTitle("Task");
+        duplicate.setTaskKey("DUP-1");
+        duplicate.setProject(project);
+        assertThrows(DataIntegrityViolationException.class, () -> taskRepository.save(duplicate));
+    }
+
+    @Test
+    void testUpdateStatus_ConcurrentBulkAndSingleTaskWritesKeepCountersExact() throws Exception {
+        fixtures.createUser("reporter@example.com", "Reporter");
+        Long projectId = fixtures.createProject("Updates", "UPD").getId();
+        projectStatisticsService.initialize(projectId);
+        List<Long> taskIds = new ArrayList<>();
+        for (int i = 0; i < UPDATED_TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            taskIds.add(taskService.createTask(task, projectId, "reporter@example.com").getId());
+        }
+
+        // Half the threads move random batches of tasks, the other half single tasks, all to
+        // random statuses, so both paths keep writing the same task and counter rows
+        Task.Status[] statuses = Task.Status.values();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            boolean bulk = t % 2 == 0;
+            Random random = new Random(t);
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                    Task.Status status = statuses[random.nextInt(statuses.length)];
+                    if (bulk) {
+                        BulkTaskUpdateDTO request = new BulkTaskUpdateDTO();
+                        request.setOperation(BulkTaskUpdateDTO.Operation.STATUS);
+                        request.setStatus(status);
+                        request.setTaskIds(random.ints(10, 0, UPDATED_TASKS).mapToObj(taskIds::get).toList());
+                        taskService.bulkUpdate(request);
+                    } else {
+                        taskService.updateTaskStatus(taskIds.get(random.nextInt(UPDATED_TASKS)), status);
+                    }
+                }
+                return null;
+            }));
+        }
+        // Rethrows any lock timeout or deadlock a thread ran into
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(0, reconciler.reconcileAll(), "counters must match a recount");
+        ProjectStatistics statistics = projectStatisticsRepository.findById(projectId).orElseThrow();
+        assertEquals(UPDATED_TASKS, statistics.getTotalTasks());
+    }
+}
@@ -0,0 +1,153 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.dto.TaskDTO;
+import com.jiraclone.backend.dto.TaskPageDTO;
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.ProjectStatisticsRepository;
+import com.jiraclone.backend.repository.TaskFilter;
+import com.jiraclone.backend.repository.TaskKeySequenceRepository;
+import com.jiraclone.backend.repository.TaskRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.support.JpaTestConfig;
+import com.jiraclone.backend.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import({TaskService.class, TaskKeyGenerator.class, ProjectStatisticsService.class, ProjectMembershipService.class,
+        JpaTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskServicePagingTest {
+
+    @Autowired private TaskService taskService;
+    @Autowired private TestFixtures fixtures;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TaskKeySequenceRepository taskKeySequenceRepository;
+    @Autowired private ProjectStatisticsRepository projectStatisticsRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private User reporter;
+    private User assignee;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        reporter = fixtures.createUser("reporter@example.com");
+        assignee = fixtures.createUser("assignee@example.com");
+
+        Project project = new Project();
+        project.setName("Paging");
+        project.setKey("PAG");
+        projectId = projectRepository.save(project).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        taskKeySequenceRepository.deleteAllInBatch();
+        projectStatisticsRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getTaskPageByProject_ShouldWalkAllTasksNewestFirst() {
+        // Arrange: 25 tasks, several sharing a creation time so the id tie-breaker matters
+        for (int i = 0; i < 25; i++) {
+            createTask(Task.Status.TODO, null);
+        }
+        List<Long> tied = taskRepository.findAll().stream()
+                .map(Task::getId)
+                .sorted()
+                .limit(11)
+                .collect(Collectors.toList());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                entityManager.createQuery("UPDATE Task t SET t.createdAt = :createdAt WHERE t.id IN :ids")
+                        .setParameter("createdAt", LocalDateTime.of(2024, 1, 1, 12, 0))
+                        .setParameter("ids", tied)
+                        .executeUpdate());
+
+        // Act
+        List<TaskDTO> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            TaskPageDTO page = taskService.getTaskPageByProject(projectId, new TaskFilter(), cursor, 10);
+            walked.addAll(page.getItems());
+            assertEquals(page.isHasMore(), page.getNextCursor() != null);
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(3, pages);
+        List<Long> expectedOrder = taskRepository.findAll().stream()
+                .sorted((a, b) -> a.getCreatedAt().equals(b.getCreatedAt())
+                        ? b.getId().compareTo(a.getId())
+                        : b.getCreatedAt().compareTo(a.getCreatedAt()))
+                .map(Task::getId)
+                .collect(Collectors.toList());
+        assertEquals(expectedOrder, walked.stream().map(TaskDTO::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void getTaskPageByProject_ShouldApplyFilters() {
+        createTask(Task.Status.TODO, assignee);
+        createTask(Task.Status.DONE, assignee);
+        createTask(Task.Status.DONE, null);
+
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(Task.Status.DONE);
+        filter.setAssigneeId(assignee.getId());
+        TaskPageDTO page = taskService.getTaskPageByProject(projectId, filter, null, 10);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals(Task.Status.DONE, page.getItems().get(0).getStatus());
+        assertEquals(assignee.getId(), page.getItems().get(0).getAssignee().getId());
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    void getTaskPageByAssignee_ShouldOnlyReturnOwnTasks() {
+        createTask(Task.Status.TODO, assignee);
+        createTask(Task.Status.TODO, reporter);
+
+        TaskPageDTO page = taskService.getTaskPageByAssignee(
+                "assignee@example.com", new TaskFilter(), null, 10);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals("assignee@example.com", page.getItems().get(0).getAssignee().getEmail());
+    }
+
+    private void createTask(Task.Status status, User taskAssignee) {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setStatus(status);
+        task.setAssignee(taskAssignee);
+        taskService.createTask(task, projectId, reporter.getEmail());
+    }
+}
@@ -0,0 +1,157 @@
+package com.jiraclone.backend.service;
+
+import com.jiraclone.backend.dto.TaskDTO;
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Sprint;
+import com.jiraclone.backend.model.Task;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.model.UserStory;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.SprintRepository;
+import com.jiraclone.backend.repository.TaskRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.repository.UserStoryRepository;
+import com.jiraclone.backend.support.JpaTestConfig;
+import com.jiraclone.backend.support.TestFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({TaskService.class, TaskKeyGenerator.class, ProjectStatisticsService.class, ProjectMembershipService.class,
+        JpaTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskServiceQueryCountTest {
+
+    @Autowired private TaskService taskService;
+    @Autowired private TestFixtures fixtures;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private SprintRepository sprintRepository;
+    @Autowired private UserStoryRepository userStoryRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Project project;
+    private Sprint sprint;
+    private UserStory story;
+    private User assignee;
+    private User reporter;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assignee = fixtures.createUser("assignee@example.com");
+        reporter = fixtures.createUser("reporter@example.com");
+
+        project = new Project();
+        project.setName("Fetch plans");
+        project.setKey("FPL");
+        project = projectRepository.save(project);
+
+        sprint = new Sprint();
+        sprint.setName("Sprint 1");
+        sprint.setProject(project);
+        sprint.setStatus(Sprint.Status.ACTIVE);
+        sprint = sprintRepository.save(sprint);
+
+        story = new UserStory();
+        story.setTitle("Story");
+        story.setProject(project);
+        story = userStoryRepository.save(story);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        userStoryRepository.deleteAllInBatch();
+        sprintRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void taskLists_CostDoesNotGrowWithTasks() {
+        // Arrange
+        addTasks(3);
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        taskService.getTasksByProject(project.getId());
+        taskService.getTasksByAssignee(assignee.getEmail());
+        taskService.getTasksBySprint(sprint.getId());
+        long queriesForThree = statistics.getPrepareStatementCount();
+
+        addTasks(30);
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        // Act
+        List<TaskDTO> byProject = taskService.getTasksByProject(project.getId());
+        List<TaskDTO> byAssignee = taskService.getTasksByAssignee(assignee.getEmail());
+        List<TaskDTO> bySprint = taskService.getTasksBySprint(sprint.getId());
+
+        // Assert
+        assertEquals(queriesForThree, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(Task.class.getName()).getLoadCount(),
+                "lists must read rows, not task entities");
+        assertEquals(33, byProject.size());
+        assertEquals(33, byAssignee.size());
+        assertEquals(33, bySprint.size());
+        TaskDTO first = byProject.get(0);
+        assertEquals("Fetch plans", first.getProjectName());
+        assertEquals(sprint.getId(), first.getSprintId());
+        assertEquals(story.getId(), first.getUserStoryId());
+        assertEquals("assignee@example.com", first.getAssignee().getEmail());
+        assertEquals("reporter@example.com", first.getReporter().getEmail());
+    }
+
+    @Test
+    void getTaskById_LoadsDetailInOneStatement() {
+        // Arrange
+        addTasks(1);
+        Long taskId = taskRepository.findAll().get(0).getId();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        // Act
+        TaskDTO task = taskService.getTaskById(taskId);
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals("Fetch plans", task.getProjectName());
+        assertEquals(sprint.getId(), task.getSprintId());
+        assertEquals(story.getId(), task.getUserStoryId());
+        assertEquals("assignee@example.com", task.getAssignee().getEmail());
+        assertEquals("reporter@example.com", task.getReporter().getEmail());
+    }
+
+    private void addTasks(int count) {
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setTitle("Task");
+            task.setStatus(Task.Status.TODO);
+            task.setProject(project);
+            task.setSprint(sprint);
+            task.setUserStory(story);
+            task.setAssignee(assignee);
+            task.setReporter(reporter);
+            taskRepository.save(task);
+        }
+    }
+}
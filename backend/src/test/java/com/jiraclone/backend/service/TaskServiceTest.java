@@ -1,15 +1,19 @@
 package com.jiraclone.backend.service;
 
+import com.jiraclone.backend.dto.BulkTaskUpdateDTO;
 import com.jiraclone.backend.dto.TaskDTO;
+import com.jiraclone.backend.dto.TaskPageDTO;
 import com.jiraclone.backend.model.*;
 import com.jiraclone.backend.repository.*;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -21,6 +25,9 @@ class TaskServiceTest {
     @Mock private ProjectRepository projectRepository;
     @Mock private UserRepository userRepository;
     @Mock private SprintRepository sprintRepository;
+    @Mock private TaskKeyGenerator taskKeyGenerator;
+    @Mock private ProjectStatisticsService projectStatisticsService;
+    @Mock private ProjectMembershipService projectMembershipService;
 
     @InjectMocks private TaskService taskService;
 
@@ -47,6 +54,7 @@ class TaskServiceTest {
 
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(reporter));
+        when(taskKeyGenerator.nextKey(project)).thenReturn("PRJ-1");
         when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
 
         TaskDTO result = taskService.createTask(task, projectId, email);
@@ -54,6 +62,8 @@ class TaskServiceTest {
         assertEquals("Task 1", result.getTitle());
         assertTrue(result.getTaskKey().startsWith("PRJ-"));
         verify(taskRepository).save(any(Task.class));
+        verify(taskKeyGenerator).nextKey(project);
+        verify(projectStatisticsService).recordTaskCreated(projectId, Task.Status.TODO);
     }
 
     @Test
@@ -83,7 +93,7 @@ class TaskServiceTest {
         task.setId(1L);
         task.setTitle("Test");
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findDetailedById(1L)).thenReturn(Optional.of(task));
 
         TaskDTO result = taskService.getTaskById(1L);
 
@@ -92,21 +102,149 @@ class TaskServiceTest {
 
     @Test
     void testGetTaskById_NotFound() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.empty());
+        when(taskRepository.findDetailedById(1L)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> taskService.getTaskById(1L));
     }
 
+    @Test
+    void testUpdateTaskStatus_RecordsStatusChange() {
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(1L);
+        task.setProject(project);
+        task.setStatus(Task.Status.TODO);
+
+        when(taskRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.findDetailedById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenAnswer(i -> i.getArgument(0));
+
+        TaskDTO result = taskService.updateTaskStatus(1L, Task.Status.DONE);
+
+        assertEquals(Task.Status.DONE, result.getStatus());
+        InOrder order = inOrder(taskRepository, projectStatisticsService);
+        order.verify(taskRepository).findByIdForUpdate(1L);
+        order.verify(projectStatisticsService).recordStatusChange(1L, Task.Status.TODO, Task.Status.DONE);
+    }
+
+    @Test
+    void testUpdateTaskStatus_NotFound() {
+        when(taskRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
+        assertThrows(EntityNotFoundException.class, () -> taskService.updateTaskStatus(1L, Task.Status.DONE));
+        verify(projectStatisticsService, never()).recordStatusChange(any(), any(), any());
+    }
+
     @Test
     void testDeleteTask_Success() {
-        when(taskRepository.existsById(1L)).thenReturn(true);
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(1L);
+        task.setProject(project);
+        task.setStatus(Task.Status.IN_REVIEW);
+
+        when(taskRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(task));
         taskService.deleteTask(1L);
         verify(taskRepository).deleteById(1L);
+        verify(projectStatisticsService).recordTaskDeleted(1L, Task.Status.IN_REVIEW);
     }
 
     @Test
     void testDeleteTask_NotFound() {
-        when(taskRepository.existsById(1L)).thenReturn(false);
+        when(taskRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
         assertThrows(EntityNotFoundException.class, () -> taskService.deleteTask(1L));
+        verify(taskRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void testGetTaskPageBySprint_ReadsOneExtraRowToDetectNextPage() {
+        List<TaskListItem> rows = new ArrayList<>();
+        for (long id = 3; id >= 1; id--) {
+            rows.add(listItem(id, LocalDateTime.of(2024, 1, 1, 12, 0)));
+        }
+        when(sprintRepository.existsById(5L)).thenReturn(true);
+        when(taskRepository.findPage(any(TaskFilter.class), isNull(), eq(3))).thenReturn(rows);
+
+        TaskPageDTO page = taskService.getTaskPageBySprint(5L, new TaskFilter(), null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasMore());
+        TaskCursor next = TaskCursor.decode(page.getNextCursor());
+        assertEquals(2L, next.getId());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 12, 0), next.getCreatedAt());
+    }
+
+    @Test
+    void testGetTaskPageBySprint_ClampsPageSize() {
+        when(sprintRepository.existsById(5L)).thenReturn(true);
+        when(taskRepository.findPage(any(TaskFilter.class), isNull(), anyInt())).thenReturn(new ArrayList<>());
+
+        TaskPageDTO page = taskService.getTaskPageBySprint(5L, new TaskFilter(), null, 10_000);
+
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+        verify(taskRepository).findPage(any(TaskFilter.class), isNull(), eq(TaskService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void testGetTaskPageBySprint_InvalidCursor() {
+        when(sprintRepository.existsById(5L)).thenReturn(true);
+        assertThrows(IllegalArgumentException.class,
+            () -> taskService.getTaskPageBySprint(5L, new TaskFilter(), "not-a-cursor", 10));
+        verify(taskRepository, never()).findPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void testGetTaskPageBySprint_UnknownSprint() {
+        when(sprintRepository.existsById(5L)).thenReturn(false);
+        assertThrows(EntityNotFoundException.class,
+            () -> taskService.getTaskPageBySprint(5L, new TaskFilter(), null, 10));
+        verify(taskRepository, never()).findPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void testBulkUpdate_RejectsRequestsWithoutTheOperationValue() {
+        BulkTaskUpdateDTO request = new BulkTaskUpdateDTO();
+        request.setOperation(BulkTaskUpdateDTO.Operation.ASSIGNEE);
+        request.setTaskIds(List.of(1L));
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.bulkUpdate(request));
+        verify(taskRepository, never()).findStatesForUpdate(any());
+    }
+
+    @Test
+    void testBulkUpdate_RejectsOversizedRequests() {
+        BulkTaskUpdateDTO request = new BulkTaskUpdateDTO();
+        request.setOperation(BulkTaskUpdateDTO.Operation.PRIORITY);
+        request.setPriority(Task.Priority.LOW);
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= TaskService.MAX_BULK_SIZE + 1; id++) {
+            ids.add(id);
+        }
+        request.setTaskIds(ids);
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.bulkUpdate(request));
+        verify(taskRepository, never()).findStatesForUpdate(any());
+    }
+
+    @Test
+    void testBulkUpdate_UnknownAssigneeFailsWholeRequest() {
+        BulkTaskUpdateDTO request = new BulkTaskUpdateDTO();
+        request.setOperation(BulkTaskUpdateDTO.Operation.ASSIGNEE);
+        request.setAssigneeId(9L);
+        request.setTaskIds(List.of(1L));
+        when(userRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> taskService.bulkUpdate(request));
+        verify(taskRepository, never()).updateAssignee(any(), any(), any());
+    }
+
+    private static TaskListItem listItem(Long id, LocalDateTime createdAt) {
+        return new TaskListItem(id, "T-" + id, "Task " + id, null, Task.Type.TASK, Task.Priority.MEDIUM,
+                Task.Status.TODO, null, null, null, 1L, "Project", 5L, null,
+                null, null, null, null, null, null, null, null, createdAt, createdAt);
     }
 }
@@ -5,6 +5,7 @@ package com.jiraclone.backend.service;
 import com.jiraclone.backend.dto.UserDTO;
 import com.jiraclone.backend.model.User;
 import com.jiraclone.backend.repository.UserRepository;
+import com.jiraclone.backend.security.PrincipalCache;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -96,6 +100,7 @@ void testUpdateUser_UserExists_UpdateNameAndPassword() {
     assertEquals("New Name", result.getName());
     
     verify(userRepository).save(existingUser);
+    verify(principalCache).evict(existingUser.getEmail());
 }
 
 @Test
@@ -135,11 +140,28 @@ void testGetAllUsers_ReturnsList() {
 @Test
 void testDeleteUser_UserExists() {
     Long userId = 1L;
+    User user = new User();
+    user.setId(userId);
+
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+    userService.deleteUser(userId);
+
+    verify(userRepository).deleteById(userId);
+}
+
+@Test
+void testDeleteUser_EvictsCachedPrincipal() {
+    Long userId = 1L;
+    User user = new User();
+    user.setId(userId);
+    user.setEmail("cached@example.com");
 
-    when(userRepository.existsById(userId)).thenReturn(true);
+    when(userRepository.findById(userId)).thenReturn(Optional.of(user));
 
     userService.deleteUser(userId);
 
+    verify(principalCache).evict("cached@example.com");
     verify(userRepository).deleteById(userId);
 }
 
@@ -147,9 +169,10 @@ void testDeleteUser_UserExists() {
 void testDeleteUser_UserNotFound() {
     Long userId = 999L;
 
-    when(userRepository.existsById(userId)).thenReturn(false);
+    when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
     assertThrows(EntityNotFoundException.class, () -> userService.deleteUser(userId));
+    verify(userRepository, never()).deleteById(any());
 }
 
 
@@ -1,11 +1,14 @@
 package com.jiraclone.backend.service;
 
+import com.jiraclone.backend.dto.Expansion;
 import com.jiraclone.backend.dto.UserStoryDTO;
 import com.jiraclone.backend.model.Epic;
 import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.Task;
 import com.jiraclone.backend.model.UserStory;
 import com.jiraclone.backend.repository.EpicRepository;
 import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.TaskRepository;
 import com.jiraclone.backend.repository.UserStoryRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +36,9 @@ class UserStoryServiceTest {
     @Mock
     private EpicRepository epicRepository;
 
+    @Mock
+    private TaskRepository taskRepository;
+
     @InjectMocks
     private UserStoryService userStoryService;
 
@@ -83,6 +89,24 @@ void testGetUserStoryById_Success() {
     UserStoryDTO result = userStoryService.getUserStoryById(1L);
 
     assertEquals("Test", result.getTitle());
+    assertNull(result.getTasks());
+    verifyNoInteractions(taskRepository);
+}
+@Test
+void testGetUserStoryById_ExpandTasks() {
+    UserStory story = new UserStory();
+    story.setId(1L);
+    Task task = new Task();
+    task.setId(5L);
+    task.setUserStory(story);
+
+    when(userStoryRepository.findById(1L)).thenReturn(Optional.of(story));
+    when(taskRepository.findByUserStoryIdsWithDetails(List.of(1L))).thenReturn(List.of(task));
+
+    UserStoryDTO result = userStoryService.getUserStoryById(1L, Expansion.parse("tasks"));
+
+    assertEquals(1, result.getTasks().size());
+    assertEquals(5L, result.getTasks().iterator().next().getId());
 }
 @Test
 void testGetUserStoryById_NotFound() {
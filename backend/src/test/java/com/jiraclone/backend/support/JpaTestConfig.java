@@ -0,0 +1,30 @@
+package com.jiraclone.backend.support;
+
+import com.jiraclone.backend.config.MembershipIndexConfig;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Shared setup for the @DataJpaTest classes that run real services. The JPA slice does not
+ * configure metrics, so the metered services get a simple meter registry here, along with the
+ * membership index's load executor and the {@link TestFixtures} that persist test data.
+ */
+@TestConfiguration
+@Import(MembershipIndexConfig.class)
+public class JpaTestConfig {
+
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    TestFixtures testFixtures(UserRepository userRepository, ProjectRepository projectRepository) {
+        return new TestFixtures(userRepository, projectRepository);
+    }
+}
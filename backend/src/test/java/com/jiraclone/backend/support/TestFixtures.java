@@ -0,0 +1,39 @@
+package com.jiraclone.backend.support;
+
+import com.jiraclone.backend.model.Project;
+import com.jiraclone.backend.model.User;
+import com.jiraclone.backend.repository.ProjectRepository;
+import com.jiraclone.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Persists the users and projects the JPA tests build their data on.
+ */
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+
+    public User createUser(String email) {
+        return createUser(email, email);
+    }
+
+    public User createUser(String email, String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        user.setPassword("secret");
+        return userRepository.save(user);
+    }
+
+    public Project createProject(String name, String key, User... members) {
+        Project project = new Project();
+        project.setName(name);
+        project.setKey(key);
+        project.getMembers().addAll(List.of(members));
+        return projectRepository.save(project);
+    }
+}
@@ -137,12 +137,62 @@ export const reportAPI = {
   getById: (reportId) => 
     api.get(`/reports/${reportId}`),  // Use api instead of axios
   
-  generate: (projectId, prompt, type = 'CUSTOM') => 
-    api.post(`/reports/generate`, {  // Use api instead of axios
+  // Generation runs as a background job: submit it, then long-poll until it finishes.
+  // Resolves with the finished report in `data`, like the other calls.
+  generate: async (projectId, prompt, type = 'CUSTOM') => {
+    const { data: submitted } = await api.post(`/reports/generate`, {
       projectId,
       prompt,
       type
-    }),
+    });
+    let job = submitted;
+    while (job.status === 'QUEUED' || job.status === 'RUNNING') {
+      ({ data: job } = await reportAPI.getJob(job.jobId, 20));
+    }
+    if (job.status !== 'SUCCEEDED') {
+      throw new Error(job.error || 'Report generation failed');
+    }
+    return { data: job.report };
+  },
+
+  // Streams the report as it is written: onChunk receives each piece of text, and the
+  // promise resolves with the stored report in `data` once the stream ends.
+  generateStream: async (projectId, prompt, type = 'CUSTOM', onChunk = () => {}) => {
+    const params = new URLSearchParams({ projectId, prompt: prompt || '', type });
+    const token = localStorage.getItem('token');
+    const response = await fetch(`${API_BASE_URL}/reports/generate/stream?${params}`, {
+      headers: {
+        Accept: 'text/event-stream',
+        ...(token ? { Authorization: `Bearer ${token}` } : {})
+      }
+    });
+    if (!response.ok) {
+      throw new Error(`Report generation failed (${response.status})`);
+    }
+    const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+    let buffer = '';
+    let report = null;
+    for (;;) {
+      const { value, done } = await reader.read();
+      if (done) break;
+      buffer += value;
+      const events = buffer.split('\n\n');
+      buffer = events.pop();
+      for (const raw of events) {
+        const name = raw.match(/^event:(.*)$/m)?.[1].trim();
+        const data = raw.split('\n').filter((l) => l.startsWith('data:')).map((l) => l.slice(5)).join('\n');
+        if (name === 'chunk') onChunk(JSON.parse(data).content);
+        if (name === 'report') report = JSON.parse(data);
+      }
+    }
+    if (!report) {
+      throw new Error('Report stream ended before the report was stored');
+    }
+    return { data: report };
+  },
+
+  getJob: (jobId, waitSeconds = 0) =>
+    api.get(`/reports/jobs/${jobId}`, { params: { waitSeconds } }),
   
   delete: (reportId) => 
     api.delete(`/reports/${reportId}`)  // Use api instead of axios
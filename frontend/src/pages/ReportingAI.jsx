@@ -413,14 +413,34 @@ const handleSendMessage = async () => {
           type: reportType
       });
       
-      // Call API to generate report
-      const response = await reportAPI.generate(selectedProject, input, reportType);
+      // Stream the report into a message as it is written; if the stream cannot be opened,
+      // fall back to the background job and show the report once it has finished
+      const streamId = Date.now() + 1;
+      let streamed = '';
+      let response;
+      try {
+          response = await reportAPI.generateStream(selectedProject, input, reportType, (chunk) => {
+              streamed += chunk;
+              const text = streamed;
+              setMessages(prev => prev.some(m => m.id === streamId)
+                  ? prev.map(m => (m.id === streamId ? { ...m, text } : m))
+                  : [...prev, { id: streamId, text, isUser: false, streaming: true }]);
+          });
+      } catch (streamError) {
+          if (streamed) {
+              // Part of the report was shown; do not start a second generation
+              setMessages(prev => prev.filter(m => m.id !== streamId));
+              throw streamError;
+          }
+          console.warn('Report stream unavailable, generating in the background:', streamError);
+          response = await reportAPI.generate(selectedProject, input, reportType);
+      }
       console.log('API response:', response);
       
       if (response.data && response.data.content) {
-          // Add the response to messages
-          setMessages(prev => [...prev, {
-              id: Date.now(),
+          // Replace the streamed text with the stored report
+          setMessages(prev => [...prev.filter(m => m.id !== streamId), {
+              id: streamId,
               text: response.data.content,
               isUser: false,
               reportData: response.data
@@ -526,7 +546,7 @@ const handleSendMessage = async () => {
                   )}
                 </MessageBubble>
               ))}
-              {loading && (
+              {loading && !messages.some(message => message.streaming) && (
                 <MessageBubble isUser={false}>
                   Generating report...
                 </MessageBubble>
@@ -570,7 +590,7 @@ const handleSendMessage = async () => {
                   <span>{formatDate(report.createdAt)}</span>
                 </ReportCardMeta>
                 <ReportPreview>
-                  {report.content.substring(0, 150)}...
+                  {report.preview?.substring(0, 150)}...
                 </ReportPreview>
                 <ReportCardActions>
                   <Button onClick={() => handleDeleteReport(report.id)}>Delete</Button>